@@ -645,3 +645,158 @@ CREATE INDEX idx_wards_district ON wards (district_id);
 CREATE INDEX idx_media_reference ON media (reference_id, reference_type);
 CREATE INDEX idx_ratings_reference ON ratings (reference_id, reference_type);
 CREATE INDEX idx_community_post_comment_parent ON community_post_comment (parent_id);
+
+-- Keyset pagination: ordered (created_at DESC, id DESC) scans for cursor-based list endpoints
+CREATE INDEX idx_locations_active_created ON locations (is_active, created_at DESC, id DESC);
+CREATE INDEX idx_accommodations_active_created ON accommodations (is_active, created_at DESC, id DESC);
+CREATE INDEX idx_ratings_reference_created ON ratings (reference_id, reference_type, created_at DESC, id DESC);
+CREATE INDEX idx_media_reference_id ON media (reference_id, reference_type, id DESC);
+CREATE INDEX idx_article_status_created ON article (status, created_at DESC, id DESC);
+CREATE INDEX idx_article_comment_article_created ON article_comment (article_id, status, created_at DESC, id DESC);
+
+-- Full-text search: accent-insensitive tsvector columns with GIN indexes, plus trigram indexes on names for fuzzy matching
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() is only STABLE; pinning the dictionary makes it usable in generated columns and indexes
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- Same normalization as SearchTextNormalizer on the application side
+CREATE OR REPLACE FUNCTION f_search_text(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$ SELECT lower(f_unaccent(coalesce($1, ''))) $$;
+
+ALTER TABLE locations ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', f_search_text(name)), 'A') ||
+    setweight(to_tsvector('simple', f_search_text(city) || ' ' || f_search_text(address)), 'B') ||
+    setweight(to_tsvector('simple', f_search_text(description)), 'C')) STORED;
+ALTER TABLE accommodations ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', f_search_text(name)), 'A') ||
+    setweight(to_tsvector('simple', f_search_text(city) || ' ' || f_search_text(address)), 'B') ||
+    setweight(to_tsvector('simple', f_search_text(description)), 'C')) STORED;
+ALTER TABLE food ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', f_search_text(name)), 'A') ||
+    setweight(to_tsvector('simple', f_search_text(description)), 'C')) STORED;
+ALTER TABLE article ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', f_search_text(title)), 'A') ||
+    setweight(to_tsvector('simple', f_search_text(description)), 'B') ||
+    setweight(to_tsvector('simple', f_search_text(content)), 'C')) STORED;
+
+CREATE INDEX idx_locations_search ON locations USING gin (search_vector);
+CREATE INDEX idx_accommodations_search ON accommodations USING gin (search_vector);
+CREATE INDEX idx_food_search ON food USING gin (search_vector);
+CREATE INDEX idx_article_search ON article USING gin (search_vector);
+CREATE INDEX idx_locations_name_trgm ON locations USING gin (f_search_text(name) gin_trgm_ops);
+CREATE INDEX idx_accommodations_name_trgm ON accommodations USING gin (f_search_text(name) gin_trgm_ops);
+CREATE INDEX idx_food_name_trgm ON food USING gin (f_search_text(name) gin_trgm_ops);
+CREATE INDEX idx_article_title_trgm ON article USING gin (f_search_text(title) gin_trgm_ops);
+
+-- Materialized rating aggregates per rated entity, maintained with each rating write
+CREATE TABLE "rating_summary"
+(
+    "id"             SERIAL PRIMARY KEY,
+    "reference_type" varchar(50)  NOT NULL,
+    "reference_id"   int          NOT NULL,
+    "rating_count"   bigint       NOT NULL DEFAULT 0,
+    "rating_sum"     float        NOT NULL DEFAULT 0,
+    "average_rating" float,
+    "min_rating"     float,
+    "max_rating"     float,
+    "star_1"         bigint       NOT NULL DEFAULT 0,
+    "star_2"         bigint       NOT NULL DEFAULT 0,
+    "star_3"         bigint       NOT NULL DEFAULT 0,
+    "star_4"         bigint       NOT NULL DEFAULT 0,
+    "star_5"         bigint       NOT NULL DEFAULT 0,
+    "updated_at"     timestamp,
+    UNIQUE ("reference_type", "reference_id")
+);
+
+CREATE INDEX idx_rating_summary_top_rated ON rating_summary (reference_type, average_rating DESC, rating_count DESC);
+CREATE INDEX idx_rating_summary_most_reviewed ON rating_summary (reference_type, rating_count DESC, average_rating DESC);
+
+-- Units offered per room per night; holds and bookings lock these rows in date order before changing counts
+CREATE TABLE "room_inventory"
+(
+    "id"         SERIAL PRIMARY KEY,
+    "room_id"    int       NOT NULL REFERENCES "accommodation_rooms" ("id") ON DELETE CASCADE,
+    "stay_date"  date      NOT NULL,
+    "allotment"  int       NOT NULL DEFAULT 0,
+    "booked"     int       NOT NULL DEFAULT 0,
+    "held"       int       NOT NULL DEFAULT 0,
+    "updated_at" timestamp,
+    UNIQUE ("room_id", "stay_date"),
+    CHECK ("booked" >= 0 AND "held" >= 0 AND "booked" + "held" <= "allotment")
+);
+
+CREATE INDEX idx_room_inventory_stay_date ON room_inventory (stay_date, room_id);
+
+-- Units reserved for a stay until committed, released or expired
+CREATE TABLE "room_hold"
+(
+    "id"         SERIAL PRIMARY KEY,
+    "room_id"    int         NOT NULL REFERENCES "accommodation_rooms" ("id") ON DELETE CASCADE,
+    "user_id"    int         NOT NULL REFERENCES "users" ("id"),
+    "check_in"   date        NOT NULL,
+    "check_out"  date        NOT NULL,
+    "quantity"   int         NOT NULL,
+    "status"     varchar(20) NOT NULL,
+    "expires_at" timestamp   NOT NULL,
+    "created_at" timestamp   NOT NULL,
+    "updated_at" timestamp
+);
+
+CREATE INDEX idx_room_hold_user ON room_hold (user_id, created_at DESC);
+CREATE INDEX idx_room_hold_expiring ON room_hold (expires_at) WHERE status = 'held';
+
+-- Popularity scoring: view counts for catalog items, a score for articles, and decayed-view state carried between runs
+ALTER TABLE locations ADD COLUMN view_count int DEFAULT 0;
+ALTER TABLE accommodations ADD COLUMN view_count int DEFAULT 0;
+ALTER TABLE food ADD COLUMN view_count int DEFAULT 0;
+ALTER TABLE article ADD COLUMN popularity_score float DEFAULT 0;
+
+CREATE TABLE "popularity_state"
+(
+    "id"             SERIAL PRIMARY KEY,
+    "reference_type" varchar(50) NOT NULL,
+    "reference_id"   int         NOT NULL,
+    "views_seen"     bigint      NOT NULL DEFAULT 0,
+    "decayed_views"  float       NOT NULL DEFAULT 0,
+    "decayed_at"     timestamp   NOT NULL,
+    UNIQUE ("reference_type", "reference_id")
+);
+
+CREATE INDEX idx_article_status_popularity ON article (status, popularity_score DESC NULLS LAST, view_count DESC);
+CREATE INDEX idx_article_reaction_article ON article_reaction (article_id) WHERE status = true;
+
+-- Bulk imports: one row per uploaded JSONL file with its resumable progress, plus the first rejected lines of each
+CREATE TABLE "import_job"
+(
+    "id"              SERIAL PRIMARY KEY,
+    "file_name"       varchar(255) NOT NULL,
+    "file_path"       varchar(500) NOT NULL,
+    "default_type"    varchar(50),
+    "status"          varchar(20)  NOT NULL,
+    "total_lines"     bigint       NOT NULL,
+    "lines_committed" bigint       NOT NULL DEFAULT 0,
+    "inserted"        bigint       NOT NULL DEFAULT 0,
+    "duplicates"      bigint       NOT NULL DEFAULT 0,
+    "rejected"        bigint       NOT NULL DEFAULT 0,
+    "last_error"      text,
+    "created_by"      int          NOT NULL REFERENCES "users" ("id"),
+    "created_at"      timestamp    NOT NULL,
+    "updated_at"      timestamp,
+    "finished_at"     timestamp
+);
+
+CREATE TABLE "import_rejection"
+(
+    "id"          SERIAL PRIMARY KEY,
+    "job_id"      int          NOT NULL REFERENCES "import_job" ("id") ON DELETE CASCADE,
+    "line_number" bigint       NOT NULL,
+    "reason"      varchar(500) NOT NULL
+);
+
+CREATE INDEX idx_import_job_created ON import_job (created_at DESC);
+CREATE INDEX idx_import_rejection_job ON import_rejection (job_id, line_number);
@@ -0,0 +1,120 @@
+package com.williamtravel.app.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.williamtravel.app.config.JpaFetchConfig;
+import com.williamtravel.app.config.JwtProperties;
+import com.williamtravel.app.config.SerializationConfig;
+import com.williamtravel.app.entity.Role;
+import com.williamtravel.app.entity.User;
+import com.williamtravel.app.security.JwtTokenUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+
+/**
+ * Builds application components outside Spring for the benchmarks, with the same settings the
+ * application uses. Fixed inputs keep runs comparable.
+ */
+final class BenchmarkSupport {
+
+    /** 512-bit HS512 key, base64 encoded as in jwt.secret */
+    static final String JWT_SECRET =
+            "YWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYQ==";
+
+    /** Fixed timestamp so serialized payloads are identical between runs */
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 9, 30);
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * A JWT utility initialized as in the application, with a token cache and a throwaway meter registry
+     */
+    static JwtTokenUtil jwtTokenUtil() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(JWT_SECRET);
+        properties.setStateless(true);
+        JwtTokenUtil util = new JwtTokenUtil();
+        inject(util, "jwtProperties", properties);
+        inject(util, "meterRegistry", new SimpleMeterRegistry());
+        invoke(util, "init");
+        return util;
+    }
+
+    /**
+     * An object mapper with the modules and features Spring Boot configures for the application
+     */
+    static ObjectMapper objectMapper() {
+        return objectMapper(new JsonFactory(), true);
+    }
+
+    /**
+     * The application's object mapper on another factory (JSON or Smile), with or without Blackbird accessors
+     */
+    static ObjectMapper objectMapper(JsonFactory factory, boolean blackbird) {
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new JpaFetchConfig().hibernate6Module());
+        if (blackbird) {
+            mapper.registerModule(new SerializationConfig().blackbirdModule());
+        }
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+
+    /**
+     * An active administrator with a role, as loaded for authentication
+     */
+    static User adminUser() {
+        Role role = new Role();
+        role.setId(2);
+        role.setName("ADMIN");
+        User user = new User();
+        user.setId(1);
+        user.setEmail("admin@williamtravel.example");
+        user.setFullName("Benchmark Admin");
+        user.setHashedPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z0F3NP5nDfEH2I9TWa9ZXhZu");
+        user.setIsActive(true);
+        user.setIsSuperuser(false);
+        user.setRole(role);
+        user.setCreatedAt(CREATED_AT);
+        user.setUpdatedAt(CREATED_AT);
+        return user;
+    }
+
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = findField(target.getClass(), fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + fieldName + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static void invoke(Object target, String methodName) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot call " + methodName + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static Field findField(Class<?> type, String fieldName) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException ignored) {
+                // look in the superclass
+            }
+        }
+        throw new NoSuchFieldException(fieldName);
+    }
+}
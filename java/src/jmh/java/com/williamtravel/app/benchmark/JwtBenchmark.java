@@ -0,0 +1,69 @@
+package com.williamtravel.app.benchmark;
+
+import com.williamtravel.app.security.AuthenticatedUser;
+import com.williamtravel.app.security.CustomUserDetailsService;
+import com.williamtravel.app.security.JwtTokenUtil;
+import com.williamtravel.app.security.ParsedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing and checking JWTs. parseTokenCached is what an authenticated request pays once the
+ * token has been seen; verifySignature is the cost of a cache miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dlogback.configurationFile=logback-jmh.xml"})
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtTokenUtil jwtTokenUtil;
+    private JwtParser jwtParser;
+    private AuthenticatedUser user;
+    private String token;
+    private ParsedToken parsedToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = BenchmarkSupport.jwtTokenUtil();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(BenchmarkSupport.JWT_SECRET)))
+                .build();
+        user = new CustomUserDetailsService().buildUserDetails(BenchmarkSupport.adminUser());
+        token = jwtTokenUtil.generateToken(user);
+        parsedToken = jwtTokenUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public ParsedToken parseTokenCached() {
+        return jwtTokenUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims verifySignature() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtTokenUtil.validateToken(parsedToken, user);
+    }
+
+    @Benchmark
+    public AuthenticatedUser userDetailsFromClaims() {
+        return jwtTokenUtil.getUserDetailsFromClaims(parsedToken);
+    }
+}
@@ -0,0 +1,52 @@
+package com.williamtravel.app.benchmark;
+
+import com.williamtravel.app.config.LoggingAspect;
+import com.williamtravel.app.config.LoggingSwitches;
+import com.williamtravel.app.controller.AspectBenchmarkTarget;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead LoggingAspect adds to a controller call, with per-call logging switched off and on.
+ * With logging on, messages are built but written to a discarding appender.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dlogback.configurationFile=logback-jmh.xml"})
+@State(Scope.Benchmark)
+public class LoggingAspectBenchmark {
+
+    @Param({"false", "true"})
+    private boolean callLogging;
+
+    private AspectBenchmarkTarget target;
+    private AspectBenchmarkTarget advised;
+    private Integer id;
+    private String name;
+
+    @Setup
+    public void setUp() {
+        LoggingAspect aspect = new LoggingAspect();
+        BenchmarkSupport.inject(aspect, "loggingSwitches", new LoggingSwitches(callLogging, 1.0, 1000));
+        target = new AspectBenchmarkTarget();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        advised = factory.getProxy();
+        id = 42;
+        name = "Ha Noi";
+    }
+
+    @Benchmark
+    public Integer direct() {
+        return target.echo(id, name);
+    }
+
+    @Benchmark
+    public Integer advised() {
+        return advised.echo(id, name);
+    }
+}
@@ -0,0 +1,75 @@
+package com.williamtravel.app.benchmark;
+
+import com.williamtravel.app.security.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public-path check run by JwtAuthenticationFilter on every request, against the same patterns
+ * precompiled with PathPatternParser as a baseline for a possible replacement
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dlogback.configurationFile=logback-jmh.xml"})
+@State(Scope.Benchmark)
+public class PathMatchingBenchmark {
+
+    /** Same list as JwtAuthenticationFilter.PUBLIC_URLS */
+    private static final List<String> PUBLIC_URLS = List.of(
+            "/api/auth/**", "/api/public/**", "/auth/**", "/public/**", "/swagger-ui/**", "/v3/api-docs/**",
+            "/actuator/health/**", "/actuator/prometheus");
+
+    /** A public path that matches early, and a protected one that is checked against every pattern */
+    @Param({"/api/public/continents", "/api/locations/42/cards"})
+    private String path;
+
+    private ExposedFilter filter;
+    private HttpServletRequest request;
+    private List<PathPattern> pathPatterns;
+    private PathContainer pathContainer;
+
+    @Setup
+    public void setUp() {
+        filter = new ExposedFilter();
+        request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class},
+                (proxy, method, args) -> "getServletPath".equals(method.getName()) ? path : null);
+        PathPatternParser parser = new PathPatternParser();
+        pathPatterns = PUBLIC_URLS.stream().map(parser::parse).toList();
+        pathContainer = PathContainer.parsePath(path);
+    }
+
+    @Benchmark
+    public boolean shouldNotFilter() {
+        return filter.skips(request);
+    }
+
+    @Benchmark
+    public boolean precompiledPathPatterns() {
+        for (PathPattern pattern : pathPatterns) {
+            if (pattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Opens up the protected filter check; nothing else of the filter is used
+     */
+    static class ExposedFilter extends JwtAuthenticationFilter {
+
+        boolean skips(HttpServletRequest request) {
+            return shouldNotFilter(request);
+        }
+    }
+}
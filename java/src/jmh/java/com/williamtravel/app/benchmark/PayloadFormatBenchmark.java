@@ -0,0 +1,158 @@
+package com.williamtravel.app.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.williamtravel.app.dto.LocationSummary;
+import com.williamtravel.app.entity.Accommodation;
+import com.williamtravel.app.entity.AccommodationCategory;
+import com.williamtravel.app.entity.AccommodationRoom;
+import com.williamtravel.app.entity.Media;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding cost of the large list responses (location summaries, accommodation rooms with their
+ * accommodation, media) as JSON and as Smile, with and without Blackbird accessors, and of gzipping
+ * the result as the server compression does. Payload sizes per format are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dlogback.configurationFile=logback-jmh.xml"})
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    @Param({"100"})
+    private int pageSize;
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"true", "false"})
+    private boolean blackbird;
+
+    private ObjectMapper objectMapper;
+    private List<LocationSummary> locations;
+    private List<AccommodationRoom> rooms;
+    private List<Media> media;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = format.equals("smile")
+                ? SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build()
+                : new JsonFactory();
+        objectMapper = BenchmarkSupport.objectMapper(factory, blackbird);
+
+        AccommodationCategory category = new AccommodationCategory();
+        category.setId(1);
+        category.setName("Hotel");
+        category.setStatus(true);
+        Accommodation accommodation = new Accommodation();
+        accommodation.setId(1);
+        accommodation.setName("Lakeside Hotel");
+        accommodation.setDescription("Rooms near the lake with breakfast");
+        accommodation.setAddress("1 Hang Dao");
+        accommodation.setCity("Ha Noi");
+        accommodation.setThumbnailUrl("https://cdn.williamtravel.example/accommodations/1.jpg");
+        accommodation.setPriceMin(40.0);
+        accommodation.setPriceMax(120.0);
+        accommodation.setRating(4.5);
+        accommodation.setIsActive(true);
+        accommodation.setCategory(category);
+        accommodation.setCreatedAt(BenchmarkSupport.CREATED_AT);
+
+        locations = new ArrayList<>();
+        rooms = new ArrayList<>();
+        media = new ArrayList<>();
+        for (int i = 1; i <= pageSize; i++) {
+            locations.add(new LocationSummary(i, "Location " + i,
+                    "https://cdn.williamtravel.example/locations/" + i + ".jpg", "Ha Noi",
+                    21.0 + i * 0.001, 105.8 + i * 0.001, 10.0, 50.0, 100.0 - i, true,
+                    1, "Museum", 1, "Viet Nam", 1, "Ha Noi", BenchmarkSupport.CREATED_AT));
+
+            AccommodationRoom room = new AccommodationRoom();
+            room.setId(i);
+            room.setAccommodation(accommodation);
+            room.setName("Room " + i);
+            room.setDescription("Double room with a lake view");
+            room.setAdultCapacity(2);
+            room.setChildCapacity(1);
+            room.setRoomArea(28);
+            room.setBedCapacity("1 queen bed");
+            room.setPricePerNight(80.0 + i % 5 * 10);
+            room.setStatus(1);
+            room.setCreatedAt(BenchmarkSupport.CREATED_AT);
+            rooms.add(room);
+
+            Media item = new Media();
+            item.setId(i);
+            item.setReferenceId(i % 10 + 1);
+            item.setReferenceType("location");
+            item.setUrl("https://cdn.williamtravel.example/media/" + i + ".jpg");
+            item.setFilePath("media/" + i + ".jpg");
+            item.setOriginalFileName("IMG_" + (1000 + i) + ".jpg");
+            item.setTitle("Photo " + i);
+            item.setAltText("Photo of location " + (i % 10 + 1));
+            item.setSortOrder(i % 10);
+            item.setIsMain(i % 10 == 0);
+            item.setWidth(1920);
+            item.setHeight(1080);
+            item.setFileSize(350_000L + i);
+            item.setUploadedAt(BenchmarkSupport.CREATED_AT);
+            item.setStatus(1);
+            media.add(item);
+        }
+        System.out.printf("%n%s, %d items: locations %d / %d gzipped, rooms %d / %d gzipped, media %d / %d gzipped bytes%n",
+                format, pageSize,
+                locationSummaries().length, locationSummariesGzipped().length,
+                accommodationRooms().length, accommodationRoomsGzipped().length,
+                media().length, mediaGzipped().length);
+    }
+
+    @Benchmark
+    public byte[] locationSummaries() throws IOException {
+        return objectMapper.writeValueAsBytes(locations);
+    }
+
+    @Benchmark
+    public byte[] locationSummariesGzipped() throws IOException {
+        return gzip(locations);
+    }
+
+    @Benchmark
+    public byte[] accommodationRooms() throws IOException {
+        return objectMapper.writeValueAsBytes(rooms);
+    }
+
+    @Benchmark
+    public byte[] accommodationRoomsGzipped() throws IOException {
+        return gzip(rooms);
+    }
+
+    @Benchmark
+    public byte[] media() throws IOException {
+        return objectMapper.writeValueAsBytes(media);
+    }
+
+    @Benchmark
+    public byte[] mediaGzipped() throws IOException {
+        return gzip(media);
+    }
+
+    private byte[] gzip(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, value);
+        }
+        return bytes.toByteArray();
+    }
+}
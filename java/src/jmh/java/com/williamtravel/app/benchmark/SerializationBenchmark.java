@@ -0,0 +1,164 @@
+package com.williamtravel.app.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.williamtravel.app.dto.AccommodationSummary;
+import com.williamtravel.app.dto.LocationDetail;
+import com.williamtravel.app.dto.LocationSummary;
+import com.williamtravel.app.entity.Accommodation;
+import com.williamtravel.app.entity.AccommodationCategory;
+import com.williamtravel.app.entity.Country;
+import com.williamtravel.app.entity.District;
+import com.williamtravel.app.entity.Location;
+import com.williamtravel.app.entity.LocationCategory;
+import com.williamtravel.app.entity.Region;
+import com.williamtravel.app.entity.Ward;
+import com.williamtravel.app.util.EntityMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of one page of locations and accommodations, as entities with their
+ * list-view associations loaded and as the summary DTOs the list endpoints return
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dlogback.configurationFile=logback-jmh.xml"})
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Location> locations;
+    private List<LocationSummary> locationSummaries;
+    private Location location;
+    private List<Accommodation> accommodations;
+    private List<AccommodationSummary> accommodationSummaries;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkSupport.objectMapper();
+        Country country = new Country();
+        country.setId(1);
+        country.setCode("VN");
+        country.setName("Viet Nam");
+        country.setStatus(1);
+        country.setCreatedDate(LocalDate.of(2024, 1, 1));
+        Region region = new Region();
+        region.setId(1);
+        region.setCode("HN");
+        region.setName("Ha Noi");
+        region.setStatus(1);
+        region.setCountry(country);
+        region.setCreatedDate(LocalDate.of(2024, 1, 1));
+        District district = new District();
+        district.setId(1);
+        district.setName("Hoan Kiem");
+        district.setRegion(region);
+        Ward ward = new Ward();
+        ward.setId(1);
+        ward.setName("Hang Bac");
+        ward.setDistrict(district);
+        LocationCategory locationCategory = new LocationCategory();
+        locationCategory.setId(1);
+        locationCategory.setName("Museum");
+        locationCategory.setStatus(true);
+        AccommodationCategory accommodationCategory = new AccommodationCategory();
+        accommodationCategory.setId(1);
+        accommodationCategory.setName("Hotel");
+        accommodationCategory.setStatus(true);
+
+        locations = new ArrayList<>();
+        locationSummaries = new ArrayList<>();
+        accommodations = new ArrayList<>();
+        accommodationSummaries = new ArrayList<>();
+        for (int i = 1; i <= pageSize; i++) {
+            Location l = new Location();
+            l.setId(i);
+            l.setName("Location " + i);
+            l.setDescription("A place worth visiting in the old quarter, number " + i);
+            l.setLatitude(21.0 + i * 0.001);
+            l.setLongitude(105.8 + i * 0.001);
+            l.setAddress(i + " Hang Bac");
+            l.setCity("Ha Noi");
+            l.setThumbnailUrl("https://cdn.williamtravel.example/locations/" + i + ".jpg");
+            l.setPriceMin(10.0);
+            l.setPriceMax(50.0);
+            l.setPopularityScore(100.0 - i);
+            l.setIsActive(true);
+            l.setCategory(locationCategory);
+            l.setCountry(country);
+            l.setRegion(region);
+            l.setCreatedAt(BenchmarkSupport.CREATED_AT);
+            locations.add(l);
+            locationSummaries.add(new LocationSummary(l.getId(), l.getName(), l.getThumbnailUrl(), l.getCity(),
+                    l.getLatitude(), l.getLongitude(), l.getPriceMin(), l.getPriceMax(), l.getPopularityScore(),
+                    l.getIsActive(), 1, "Museum", 1, "Viet Nam", 1, "Ha Noi", l.getCreatedAt()));
+
+            Accommodation a = new Accommodation();
+            a.setId(i);
+            a.setName("Hotel " + i);
+            a.setDescription("Rooms near the lake with breakfast, number " + i);
+            a.setLatitude(21.0 + i * 0.001);
+            a.setLongitude(105.8 + i * 0.001);
+            a.setAddress(i + " Hang Dao");
+            a.setCity("Ha Noi");
+            a.setThumbnailUrl("https://cdn.williamtravel.example/accommodations/" + i + ".jpg");
+            a.setPriceMin(40.0);
+            a.setPriceMax(120.0);
+            a.setRating(4.5);
+            a.setPopularityScore(100.0 - i);
+            a.setIsActive(true);
+            a.setCategory(accommodationCategory);
+            a.setCountry(country);
+            a.setRegion(region);
+            a.setCreatedAt(BenchmarkSupport.CREATED_AT);
+            accommodations.add(a);
+            accommodationSummaries.add(new AccommodationSummary(a.getId(), a.getName(), a.getThumbnailUrl(), a.getCity(),
+                    a.getLatitude(), a.getLongitude(), a.getPriceMin(), a.getPriceMax(), a.getRating(),
+                    a.getPopularityScore(), a.getIsActive(), 1, "Hotel", 1, "Viet Nam", 1, "Ha Noi", a.getCreatedAt()));
+        }
+        location = locations.get(0);
+        location.setDistrict(district);
+        location.setWard(ward);
+    }
+
+    @Benchmark
+    public byte[] locationEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(locations);
+    }
+
+    @Benchmark
+    public byte[] locationSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(locationSummaries);
+    }
+
+    @Benchmark
+    public byte[] locationDetailEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(location);
+    }
+
+    @Benchmark
+    public byte[] locationDetailDto() throws JsonProcessingException {
+        LocationDetail detail = EntityMapper.toLocationDetail(location);
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] accommodationEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(accommodations);
+    }
+
+    @Benchmark
+    public byte[] accommodationSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(accommodationSummaries);
+    }
+}
@@ -0,0 +1,49 @@
+package com.williamtravel.app.benchmark;
+
+import com.williamtravel.app.entity.User;
+import com.williamtravel.app.security.AuthenticatedUser;
+import com.williamtravel.app.security.CustomUserDetailsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building UserDetails: from a loaded user (login and non-stateless requests), as a copy of a
+ * cached entry (user details cache hits), and the authority list both of them build
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dlogback.configurationFile=logback-jmh.xml"})
+@State(Scope.Benchmark)
+public class UserDetailsBenchmark {
+
+    private CustomUserDetailsService userDetailsService;
+    private User user;
+    private AuthenticatedUser cached;
+
+    @Setup
+    public void setUp() {
+        userDetailsService = new CustomUserDetailsService();
+        user = BenchmarkSupport.adminUser();
+        cached = userDetailsService.buildUserDetails(user);
+    }
+
+    @Benchmark
+    public AuthenticatedUser buildFromUser() {
+        return userDetailsService.buildUserDetails(user);
+    }
+
+    @Benchmark
+    public AuthenticatedUser copyCached() {
+        return cached.copy();
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> buildAuthorities() {
+        return AuthenticatedUser.buildAuthorities("ADMIN", false);
+    }
+}
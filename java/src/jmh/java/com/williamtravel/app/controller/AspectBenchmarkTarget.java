@@ -0,0 +1,12 @@
+package com.williamtravel.app.controller;
+
+/**
+ * Stand-in for a controller in the benchmarks: it sits in the controller package, so
+ * LoggingAspect's controller pointcut applies to it, but does no work of its own
+ */
+public class AspectBenchmarkTarget {
+
+    public Integer echo(Integer id, String name) {
+        return id;
+    }
+}
@@ -0,0 +1,115 @@
+package com.williamtravel.app.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and errors per route. Each worker records into its own report and the reports are merged
+ * at the end, so recording takes no locks.
+ */
+final class LatencyReport {
+
+    static final String ALL_ROUTES = "ALL";
+
+    private static final String COLUMNS = "route\trequests\terrors\trps\tp50_ms\tp95_ms\tp99_ms";
+
+    /** Routes with fewer requests than this are too noisy to fail a comparison */
+    private static final long MIN_COMPARED_REQUESTS = 100;
+
+    private final Map<String, Histogram> latencies = new TreeMap<>();
+    private final Map<String, Long> errors = new TreeMap<>();
+
+    /**
+     * Record one request; latency is in microseconds
+     */
+    void record(String route, long micros, boolean error) {
+        latencies.computeIfAbsent(route, r -> new Histogram(3)).recordValue(micros);
+        if (error) {
+            errors.merge(route, 1L, Long::sum);
+        }
+    }
+
+    void merge(LatencyReport other) {
+        other.latencies.forEach((route, histogram) -> latencies.computeIfAbsent(route, r -> new Histogram(3)).add(histogram));
+        other.errors.forEach((route, count) -> errors.merge(route, count, Long::sum));
+    }
+
+    /**
+     * Tab-separated rows sorted by route, with a final row over all routes. There are no timestamps,
+     * so reports of two commits can be compared with diff.
+     */
+    List<String> rows(double seconds) {
+        List<String> rows = new ArrayList<>();
+        rows.add(COLUMNS);
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        for (Map.Entry<String, Histogram> entry : latencies.entrySet()) {
+            long routeErrors = errors.getOrDefault(entry.getKey(), 0L);
+            rows.add(row(entry.getKey(), entry.getValue(), routeErrors, seconds));
+            all.add(entry.getValue());
+            allErrors += routeErrors;
+        }
+        rows.add(row(ALL_ROUTES, all, allErrors, seconds));
+        return rows;
+    }
+
+    void write(Path file, String header, double seconds) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("# " + header);
+        lines.addAll(rows(seconds));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compare p95 latencies with a previous report, print the changes and return the routes that got
+     * slower by more than the allowed fraction
+     */
+    List<String> compare(Path baseline, double maxRegression) throws IOException {
+        Map<String, Double> baselineP95 = new HashMap<>();
+        for (String line : Files.readAllLines(baseline, StandardCharsets.UTF_8)) {
+            String[] columns = line.split("\t");
+            if (line.startsWith("#") || line.startsWith("route\t") || columns.length < 7) {
+                continue;
+            }
+            baselineP95.put(columns[0], Double.parseDouble(columns[5]));
+        }
+        List<String> regressions = new ArrayList<>();
+        System.out.println("p95 against " + baseline + ":");
+        for (Map.Entry<String, Histogram> entry : latencies.entrySet()) {
+            Double before = baselineP95.get(entry.getKey());
+            if (before == null || before <= 0) {
+                continue;
+            }
+            double after = millis(entry.getValue().getValueAtPercentile(95));
+            double change = (after - before) / before;
+            System.out.printf(Locale.ROOT, "  %-70s %9.2f -> %9.2f ms  %+6.1f%%%n", entry.getKey(), before, after, change * 100);
+            if (change > maxRegression && entry.getValue().getTotalCount() >= MIN_COMPARED_REQUESTS) {
+                regressions.add(entry.getKey());
+            }
+        }
+        return regressions;
+    }
+
+    private static String row(String route, Histogram histogram, long errors, double seconds) {
+        return String.format(Locale.ROOT, "%s\t%d\t%d\t%.1f\t%.2f\t%.2f\t%.2f", route, histogram.getTotalCount(), errors,
+                histogram.getTotalCount() / seconds, millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)), millis(histogram.getValueAtPercentile(99)));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
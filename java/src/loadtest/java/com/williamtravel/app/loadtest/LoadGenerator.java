@@ -0,0 +1,132 @@
+package com.williamtravel.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop traffic: each worker sends its next request as soon as the previous one completes, picking
+ * the scenario by weight from its own seeded random stream. Requests finished during the warmup are not recorded.
+ */
+final class LoadGenerator {
+
+    private final URI baseUri;
+    private final LoadTestOptions options;
+    private final SeedVolumes volumes;
+    private final List<Scenario> mix = Scenario.mix();
+    private final int totalWeight = mix.stream().mapToInt(Scenario::weight).sum();
+    private final Set<String> reportedFailures = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    LoadGenerator(URI baseUri, LoadTestOptions options, SeedVolumes volumes) {
+        this.baseUri = baseUri;
+        this.options = options;
+        this.volumes = volumes;
+    }
+
+    LatencyReport run() throws Exception {
+        List<Session> sessions = new ArrayList<>();
+        for (int worker = 0; worker < options.threads(); worker++) {
+            sessions.add(register(worker));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(options.threads());
+        try {
+            long recordFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+            long until = recordFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+            List<Future<LatencyReport>> workers = new ArrayList<>();
+            for (Session session : sessions) {
+                workers.add(pool.submit(() -> drive(session, recordFrom, until)));
+            }
+            LatencyReport report = new LatencyReport();
+            for (Future<LatencyReport> worker : workers) {
+                report.merge(worker.get());
+            }
+            return report;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private LatencyReport drive(Session session, long recordFrom, long until) {
+        LatencyReport report = new LatencyReport();
+        long now = System.nanoTime();
+        while (now < until) {
+            Scenario scenario = pick(session.random);
+            HttpRequest request = scenario.request().apply(session).build();
+            int status;
+            byte[] body = null;
+            long start = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                status = response.statusCode();
+                body = response.body();
+            } catch (IOException e) {
+                status = -1;
+                body = String.valueOf(e).getBytes(StandardCharsets.UTF_8);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            now = System.nanoTime();
+            boolean error = status < 200 || status >= 400;
+            if (start >= recordFrom) {
+                report.record(scenario.route(), TimeUnit.NANOSECONDS.toMicros(now - start), error);
+            }
+            if (error && reportedFailures.add(scenario.route())) {
+                System.err.printf("First failure of %s: %s -> %d %s%n", scenario.route(), request.uri(), status,
+                        new String(body, 0, Math.min(body.length, 300), StandardCharsets.UTF_8));
+            }
+        }
+        return report;
+    }
+
+    private Scenario pick(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Scenario scenario : mix) {
+            ticket -= scenario.weight();
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Scenario weights changed while picking");
+    }
+
+    /**
+     * Register a user for a worker; the response carries its token and id
+     */
+    private Session register(int worker) throws IOException, InterruptedException {
+        String email = "loadtest-" + worker + "-" + System.currentTimeMillis() + "@loadtest.example";
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + email
+                        + "\",\"password\":\"loadtest-secret\",\"full_name\":\"Load Test " + worker + "\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Registering " + email + " failed: " + response.statusCode() + " " + response.body());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return new Session(baseUri, body.path("access_token").asText(), body.path("user").path("id").asInt(), volumes,
+                options.seed() + worker);
+    }
+}
@@ -0,0 +1,65 @@
+package com.williamtravel.app.loadtest;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Prepares the load-test database after Hibernate has created the tables: applies the indexes,
+ * search columns and summary table of the schema script, then seeds the data set
+ */
+final class LoadTestDatabase {
+
+    /** Start of the schema script section that is not derived from the entities */
+    static final String PERFORMANCE_SECTION = "-- Indexes for better performance";
+
+    private final DriverManagerDataSource dataSource;
+
+    LoadTestDatabase(String url, String user, String password) {
+        this.dataSource = new DriverManagerDataSource(url, user, password);
+    }
+
+    /**
+     * Apply the performance section of the schema script. Statements for tables the entities no longer
+     * have are reported and skipped, as when the script is run against a live database.
+     */
+    void applySchemaExtras(Path schemaScript) throws IOException, SQLException {
+        String script = Files.readString(schemaScript, StandardCharsets.UTF_8);
+        int start = script.indexOf(PERFORMANCE_SECTION);
+        if (start < 0) {
+            throw new IllegalStateException(schemaScript + " has no '" + PERFORMANCE_SECTION + "' section");
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, resource(script.substring(start)),
+                    true, true, ScriptUtils.DEFAULT_COMMENT_PREFIX, ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+                    ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+        }
+    }
+
+    /**
+     * Generate the data set with the row counts of the given volumes
+     */
+    void seed(SeedVolumes volumes) throws IOException, SQLException {
+        String script = new ClassPathResource("loadtest-seed.sql").getContentAsString(StandardCharsets.UTF_8);
+        for (Map.Entry<String, Integer> placeholder : volumes.placeholders().entrySet()) {
+            script = script.replace("${" + placeholder.getKey() + "}", placeholder.getValue().toString());
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, resource(script));
+        }
+    }
+
+    private static EncodedResource resource(String script) {
+        return new EncodedResource(new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.williamtravel.app.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line options of a load-test run, given as --name=value
+ */
+record LoadTestOptions(
+        String dbUrl,
+        String dbUser,
+        String dbPassword,
+        Path schemaScript,
+        double scale,
+        boolean skipSeed,
+        int threads,
+        int warmupSeconds,
+        int durationSeconds,
+        long seed,
+        Path report,
+        Path baseline,
+        double maxRegression) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Options are given as --name=value, got " + arg);
+            }
+            int equals = arg.indexOf('=');
+            values.put(equals < 0 ? arg.substring(2) : arg.substring(2, equals),
+                    equals < 0 ? "true" : arg.substring(equals + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                values.remove("db-url"),
+                values.getOrDefault("db-user", "postgres"),
+                values.getOrDefault("db-password", "postgres"),
+                Path.of(values.getOrDefault("schema-script", "../be/docs/db_design/db_v1.sql")),
+                Double.parseDouble(values.getOrDefault("scale", "1.0")),
+                Boolean.parseBoolean(values.getOrDefault("skip-seed", "false")),
+                Integer.parseInt(values.getOrDefault("threads", "16")),
+                Integer.parseInt(values.getOrDefault("warmup", "30")),
+                Integer.parseInt(values.getOrDefault("duration", "120")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("report", "target/loadtest/report.tsv")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                Double.parseDouble(values.getOrDefault("max-regression", "0.25")));
+        values.keySet().removeAll(List.of("db-user", "db-password", "schema-script", "scale", "skip-seed",
+                "threads", "warmup", "duration", "seed", "report", "baseline", "max-regression"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet());
+        }
+        if (options.scale <= 0 || options.threads <= 0 || options.durationSeconds <= 0 || options.warmupSeconds < 0) {
+            throw new IllegalArgumentException("scale, threads and duration must be positive and warmup not negative");
+        }
+        return options;
+    }
+
+    /**
+     * Header of the report, so runs with different settings are not compared by accident
+     */
+    String describe() {
+        return "scale=" + scale + " threads=" + threads + " warmup=" + warmupSeconds + "s duration="
+                + durationSeconds + "s seed=" + seed;
+    }
+}
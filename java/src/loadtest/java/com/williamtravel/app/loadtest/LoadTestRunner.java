@@ -0,0 +1,117 @@
+package com.williamtravel.app.loadtest;
+
+import com.williamtravel.app.WilliamTravelApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test of the application against PostgreSQL with a production-sized data set.
+ * <ol>
+ *   <li>Start the application once with ddl-auto=create to build the tables, then stop it</li>
+ *   <li>Apply the performance section of the schema script and seed the data set</li>
+ *   <li>Start the application as in production, building the rating summaries on startup</li>
+ *   <li>Drive the traffic mix, then write latency percentiles and throughput per route</li>
+ * </ol>
+ * Without --db-url an embedded PostgreSQL is started; with it, the tables of that database are recreated.
+ */
+public final class LoadTestRunner {
+
+    /** 512-bit HS512 key, base64 encoded as in jwt.secret */
+    private static final String JWT_SECRET =
+            "bG9hZHRlc3Rsb2FkdGVzdGxvYWR0ZXN0bG9hZHRlc3Rsb2FkdGVzdGxvYWR0ZXN0bG9hZHRlc3Rsb2FkdGVzdA==";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        SeedVolumes volumes = SeedVolumes.of(options.scale());
+        EmbeddedPostgres embedded = null;
+        String url = options.dbUrl();
+        String user = options.dbUser();
+        String password = options.dbPassword();
+        if (url == null) {
+            log("Starting embedded PostgreSQL");
+            embedded = EmbeddedPostgres.builder().start();
+            url = embedded.getJdbcUrl("postgres", "postgres");
+        }
+        int exitCode = 0;
+        try {
+            if (!options.skipSeed()) {
+                prepare(options, volumes, url, user, password);
+            }
+            log("Starting the application");
+            try (ConfigurableApplicationContext application = start(url, user, password, "none")) {
+                URI baseUri = URI.create("http://localhost:" + application.getEnvironment().getProperty("local.server.port"));
+                log("Driving " + options.threads() + " clients for " + options.warmupSeconds() + " s warmup and "
+                        + options.durationSeconds() + " s measurement");
+                LatencyReport report = new LoadGenerator(baseUri, options, volumes).run();
+                report.write(options.report(), options.describe(), options.durationSeconds());
+                report.rows(options.durationSeconds()).forEach(System.out::println);
+                log("Report written to " + options.report());
+                if (options.baseline() != null) {
+                    List<String> regressions = report.compare(options.baseline(), options.maxRegression());
+                    if (!regressions.isEmpty()) {
+                        log("p95 regressed by more than " + Math.round(options.maxRegression() * 100) + "% on " + regressions);
+                        exitCode = 1;
+                    }
+                }
+            }
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static void prepare(LoadTestOptions options, SeedVolumes volumes, String url, String user, String password)
+            throws Exception {
+        long start = System.currentTimeMillis();
+        log("Creating the schema");
+        // Dropping the tables of an empty database warns once per missing table
+        start(url, user, password, "create", "--spring.main.web-application-type=none",
+                "--logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=ERROR").close();
+        LoadTestDatabase database = new LoadTestDatabase(url, user, password);
+        database.applySchemaExtras(options.schemaScript());
+        log("Seeding " + volumes);
+        database.seed(volumes);
+        log("Database prepared in " + (System.currentTimeMillis() - start) / 1000 + " s");
+    }
+
+    private static ConfigurableApplicationContext start(String url, String user, String password, String ddlAuto,
+                                                         String... extraArgs) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.datasource.username", user);
+        properties.put("spring.datasource.password", password);
+        properties.put("spring.jpa.hibernate.ddl-auto", ddlAuto);
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("jwt.secret", JWT_SECRET);
+        properties.put("request-logging.call-logging", "false");
+        properties.put("logging.config", "classpath:logback-loadtest.xml");
+        // Only warnings, so application logging does not show up in the measurements
+        for (String logger : List.of("org.hibernate.SQL", "org.hibernate.orm.jdbc.bind",
+                "com.williamtravel.app", "org.springframework.web", "org.springframework.security")) {
+            properties.put("logging.level." + logger, "WARN");
+        }
+        List<String> args = new ArrayList<>();
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+        args.addAll(List.of(extraArgs));
+        return SpringApplication.run(WilliamTravelApplication.class, args.toArray(String[]::new));
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+}
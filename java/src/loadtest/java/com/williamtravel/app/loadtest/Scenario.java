@@ -0,0 +1,72 @@
+package com.williamtravel.app.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * One kind of request in the traffic mix, reported under its route template
+ */
+record Scenario(String route, int weight, Function<Session, HttpRequest.Builder> request) {
+
+    /**
+     * The mixed read/write traffic of the public pages: listings and details of locations and accommodations,
+     * their ratings and images, search, and new ratings. Weights are relative shares of requests.
+     */
+    static List<Scenario> mix() {
+        return List.of(
+                new Scenario("GET /api/locations/cards", 10,
+                        s -> s.get("/api/locations/cards?page=" + s.locationPage() + "&size=20")),
+                new Scenario("GET /api/locations/{id}", 14,
+                        s -> s.get("/api/locations/" + s.popularLocation())),
+                new Scenario("GET /api/locations/by-status/cursor", 4,
+                        s -> s.get("/api/locations/by-status/cursor?isActive=true&size=20")),
+                new Scenario("GET /api/locations/nearby", 5,
+                        s -> s.get(String.format(Locale.ROOT, "/api/locations/nearby?lat=%.4f&lng=%.4f&radiusKm=10&limit=20",
+                                s.latitude(), s.longitude()))),
+                new Scenario("GET /api/locations/search", 3,
+                        s -> s.get("/api/locations/search?isActive=true&searchText=" + s.searchTerm())),
+                new Scenario("GET /api/accommodations/cards", 8,
+                        s -> s.get("/api/accommodations/cards?page=" + s.accommodationPage() + "&size=20")),
+                new Scenario("GET /api/accommodations/{id}", 10,
+                        s -> s.get("/api/accommodations/" + s.popularAccommodation())),
+                new Scenario("GET /api/accommodations/{id}/with-rooms", 5,
+                        s -> s.get("/api/accommodations/" + s.popularAccommodation() + "/with-rooms")),
+                new Scenario("GET /api/accommodations/nearby", 4,
+                        s -> s.get(String.format(Locale.ROOT, "/api/accommodations/nearby?lat=%.4f&lng=%.4f&radiusKm=10&limit=20",
+                                s.latitude(), s.longitude()))),
+                new Scenario("GET /api/ratings/reference/{referenceId}/{referenceType}/cursor", 8, s -> {
+                    String type = s.referenceType();
+                    return s.get("/api/ratings/reference/" + s.popularReference(type) + "/" + type + "/cursor?size=10");
+                }),
+                new Scenario("GET /api/ratings/summary/reference/{referenceId}/{referenceType}", 4, s -> {
+                    String type = s.referenceType();
+                    return s.get("/api/ratings/summary/reference/" + s.popularReference(type) + "/" + type);
+                }),
+                new Scenario("POST /api/ratings/summary/batch", 4, s -> {
+                    String type = s.referenceType();
+                    return s.post("/api/ratings/summary/batch",
+                            "{\"ids\":" + s.idBatch(type, 20) + ",\"referenceType\":\"" + type + "\"}");
+                }),
+                new Scenario("POST /api/media/main/reference/batch", 4, s -> {
+                    String type = s.referenceType();
+                    return s.post("/api/media/main/reference/batch",
+                            "{\"ids\":" + s.idBatch(type, 20) + ",\"referenceType\":\"" + type + "\"}");
+                }),
+                new Scenario("GET /api/media/reference/{referenceId}/{referenceType}/cursor", 3, s -> {
+                    String type = s.referenceType();
+                    return s.get("/api/media/reference/" + s.popularReference(type) + "/" + type + "/cursor?size=12");
+                }),
+                new Scenario("GET /api/search", 5,
+                        s -> s.get("/api/search?q=" + s.searchTerm() + "&limit=10")),
+                new Scenario("POST /api/ratings", 5, s -> {
+                    String type = s.referenceType();
+                    return s.post("/api/ratings", "{\"referenceId\":" + s.popularReference(type)
+                            + ",\"referenceType\":\"" + type + "\",\"rating\":" + (1 + s.random.nextInt(5))
+                            + ",\"comment\":\"Load test review\",\"createdAt\":\"" + LocalDateTime.now()
+                            + "\",\"user\":{\"id\":" + s.userId + "}}");
+                }));
+    }
+}
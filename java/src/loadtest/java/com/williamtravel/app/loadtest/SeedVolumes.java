@@ -0,0 +1,42 @@
+package com.williamtravel.app.loadtest;
+
+import java.util.Map;
+
+/**
+ * Row counts seeded for a scale; scale 1 is the production-like data set
+ */
+record SeedVolumes(
+        int users,
+        int locations,
+        int accommodations,
+        int rooms,
+        int ratings,
+        int media) {
+
+    static SeedVolumes of(double scale) {
+        return new SeedVolumes(
+                scaled(20_000, scale),
+                scaled(50_000, scale),
+                scaled(20_000, scale),
+                scaled(100_000, scale),
+                scaled(1_000_000, scale),
+                scaled(500_000, scale));
+    }
+
+    /**
+     * Values for the ${name} placeholders of the seed script
+     */
+    Map<String, Integer> placeholders() {
+        return Map.of(
+                "users", users,
+                "locations", locations,
+                "accommodations", accommodations,
+                "rooms", rooms,
+                "ratings", ratings,
+                "media", media);
+    }
+
+    private static int scaled(int rows, double scale) {
+        return Math.max(1, (int) Math.round(rows * scale));
+    }
+}
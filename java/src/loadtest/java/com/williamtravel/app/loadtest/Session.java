@@ -0,0 +1,116 @@
+package com.williamtravel.app.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * One simulated client: a registered user with its own token and random stream
+ */
+final class Session {
+
+    private static final String[] SEARCH_TERMS = {
+            "Hồ", "Chùa", "Bảo tàng", "Phố cổ", "Vịnh", "Hà Nội", "Huế", "Đà Nẵng", "Hội An", "Đà Lạt", "Sa Pa",
+            "Khách sạn", "Homestay", "Resort", "Riverside", "Ocean", "ho", "chua", "da lat", "hoi an"
+    };
+
+    final SplittableRandom random;
+    final int userId;
+
+    private final URI baseUri;
+    private final String token;
+    private final SeedVolumes volumes;
+
+    Session(URI baseUri, String token, int userId, SeedVolumes volumes, long seed) {
+        this.baseUri = baseUri;
+        this.token = token;
+        this.userId = userId;
+        this.volumes = volumes;
+        this.random = new SplittableRandom(seed);
+    }
+
+    HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    HttpRequest.Builder post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    /**
+     * A location id drawn with the same skew as the seeded ratings, so popular items are read most
+     */
+    int popularLocation() {
+        return skewed(volumes.locations());
+    }
+
+    int popularAccommodation() {
+        return skewed(volumes.accommodations());
+    }
+
+    /**
+     * "location" or "accommodation" in the proportion of the seeded ratings, with a matching popular id
+     */
+    String referenceType() {
+        return random.nextInt(10) < 7 ? "location" : "accommodation";
+    }
+
+    int popularReference(String referenceType) {
+        return referenceType.equals("location") ? popularLocation() : popularAccommodation();
+    }
+
+    /**
+     * JSON array of distinct uniformly drawn ids, as a card grid asks for
+     */
+    String idBatch(String referenceType, int size) {
+        int rows = referenceType.equals("location") ? volumes.locations() : volumes.accommodations();
+        return IntStream.generate(() -> 1 + random.nextInt(rows)).distinct().limit(Math.min(size, rows))
+                .mapToObj(Integer::toString).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    /**
+     * A page number among the first pages of a listing with the given number of rows
+     */
+    int page(int rows, int pageSize) {
+        return random.nextInt(Math.max(1, Math.min(50, rows / pageSize)));
+    }
+
+    int locationPage() {
+        return page(volumes.locations(), 20);
+    }
+
+    int accommodationPage() {
+        return page(volumes.accommodations(), 20);
+    }
+
+    double latitude() {
+        return 8.5 + 14.9 * random.nextDouble();
+    }
+
+    double longitude() {
+        return 102.1 + 7.4 * random.nextDouble();
+    }
+
+    String searchTerm() {
+        return URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8);
+    }
+
+    private int skewed(int rows) {
+        double u = random.nextDouble();
+        return 1 + (int) (rows * u * u * u);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + token);
+    }
+}
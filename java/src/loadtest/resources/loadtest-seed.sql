@@ -0,0 +1,111 @@
+-- Load-test data, generated server side. ${name} placeholders are the row counts for the chosen scale.
+-- Values come from a multiplicative hash of the row number, so every run at the same scale gets the same data.
+-- h(g, k) is uniform in [0, 1): ((g + k * 1000003) * 2654435761 % 4294967296) / 4294967296.0
+
+INSERT INTO roles (name, description, is_default, created_at) VALUES
+    ('USER', 'Traveller', true, TIMESTAMP '2024-01-01 00:00:00'),
+    ('ADMIN', 'Administrator', false, TIMESTAMP '2024-01-01 00:00:00');
+
+INSERT INTO continents (name, code, status, created_date)
+SELECT (ARRAY['Asia', 'Europe', 'Africa', 'North America', 'South America', 'Oceania'])[g], 'CT' || g, 1, DATE '2024-01-01'
+FROM generate_series(1, 6) g;
+
+INSERT INTO countries (name, code, status, created_date, continent_id)
+SELECT 'Country ' || g, 'C' || g, 1, DATE '2024-01-01', 1 + (g - 1) % 6
+FROM generate_series(1, 60) g;
+
+INSERT INTO regions (name, code, status, created_date, country_id)
+SELECT 'Region ' || g, 'R' || g, 1, DATE '2024-01-01', 1 + (g - 1) / 10
+FROM generate_series(1, 600) g;
+
+INSERT INTO districts (name, code, status, created_date, region_id)
+SELECT 'District ' || g, 'D' || g, 1, DATE '2024-01-01', 1 + (g - 1) / 5
+FROM generate_series(1, 3000) g;
+
+INSERT INTO wards (name, code, status, created_date, district_id)
+SELECT 'Ward ' || g, 'W' || g, 1, DATE '2024-01-01', 1 + (g - 1) / 4
+FROM generate_series(1, 12000) g;
+
+INSERT INTO location_categories (name, status, created_at)
+SELECT (ARRAY['Lake', 'Pagoda', 'Temple', 'Museum', 'Market', 'Old Quarter', 'Bay', 'Mountain', 'Waterfall', 'Beach'])[g],
+       true, TIMESTAMP '2024-01-01 00:00:00'
+FROM generate_series(1, 10) g;
+
+INSERT INTO accommodations_categories (name, status, created_at)
+SELECT (ARRAY['Hotel', 'Homestay', 'Resort', 'Hostel', 'Villa'])[g], true, TIMESTAMP '2024-01-01 00:00:00'
+FROM generate_series(1, 5) g;
+
+INSERT INTO media_type (name, status, created_date) VALUES ('image', 1, DATE '2024-01-01'), ('video', 1, DATE '2024-01-01');
+
+INSERT INTO media_category (name, status, created_date) VALUES ('gallery', 1, DATE '2024-01-01'), ('cover', 1, DATE '2024-01-01');
+
+-- Owners and reviewers; the password hash is not usable, the runner registers its own accounts
+INSERT INTO users (email, full_name, hashed_password, is_active, is_superuser, role_id, created_at)
+SELECT 'traveller' || g || '@loadtest.example', 'Traveller ' || g,
+       '$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z0F3NP5nDfEH2I9TWa9ZXhZu', true, false, 1,
+       TIMESTAMP '2024-01-01 00:00:00' + g * INTERVAL '1 minute'
+FROM generate_series(1, ${users}) g;
+
+INSERT INTO locations (name, description, latitude, longitude, city, address, country_id, region_id, district_id, ward_id,
+                       category_id, is_active, popularity_score, thumbnail_url, created_at)
+SELECT (ARRAY['Hồ', 'Chùa', 'Đền', 'Bảo tàng', 'Chợ', 'Phố cổ', 'Vịnh', 'Núi', 'Thác', 'Bãi biển'])[1 + g % 10] || ' '
+           || (ARRAY['Hà Nội', 'Huế', 'Đà Nẵng', 'Hội An', 'Sài Gòn', 'Đà Lạt', 'Nha Trang', 'Sa Pa', 'Hạ Long', 'Cần Thơ',
+                     'Phú Quốc', 'Ninh Bình'])[1 + (g / 10) % 12] || ' ' || g,
+       'Điểm tham quan nổi tiếng với cảnh quan đẹp, ẩm thực địa phương và lịch sử lâu đời. ' || repeat('Mô tả chi tiết. ', 8),
+       8.5 + 14.9 * ((g + 1000003) * 2654435761 % 4294967296) / 4294967296.0,
+       102.1 + 7.4 * ((g + 2000006) * 2654435761 % 4294967296) / 4294967296.0,
+       (ARRAY['Hà Nội', 'Huế', 'Đà Nẵng', 'Hội An', 'Sài Gòn', 'Đà Lạt', 'Nha Trang', 'Sa Pa', 'Hạ Long', 'Cần Thơ',
+              'Phú Quốc', 'Ninh Bình'])[1 + (g / 10) % 12],
+       g || ' Đường Lê Lợi', 1 + (w - 1) / 200, 1 + (w - 1) / 20, 1 + (w - 1) / 4, w,
+       1 + g % 10, g % 20 <> 0, round((10 * ((g + 3000009) * 2654435761 % 4294967296) / 4294967296.0)::numeric, 2),
+       'https://cdn.loadtest.example/locations/' || g || '.jpg',
+       TIMESTAMP '2024-01-01 00:00:00' + g * INTERVAL '1 minute'
+FROM (SELECT g, 1 + ((g + 4000012) * 2654435761 % 4294967296) * 12000 / 4294967296 AS w
+      FROM generate_series(1, ${locations}) g) s;
+
+INSERT INTO accommodations (name, description, latitude, longitude, city, address, country_id, region_id, district_id, ward_id,
+                            category_id, user_id, is_active, price_min, price_max, popularity_score, checkin_time,
+                            checkout_time, thumbnail_url, created_at)
+SELECT (ARRAY['Khách sạn', 'Homestay', 'Resort', 'Nhà nghỉ', 'Biệt thự'])[1 + g % 5] || ' '
+           || (ARRAY['Sen', 'Mai', 'Lotus', 'Riverside', 'Ocean', 'Hill', 'Garden', 'Central'])[1 + (g / 5) % 8] || ' ' || g,
+       'Chỗ nghỉ tiện nghi gần trung tâm, có bữa sáng và hồ bơi. ' || repeat('Mô tả phòng. ', 8),
+       8.5 + 14.9 * ((g + 5000015) * 2654435761 % 4294967296) / 4294967296.0,
+       102.1 + 7.4 * ((g + 6000018) * 2654435761 % 4294967296) / 4294967296.0,
+       (ARRAY['Hà Nội', 'Huế', 'Đà Nẵng', 'Hội An', 'Sài Gòn', 'Đà Lạt', 'Nha Trang', 'Sa Pa', 'Hạ Long', 'Cần Thơ',
+              'Phú Quốc', 'Ninh Bình'])[1 + (g / 5) % 12],
+       g || ' Đường Trần Phú', 1 + (w - 1) / 200, 1 + (w - 1) / 20, 1 + (w - 1) / 4, w,
+       1 + g % 5, 1 + g % ${users}, g % 25 <> 0, 300000 + 100000 * (g % 20), 1500000 + 250000 * (g % 20),
+       round((10 * ((g + 7000021) * 2654435761 % 4294967296) / 4294967296.0)::numeric, 2), TIME '14:00', TIME '12:00',
+       'https://cdn.loadtest.example/accommodations/' || g || '.jpg',
+       TIMESTAMP '2024-01-01 00:00:00' + g * INTERVAL '1 minute'
+FROM (SELECT g, 1 + ((g + 8000024) * 2654435761 % 4294967296) * 12000 / 4294967296 AS w
+      FROM generate_series(1, ${accommodations}) g) s;
+
+INSERT INTO accommodation_rooms (accommodation_id, name, description, adult_capacity, child_capacity, price_per_night,
+                                 room_area, bed_capacity, status, created_at)
+SELECT 1 + (g - 1) % ${accommodations}, 'Phòng ' || (1 + (g - 1) / ${accommodations}), 'Phòng có ban công và điều hòa',
+       1 + g % 4, g % 3, 400000 + 50000 * (g % 30), 18 + g % 40, (ARRAY['1 giường đôi', '2 giường đơn', '1 giường king'])[1 + g % 3],
+       1, TIMESTAMP '2024-01-01 00:00:00'
+FROM generate_series(1, ${rooms}) g;
+
+-- Ratings cluster on popular items: the reference is drawn as n * u^3, so low ids get most of them
+INSERT INTO ratings (reference_type, reference_id, user_id, rating, comment, created_at)
+SELECT CASE WHEN g % 10 < 7 THEN 'location' ELSE 'accommodation' END,
+       1 + floor(CASE WHEN g % 10 < 7 THEN ${locations} ELSE ${accommodations} END
+                 * power(((g + 9000027) * 2654435761 % 4294967296) / 4294967296.0, 3))::int,
+       1 + (g * 7) % ${users},
+       least(5, 1 + floor(5.5 * ((g + 10000030) * 2654435761 % 4294967296) / 4294967296.0)),
+       CASE WHEN g % 3 = 0 THEN 'Rất đáng để ghé thăm, sẽ quay lại lần sau.' END,
+       TIMESTAMP '2024-01-01 00:00:00' + (g % 31536000) * INTERVAL '1 second'
+FROM generate_series(1, ${ratings}) g;
+
+-- Media cycle through every location and accommodation, the first one of each being the main image
+INSERT INTO media (type_id, category_id, reference_type, reference_id, url, alt_text, is_main, sort_order, status, created_date)
+SELECT 1, 1 + (s - 1) % 2,
+       CASE WHEN r < ${locations} THEN 'location' ELSE 'accommodation' END,
+       CASE WHEN r < ${locations} THEN r + 1 ELSE r - ${locations} + 1 END,
+       'https://cdn.loadtest.example/media/' || g || '.jpg', 'Ảnh ' || g, s = 1, s, 1, DATE '2024-01-01'
+FROM (SELECT g, (g - 1) % (${locations} + ${accommodations}) AS r, 1 + (g - 1) / (${locations} + ${accommodations}) AS s
+      FROM generate_series(1, ${media}) g) m;
+
+ANALYZE;
@@ -0,0 +1,73 @@
+package com.williamtravel.app.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one structured access log line per request when it completes. Runs outside the security
+ * chain so rejected requests are logged too. Successful requests are sampled; errors and slow
+ * requests are always written. The "access" logger goes to its own asynchronous appender.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
+
+    @Autowired
+    private LoggingSwitches loggingSwitches;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestLogContext context = isAsyncDispatch(request) ? RequestLogContext.of(request) : null;
+        if (context == null) {
+            context = RequestLogContext.start(request);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                write(request, response.getStatus(), context);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Streamed responses complete on an async dispatch; log them once, when they finish
+        return false;
+    }
+
+    private void write(HttpServletRequest request, int status, RequestLogContext context) {
+        if (!accessLog.isInfoEnabled()) {
+            return;
+        }
+        long elapsed = context.elapsedMillis();
+        boolean always = status >= 400 || elapsed >= loggingSwitches.getSlowRequestMillis();
+        if (!always && ThreadLocalRandom.current().nextDouble() >= loggingSwitches.getAccessLogSampleRate()) {
+            return;
+        }
+        accessLog.info("method={} route={} uri={} status={} durationMs={} user={} sql={} ip={}",
+                request.getMethod(),
+                context.getRoute() != null ? context.getRoute() : "-",
+                request.getRequestURI(),
+                status,
+                elapsed,
+                context.getUser() != null ? context.getUser() : "-",
+                context.getSqlStatements() >= 0 ? context.getSqlStatements() : "-",
+                request.getRemoteAddr());
+    }
+}
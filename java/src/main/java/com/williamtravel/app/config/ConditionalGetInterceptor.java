@@ -0,0 +1,126 @@
+package com.williamtravel.app.config;
+
+import com.williamtravel.app.service.ResourceVersionService;
+import com.williamtravel.app.service.ResourceVersionService.Resource;
+import com.williamtravel.app.service.ResourceVersionService.Version;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Answers conditional GETs of catalog reads before the handler runs. Detail routes ("/{id}") and the
+ * base list route of lookup tables are versioned with a cheap probe; when If-None-Match or
+ * If-Modified-Since still matches, a 304 is returned without loading the entity. Otherwise the ETag and
+ * Last-Modified headers are set and the handler runs as usual. Cache-Control comes from the per-route
+ * settings; routes without an entry or a probe keep the no-store default of the security headers.
+ * Cacheable responses vary by Accept, and Smile responses get their own ETag.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String DETAIL_SUFFIX = "/{id}";
+
+    @Autowired
+    private HttpCacheProperties properties;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    private final AtomicLong probes = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean get = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (!properties.isEnabled() || !get || pattern == null) {
+            return true;
+        }
+        if (isStreaming(handler)) {
+            // Exports are written straight to the client; buffering them for a body hash defeats the point
+            ShallowEtagHeaderFilter.disableContentCaching(request);
+        }
+        String route = "GET " + pattern;
+        Version version = probe(pattern.toString(), request);
+        String cacheControl = properties.cacheControlFor(route);
+        if (cacheControl == null && version != null) {
+            cacheControl = properties.getDefaultCacheControl();
+        }
+        if (cacheControl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        if (version == null) {
+            return true;
+        }
+        if (acceptsSmile(request)) {
+            version = version.variant("smile");
+        }
+        probes.incrementAndGet();
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        if (new ServletWebRequest(request, response).checkNotModified(version.etag(), version.lastModified())) {
+            notModified.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get probe and 304 counts
+     */
+    public Map<String, Object> statsSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("enabled", properties.isEnabled());
+        summary.put("shallowEtag", properties.isShallowEtag());
+        summary.put("etagVersion", properties.getEtagVersion());
+        summary.put("probes", probes.get());
+        summary.put("notModified", notModified.get());
+        summary.put("routes", properties.getRoutes());
+        return summary;
+    }
+
+    private Version probe(String pattern, HttpServletRequest request) {
+        if (pattern.endsWith(DETAIL_SUFFIX)) {
+            Resource resource = resourceVersionService.findResource(
+                    pattern.substring(0, pattern.length() - DETAIL_SUFFIX.length()));
+            if (resource == null) {
+                return null;
+            }
+            Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            Object id = variables instanceof Map<?, ?> map ? map.get("id") : null;
+            return id != null ? resourceVersionService.rowVersion(resource, id.toString()) : null;
+        }
+        Resource resource = resourceVersionService.findResource(pattern);
+        return resource != null && resource.hasListProbe() ? resourceVersionService.tableVersion(resource) : null;
+    }
+
+    private static boolean acceptsSmile(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(SerializationConfig.SMILE_MEDIA_TYPE);
+    }
+
+    private static boolean isStreaming(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return false;
+        }
+        ResolvableType type = ResolvableType.forMethodParameter(method.getReturnType());
+        if (ResponseEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.getGeneric(0);
+        }
+        return StreamingResponseBody.class.isAssignableFrom(type.toClass());
+    }
+}
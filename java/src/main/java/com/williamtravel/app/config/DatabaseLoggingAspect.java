@@ -11,9 +11,15 @@ import org.hibernate.engine.jdbc.internal.Formatter;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.Collection;
 
 /**
  * Aspect for logging repository layer operations
@@ -23,8 +29,15 @@ import java.util.Arrays;
 public class DatabaseLoggingAspect {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final Logger slowQueryLog = LoggerFactory.getLogger("slow-query");
     private final Formatter formatter = FormatStyle.BASIC.getFormatter();
 
+    @Autowired
+    private LoggingSwitches loggingSwitches;
+
+    @Value("${slow-query-log.threshold-ms:200}")
+    private long slowQueryThresholdMs;
+
     /**
      * Pointcut that matches all repository methods
      */
@@ -34,10 +47,24 @@ public class DatabaseLoggingAspect {
     }
 
     /**
-     * Advice that logs when a repository method is entered and exited
+     * Advice that logs when a repository method is entered and exited, and logs it as a slow query
+     * when it takes longer than the threshold. Call timings themselves are recorded by the
+     * spring.data.repository.invocations timer.
      */
     @Around("repositoryPointcut()")
     public Object logAroundRepositories(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return loggingSwitches.isCallLogging() ? proceedLogged(joinPoint, start) : joinPoint.proceed();
+        } finally {
+            long executionTime = (System.nanoTime() - start) / 1_000_000;
+            if (executionTime >= slowQueryThresholdMs) {
+                logSlowQuery(joinPoint, executionTime);
+            }
+        }
+    }
+
+    private Object proceedLogged(ProceedingJoinPoint joinPoint, long start) throws Throwable {
         if (log.isDebugEnabled()) {
             log.debug("DB Operation: {}.{}() with arguments: {}",
                     joinPoint.getSignature().getDeclaringTypeName(),
@@ -45,16 +72,14 @@ public class DatabaseLoggingAspect {
                     Arrays.toString(joinPoint.getArgs()));
         }
         
-        long start = System.currentTimeMillis();
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - start;
             
             if (log.isDebugEnabled()) {
                 log.debug("DB Operation completed: {}.{}() in {}ms",
                         joinPoint.getSignature().getDeclaringTypeName(),
                         joinPoint.getSignature().getName(),
-                        executionTime);
+                        (System.nanoTime() - start) / 1_000_000);
             }
             
             return result;
@@ -67,6 +92,44 @@ public class DatabaseLoggingAspect {
         }
     }
 
+    /**
+     * Log the repository, method and the shape of each argument (type and size, never the value)
+     */
+    private void logSlowQuery(ProceedingJoinPoint joinPoint, long executionTime) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        String repository = interfaces.length > 0
+                ? interfaces[0].getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+        StringBuilder shapes = new StringBuilder();
+        for (Object arg : joinPoint.getArgs()) {
+            if (shapes.length() > 0) shapes.append(", ");
+            shapes.append(shapeOf(arg));
+        }
+        slowQueryLog.warn("Slow query: {}.{}({}) took {} ms",
+                repository, joinPoint.getSignature().getName(), shapes, executionTime);
+    }
+
+    private static String shapeOf(Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (arg instanceof CharSequence text) {
+            return "String[" + text.length() + "]";
+        }
+        if (arg instanceof Collection<?> collection) {
+            return arg.getClass().getSimpleName() + "[" + collection.size() + "]";
+        }
+        if (arg.getClass().isArray()) {
+            return arg.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(arg) + "]";
+        }
+        if (arg instanceof Pageable pageable) {
+            return pageable.isPaged()
+                    ? "Pageable[page=" + pageable.getPageNumber() + ", size=" + pageable.getPageSize() + ", sort=" + pageable.getSort() + "]"
+                    : "Pageable[unpaged]";
+        }
+        return arg.getClass().getSimpleName();
+    }
+
     /**
      * Advice that logs methods throwing exceptions
      */
@@ -1,5 +1,7 @@
 package com.williamtravel.app.config;
 
+import com.williamtravel.app.exception.BadRequestException;
+import com.williamtravel.app.exception.ConflictException;
 import com.williamtravel.app.util.LoggingUtils;
 import org.slf4j.Logger;
 import org.springframework.http.HttpStatus;
@@ -105,6 +107,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    /**
+     * Handle invalid request input such as malformed pagination cursors
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequestException(BadRequestException ex, HttpServletRequest request) {
+        logger.warn("Bad request: {}", ex.getMessage());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Bad Request");
+        body.put("message", ex.getMessage());
+        body.put("path", request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
+    /**
+     * Handle requests that conflict with current state, such as holding a sold-out room
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflictException(ConflictException ex, HttpServletRequest request) {
+        logger.warn("Conflict: {}", ex.getMessage());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Conflict");
+        body.put("message", ex.getMessage());
+        body.put("path", request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     /**
      * Handle runtime exceptions
      */
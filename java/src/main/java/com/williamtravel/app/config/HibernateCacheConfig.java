@@ -0,0 +1,78 @@
+package com.williamtravel.app.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/**
+ * Hibernate second-level and query cache for lookup entities (geography, categories, roles and permissions).
+ * Regions live in an in-process Caffeine JCache manager; each region gets its own size and TTL from
+ * hibernate-cache.regions.*. Cached entities use READ_WRITE, so writes through the session keep them current.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(HibernateCacheConfig.class);
+
+    /** Entity region for continents, countries, regions, districts and wards */
+    public static final String GEOGRAPHY_REGION = "geography";
+
+    /** Entity region for location, accommodation, food, media and article categories, media types and tags */
+    public static final String CATEGORIES_REGION = "categories";
+
+    /** Entity region for roles and permissions */
+    public static final String SECURITY_REGION = "security";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (Map.Entry<String, HibernateCacheProperties.Region> entry : properties.getRegions().entrySet()) {
+            HibernateCacheProperties.Region region = entry.getValue();
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStoreByValue(false);
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            cacheManager.createCache(entry.getKey(), configuration);
+            logger.info("Hibernate cache region {}: maximumSize={}, expireAfterWrite={}",
+                    entry.getKey(), region.getMaximumSize(), region.getExpireAfterWrite());
+        }
+        // Query results are only valid while this region remembers the last write to each table, so it is never bounded
+        if (cacheManager.getCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME) == null) {
+            CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+            timestamps.setStoreByValue(false);
+            cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(HibernateCacheProperties properties,
+                                                                  CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatistics());
+            // Statistics feed the admin endpoint; do not log a metrics summary for every session
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.isEnabled());
+            if (!properties.isEnabled()) {
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Regions missing from the configuration are created unbounded; warn so they get limits
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+}
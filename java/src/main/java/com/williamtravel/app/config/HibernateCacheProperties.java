@@ -0,0 +1,69 @@
+package com.williamtravel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size and time-to-live limits for the Hibernate second-level cache regions
+ */
+@Component
+@ConfigurationProperties(prefix = "hibernate-cache")
+public class HibernateCacheProperties {
+
+    private boolean enabled = true;
+    private boolean statistics = true; // hit, miss and put counts per region for the admin endpoint
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    /**
+     * Limits of a single region
+     */
+    public static class Region {
+
+        private long maximumSize = 1000;
+        private Duration expireAfterWrite = Duration.ofHours(1);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(boolean statistics) {
+        this.statistics = statistics;
+    }
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+}
@@ -0,0 +1,69 @@
+package com.williamtravel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conditional GET settings: validators for catalog reads and the Cache-Control header per route.
+ * Routes are keyed by method and mapping pattern, for example "GET /api/locations/{id}".
+ */
+@Component
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheProperties {
+
+    private boolean enabled = true;
+    private boolean shallowEtag = true; // body-hash ETags for GET responses without a version probe
+    private String etagVersion = "1"; // bump when a response shape changes so clients drop their copies
+    private String defaultCacheControl = "private, no-cache"; // routes with a version probe but no entry
+    private Map<String, String> routes = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isShallowEtag() {
+        return shallowEtag;
+    }
+
+    public void setShallowEtag(boolean shallowEtag) {
+        this.shallowEtag = shallowEtag;
+    }
+
+    public String getEtagVersion() {
+        return etagVersion;
+    }
+
+    public void setEtagVersion(String etagVersion) {
+        this.etagVersion = etagVersion;
+    }
+
+    public String getDefaultCacheControl() {
+        return defaultCacheControl;
+    }
+
+    public void setDefaultCacheControl(String defaultCacheControl) {
+        this.defaultCacheControl = defaultCacheControl;
+    }
+
+    public Map<String, String> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, String> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Get the Cache-Control value of a route, or null when it has no entry
+     */
+    public String cacheControlFor(String route) {
+        return routes.get(route);
+    }
+}
@@ -0,0 +1,58 @@
+package com.williamtravel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulk import settings: where uploaded files are kept and how many lines are written per transaction
+ */
+@Component
+@ConfigurationProperties(prefix = "import")
+public class ImportProperties {
+
+    private String spoolDir = System.getProperty("java.io.tmpdir") + "/william-travel-imports";
+    private int chunkSize = 1000; // lines per transaction; also the resume granularity
+    private int maxLineLength = 65536; // longer lines are rejected without being parsed
+    private int maxRejectionsStored = 1000; // per job; later rejections are only counted
+    private int coordinatePrecision = 4; // decimals of latitude/longitude compared for duplicates (about 11 m)
+
+    public String getSpoolDir() {
+        return spoolDir;
+    }
+
+    public void setSpoolDir(String spoolDir) {
+        this.spoolDir = spoolDir;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxLineLength() {
+        return maxLineLength;
+    }
+
+    public void setMaxLineLength(int maxLineLength) {
+        this.maxLineLength = maxLineLength;
+    }
+
+    public int getMaxRejectionsStored() {
+        return maxRejectionsStored;
+    }
+
+    public void setMaxRejectionsStored(int maxRejectionsStored) {
+        this.maxRejectionsStored = maxRejectionsStored;
+    }
+
+    public int getCoordinatePrecision() {
+        return coordinatePrecision;
+    }
+
+    public void setCoordinatePrecision(int coordinatePrecision) {
+        this.coordinatePrecision = coordinatePrecision;
+    }
+}
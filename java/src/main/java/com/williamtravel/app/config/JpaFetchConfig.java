@@ -0,0 +1,28 @@
+package com.williamtravel.app.config;
+
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Support for lazily fetched associations. Entities are loaded through per-use-case entity graphs;
+ * anything a graph leaves out is serialized as its id only (or null for collections) instead of
+ * being loaded while the response is written. Every statement is counted for the SQL budget check.
+ */
+@Configuration
+public class JpaFetchConfig {
+
+    @Bean
+    public Hibernate6Module hibernate6Module() {
+        Hibernate6Module module = new Hibernate6Module();
+        module.enable(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
+        return module;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(SqlStatementCounter statementCounter) {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+}
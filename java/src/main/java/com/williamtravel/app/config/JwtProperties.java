@@ -3,6 +3,8 @@ package com.williamtravel.app.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
@@ -11,6 +13,10 @@ public class JwtProperties {
     private Long expiration = 86400000L; // 24 hours in milliseconds
     private String header = "Authorization";
     private String prefix = "Bearer ";
+    private boolean stateless = false; // build authentication from token claims instead of loading the user
+    private Integer tokenCacheSize = 10000; // verified tokens kept until they expire
+    private Integer tokenStateCacheSize = 10000; // user version stamps checked against stateless tokens
+    private Duration tokenStateTtl = Duration.ofSeconds(30); // re-read a user's version stamp from the database after this
     
     // Getters and setters
     public String getSecret() {
@@ -44,4 +50,36 @@ public class JwtProperties {
     public void setPrefix(String prefix) {
         this.prefix = prefix;
     }
+    
+    public boolean isStateless() {
+        return stateless;
+    }
+    
+    public void setStateless(boolean stateless) {
+        this.stateless = stateless;
+    }
+    
+    public Integer getTokenCacheSize() {
+        return tokenCacheSize;
+    }
+    
+    public void setTokenCacheSize(Integer tokenCacheSize) {
+        this.tokenCacheSize = tokenCacheSize;
+    }
+    
+    public Integer getTokenStateCacheSize() {
+        return tokenStateCacheSize;
+    }
+    
+    public void setTokenStateCacheSize(Integer tokenStateCacheSize) {
+        this.tokenStateCacheSize = tokenStateCacheSize;
+    }
+    
+    public Duration getTokenStateTtl() {
+        return tokenStateTtl;
+    }
+    
+    public void setTokenStateTtl(Duration tokenStateTtl) {
+        this.tokenStateTtl = tokenStateTtl;
+    }
 }
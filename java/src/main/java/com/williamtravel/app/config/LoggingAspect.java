@@ -8,6 +8,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -21,6 +22,9 @@ public class LoggingAspect {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
+    @Autowired
+    private LoggingSwitches loggingSwitches;
+
     /**
      * Pointcut that matches all repositories, services and controllers
      */
@@ -62,6 +66,9 @@ public class LoggingAspect {
      */
     @Around("controllerPointcut()")
     public Object logAroundController(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!loggingSwitches.isCallLogging()) {
+            return joinPoint.proceed();
+        }
         if (log.isInfoEnabled()) {
             log.info("API Request: {}.{}() with arguments: {}",
                     joinPoint.getSignature().getDeclaringTypeName(),
@@ -0,0 +1,57 @@
+package com.williamtravel.app.config;
+
+import com.williamtravel.app.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logging settings that can be changed at runtime through the admin API, without a restart.
+ * Per-call logging covers the controller and repository aspects and the BaseController helpers;
+ * when it is off they only pass the call through. The access log samples successful requests
+ * and always records errors and slow requests.
+ */
+@Component
+public class LoggingSwitches {
+
+    private volatile boolean callLogging;
+    private volatile double accessLogSampleRate;
+    private volatile long slowRequestMillis;
+
+    public LoggingSwitches(@Value("${request-logging.call-logging:false}") boolean callLogging,
+                           @Value("${request-logging.access-log.sample-rate:1.0}") double accessLogSampleRate,
+                           @Value("${request-logging.access-log.slow-request-ms:1000}") long slowRequestMillis) {
+        this.callLogging = callLogging;
+        setAccessLogSampleRate(accessLogSampleRate);
+        this.slowRequestMillis = slowRequestMillis;
+    }
+
+    public boolean isCallLogging() {
+        return callLogging;
+    }
+
+    public void setCallLogging(boolean callLogging) {
+        this.callLogging = callLogging;
+    }
+
+    public double getAccessLogSampleRate() {
+        return accessLogSampleRate;
+    }
+
+    public void setAccessLogSampleRate(double accessLogSampleRate) {
+        if (accessLogSampleRate < 0 || accessLogSampleRate > 1) {
+            throw new BadRequestException("Access log sample rate must be between 0 and 1");
+        }
+        this.accessLogSampleRate = accessLogSampleRate;
+    }
+
+    public long getSlowRequestMillis() {
+        return slowRequestMillis;
+    }
+
+    public void setSlowRequestMillis(long slowRequestMillis) {
+        if (slowRequestMillis < 0) {
+            throw new BadRequestException("Slow request threshold must not be negative");
+        }
+        this.slowRequestMillis = slowRequestMillis;
+    }
+}
@@ -0,0 +1,22 @@
+package com.williamtravel.app.config;
+
+import com.williamtravel.app.service.ViewCounterService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application meters beyond what Actuator binds on its own. Route, repository, Hikari and Hibernate
+ * timers come from Actuator auto-configuration; their histograms are enabled in application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder viewCounterMetrics(ViewCounterService viewCounterService) {
+        return registry -> Gauge.builder("view.counter.pending", viewCounterService, ViewCounterService::pendingCount)
+                .description("Views counted in memory and not yet written to the database")
+                .register(registry);
+    }
+}
@@ -0,0 +1,114 @@
+package com.williamtravel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Weights and decay rates of the popularity scoring job, and the size of the top lists it keeps in memory
+ */
+@Component
+@ConfigurationProperties(prefix = "popularity")
+public class PopularityProperties {
+
+    private Duration viewHalfLife = Duration.ofDays(7); // views and reactions lose half their weight this often
+    private Duration recencyHalfLife = Duration.ofDays(30); // age at which the freshness bonus halves
+    private double viewWeight = 1.0;
+    private double reactionWeight = 1.5;
+    private double ratingWeight = 2.0;
+    private double recencyWeight = 1.0;
+    private double ratingPriorCount = 5; // ratings of priorMean assumed for every item, so few ratings count for little
+    private double ratingPriorMean = 3.5;
+    private double writeThreshold = 0.01; // relative change below which a stored score is left alone
+    private int topK = 100;
+    private int batchSize = 500;
+
+    public Duration getViewHalfLife() {
+        return viewHalfLife;
+    }
+
+    public void setViewHalfLife(Duration viewHalfLife) {
+        this.viewHalfLife = viewHalfLife;
+    }
+
+    public Duration getRecencyHalfLife() {
+        return recencyHalfLife;
+    }
+
+    public void setRecencyHalfLife(Duration recencyHalfLife) {
+        this.recencyHalfLife = recencyHalfLife;
+    }
+
+    public double getViewWeight() {
+        return viewWeight;
+    }
+
+    public void setViewWeight(double viewWeight) {
+        this.viewWeight = viewWeight;
+    }
+
+    public double getReactionWeight() {
+        return reactionWeight;
+    }
+
+    public void setReactionWeight(double reactionWeight) {
+        this.reactionWeight = reactionWeight;
+    }
+
+    public double getRatingWeight() {
+        return ratingWeight;
+    }
+
+    public void setRatingWeight(double ratingWeight) {
+        this.ratingWeight = ratingWeight;
+    }
+
+    public double getRecencyWeight() {
+        return recencyWeight;
+    }
+
+    public void setRecencyWeight(double recencyWeight) {
+        this.recencyWeight = recencyWeight;
+    }
+
+    public double getRatingPriorCount() {
+        return ratingPriorCount;
+    }
+
+    public void setRatingPriorCount(double ratingPriorCount) {
+        this.ratingPriorCount = ratingPriorCount;
+    }
+
+    public double getRatingPriorMean() {
+        return ratingPriorMean;
+    }
+
+    public void setRatingPriorMean(double ratingPriorMean) {
+        this.ratingPriorMean = ratingPriorMean;
+    }
+
+    public double getWriteThreshold() {
+        return writeThreshold;
+    }
+
+    public void setWriteThreshold(double writeThreshold) {
+        this.writeThreshold = writeThreshold;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public void setTopK(int topK) {
+        this.topK = topK;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
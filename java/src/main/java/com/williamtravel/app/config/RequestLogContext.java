@@ -0,0 +1,61 @@
+package com.williamtravel.app.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Everything the access log line needs about one request, filled in as the request passes
+ * through the filter, the security chain and the handler, and written once at completion
+ */
+public class RequestLogContext {
+
+    private static final String ATTRIBUTE = RequestLogContext.class.getName();
+
+    private final long startNanos = System.nanoTime();
+    private String route;
+    private String user;
+    private int sqlStatements = -1;
+
+    /**
+     * Attach a new context to the request
+     */
+    public static RequestLogContext start(HttpServletRequest request) {
+        RequestLogContext context = new RequestLogContext();
+        request.setAttribute(ATTRIBUTE, context);
+        return context;
+    }
+
+    /**
+     * Get the context of a request, or null when the access log filter did not see it
+     */
+    public static RequestLogContext of(HttpServletRequest request) {
+        return (RequestLogContext) request.getAttribute(ATTRIBUTE);
+    }
+
+    public long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public int getSqlStatements() {
+        return sqlStatements;
+    }
+
+    public void setSqlStatements(int sqlStatements) {
+        this.sqlStatements = sqlStatements;
+    }
+}
@@ -0,0 +1,13 @@
+package com.williamtravel.app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs such as rating summary rebuilds.
+ * They run on a pool of spring.task.scheduling.pool.size threads so long jobs do not delay short periodic ones.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
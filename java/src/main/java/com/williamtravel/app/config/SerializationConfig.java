@@ -0,0 +1,40 @@
+package com.williamtravel.app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Response serialization. Jackson property access goes through Blackbird's generated accessors, and
+ * clients sending Accept: application/x-jackson-smile get Smile, a binary JSON encoding that writes
+ * repeated property names and short strings once and back-references them afterwards. JSON stays the
+ * default for every other Accept header.
+ */
+@Configuration
+public class SerializationConfig {
+
+    public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Smile converter with the same modules and features as the JSON object mapper. It takes the place of
+     * the plain one Spring MVC registers after the JSON converter, so a wildcard Accept still gets JSON.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES) // category and region names repeat per item
+                .build();
+        ObjectMapper mapper = builder.factory(factory).build();
+        return new MappingJackson2SmileHttpMessageConverter(mapper);
+    }
+}
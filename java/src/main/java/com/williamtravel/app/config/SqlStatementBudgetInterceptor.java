@@ -0,0 +1,109 @@
+package com.williamtravel.app.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks the number of SQL statements each request issues against its endpoint's budget.
+ * Lazy loads triggered while the response is serialized are included, so an N+1 regression
+ * on a list endpoint shows up as a warning and in the per-endpoint counters.
+ */
+@Component
+public class SqlStatementBudgetInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetInterceptor.class);
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private SqlStatementBudgetProperties properties;
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = statementCounter.get();
+        statementCounter.clear();
+        RequestLogContext logContext = RequestLogContext.of(request);
+        if (logContext != null) {
+            logContext.setSqlStatements(statements);
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (!properties.isEnabled() || pattern == null) {
+            return;
+        }
+        String endpoint = request.getMethod() + " " + pattern;
+        int budget = properties.budgetFor(endpoint);
+        boolean overBudget = statements > budget;
+        stats.computeIfAbsent(endpoint, key -> new EndpointStats()).record(statements, overBudget);
+        if (overBudget) {
+            logger.warn("SQL statement budget exceeded: {} issued {} statements, budget is {} ({})",
+                    endpoint, statements, budget, request.getRequestURI());
+        }
+    }
+
+    /**
+     * Get request, maximum statement and over-budget counts per endpoint
+     */
+    public Map<String, Object> statsSummary() {
+        Map<String, Object> endpoints = new TreeMap<>();
+        stats.forEach((endpoint, endpointStats) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("budget", properties.budgetFor(endpoint));
+            entry.put("requests", endpointStats.requests.get());
+            entry.put("maxStatements", endpointStats.maxStatements.get());
+            entry.put("lastStatements", endpointStats.lastStatements.get());
+            entry.put("overBudget", endpointStats.overBudget.get());
+            endpoints.put(endpoint, entry);
+        });
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("enabled", properties.isEnabled());
+        summary.put("defaultBudget", properties.getDefaultBudget());
+        summary.put("endpoints", endpoints);
+        return summary;
+    }
+
+    /**
+     * Forget all recorded counts
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    private static class EndpointStats {
+
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+        private final AtomicInteger lastStatements = new AtomicInteger();
+        private final AtomicLong overBudget = new AtomicLong();
+
+        void record(int statements, boolean exceeded) {
+            requests.incrementAndGet();
+            maxStatements.accumulateAndGet(statements, Math::max);
+            lastStatements.set(statements);
+            if (exceeded) {
+                overBudget.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.williamtravel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maximum number of SQL statements a request may issue, per endpoint.
+ * Endpoints are keyed by method and mapping pattern, for example "GET /api/locations/{id}".
+ */
+@Component
+@ConfigurationProperties(prefix = "sql.statement-budget")
+public class SqlStatementBudgetProperties {
+
+    private boolean enabled = true;
+    private int defaultBudget = 10; // endpoints without their own entry
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getDefaultBudget() {
+        return defaultBudget;
+    }
+
+    public void setDefaultBudget(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    public Map<String, Integer> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Integer> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Get the budget of an endpoint, falling back to the default
+     */
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
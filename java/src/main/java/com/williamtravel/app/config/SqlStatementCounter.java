@@ -0,0 +1,41 @@
+package com.williamtravel.app.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Registered as the session factory's statement inspector; the SQL itself is passed through unchanged.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Start counting from zero on this thread
+     */
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    /**
+     * Get the number of statements prepared on this thread since the last reset
+     */
+    public int get() {
+        return count.get()[0];
+    }
+
+    /**
+     * Forget this thread's counter, so pooled request threads do not keep it
+     */
+    public void clear() {
+        count.remove();
+    }
+}
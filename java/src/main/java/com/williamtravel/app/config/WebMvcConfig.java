@@ -1,7 +1,11 @@
 package com.williamtravel.app.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -14,9 +18,37 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Autowired
     private RequestLoggingInterceptor requestLoggingInterceptor;
 
+    @Autowired
+    private SqlStatementBudgetInterceptor sqlStatementBudgetInterceptor;
+
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Autowired
+    private HttpCacheProperties httpCacheProperties;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(requestLoggingInterceptor)
                 .addPathPatterns("/**"); // Apply to all paths
+        registry.addInterceptor(sqlStatementBudgetInterceptor)
+                .addPathPatterns("/api/**");
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/**");
+    }
+
+    /**
+     * Body-hash ETags for API GETs that have no version probe. Runs outside the security chain so it sees
+     * the final Cache-Control header; responses left at no-store (no route entry) get no ETag.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        registration.setEnabled(httpCacheProperties.isEnabled() && httpCacheProperties.isShallowEtag());
+        return registration;
     }
 }
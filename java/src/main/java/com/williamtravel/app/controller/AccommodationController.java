@@ -1,7 +1,15 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.dto.AccommodationDetail;
+import com.williamtravel.app.dto.AccommodationSummary;
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CardView;
+import com.williamtravel.app.dto.CursorPage;
+import com.williamtravel.app.dto.NearbyResult;
 import com.williamtravel.app.entity.Accommodation;
 import com.williamtravel.app.service.AccommodationService;
+import com.williamtravel.app.service.CardViewService;
+import com.williamtravel.app.service.StreamingExportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,9 +17,11 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,24 +35,38 @@ public class AccommodationController extends BaseController {
     @Autowired
     private AccommodationService accommodationService;
 
+    @Autowired
+    private CardViewService cardViewService;
+
+    @Autowired
+    private StreamingExportService streamingExportService;
+
     /**
      * Get all accommodations
      */
     @GetMapping
-    public ResponseEntity<List<Accommodation>> getAllAccommodations() {
+    public ResponseEntity<List<AccommodationSummary>> getAllAccommodations() {
         logApiRequest("getAllAccommodations");
-        List<Accommodation> accommodations = accommodationService.findAll();
+        List<AccommodationSummary> accommodations = accommodationService.findAllSummaries();
         logApiSuccess("getAllAccommodations", accommodations);
         return logResponse("getAllAccommodations", ResponseEntity.ok(accommodations));
     }
 
+    /**
+     * Export accommodations as NDJSON, or as a JSON array with format=json, streamed row by row
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAccommodations(@RequestParam(defaultValue = "ndjson") String format) {
+        return streamingExportService.export(format, "accommodations", accommodationService::streamAllSummaries);
+    }
+
     /**
      * Get accommodation by ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Accommodation> getAccommodationById(@PathVariable Integer id) {
+    public ResponseEntity<AccommodationDetail> getAccommodationById(@PathVariable Integer id) {
         logApiRequest("getAccommodationById", id);
-        Optional<Accommodation> accommodation = accommodationService.findById(id);
+        Optional<AccommodationDetail> accommodation = accommodationService.findDetailById(id);
         
         if (accommodation.isPresent()) {
             logApiSuccess("getAccommodationById", accommodation.get());
@@ -53,6 +77,31 @@ public class AccommodationController extends BaseController {
         }
     }
 
+    /**
+     * Get accommodation summaries for a batch of IDs, keyed by ID; unknown IDs are left out
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Integer, AccommodationSummary>> getAccommodationsByIds(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(accommodationService.findSummariesByIds(request.distinctIds()));
+    }
+
+    /**
+     * Get a page of accommodation cards: summary, main image and rating, filtered by active status (default true)
+     */
+    @GetMapping("/cards")
+    public ResponseEntity<Page<CardView<AccommodationSummary>>> getAccommodationCards(@RequestParam(defaultValue = "true") Boolean isActive,
+                                                                                      Pageable pageable) {
+        return ResponseEntity.ok(cardViewService.findAccommodationCards(isActive, pageable));
+    }
+
+    /**
+     * Get accommodation cards for a batch of IDs, keyed by ID; unknown IDs are left out
+     */
+    @PostMapping("/cards/batch")
+    public ResponseEntity<Map<Integer, CardView<AccommodationSummary>>> getAccommodationCardsByIds(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(cardViewService.findAccommodationCards(request.distinctIds()));
+    }
+
     /**
      * Create new accommodation
      */
@@ -135,8 +184,18 @@ public class AccommodationController extends BaseController {
      * Get accommodations by active status with pagination
      */
     @GetMapping("/status/{isActive}/page")
-    public ResponseEntity<Page<Accommodation>> getAccommodationsByActiveStatus(@PathVariable Boolean isActive, Pageable pageable) {
-        Page<Accommodation> accommodations = accommodationService.findByIsActive(isActive, pageable);
+    public ResponseEntity<Page<AccommodationSummary>> getAccommodationsByActiveStatus(@PathVariable Boolean isActive, Pageable pageable) {
+        Page<AccommodationSummary> accommodations = accommodationService.findSummariesByIsActive(isActive, pageable);
+        return ResponseEntity.ok(accommodations);
+    }
+
+    /**
+     * Get accommodations by active status, newest first, one cursor slice at a time
+     */
+    @GetMapping("/status/{isActive}/cursor")
+    public ResponseEntity<CursorPage<AccommodationSummary>> getAccommodationsByActiveStatusCursor(@PathVariable Boolean isActive,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        CursorPage<AccommodationSummary> accommodations = accommodationService.findSummariesByIsActive(isActive, cursor, size);
         return ResponseEntity.ok(accommodations);
     }
 
@@ -416,6 +475,41 @@ public class AccommodationController extends BaseController {
         return ResponseEntity.ok(accommodations);
     }
 
+    /**
+     * Get active accommodations within a radius of a point, nearest first
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyResult<AccommodationSummary>>> getNearbyAccommodations(
+            @RequestParam Double lat, @RequestParam Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        List<NearbyResult<AccommodationSummary>> accommodations = accommodationService.findNearby(lat, lng, radiusKm, limit);
+        return ResponseEntity.ok(accommodations);
+    }
+
+    /**
+     * Get the k active accommodations nearest to a point
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearbyResult<AccommodationSummary>>> getNearestAccommodations(
+            @RequestParam Double lat, @RequestParam Double lng,
+            @RequestParam(required = false) Integer k) {
+        List<NearbyResult<AccommodationSummary>> accommodations = accommodationService.findNearest(lat, lng, k);
+        return ResponseEntity.ok(accommodations);
+    }
+
+    /**
+     * Get active accommodations inside a map viewport; minLng greater than maxLng spans the antimeridian
+     */
+    @GetMapping("/coordinates/in-bounds")
+    public ResponseEntity<List<AccommodationSummary>> getAccommodationsInBounds(
+            @RequestParam Double minLat, @RequestParam Double maxLat,
+            @RequestParam Double minLng, @RequestParam Double maxLng,
+            @RequestParam(required = false) Integer limit) {
+        List<AccommodationSummary> accommodations = accommodationService.findSummariesWithinBounds(minLat, maxLat, minLng, maxLng, limit);
+        return ResponseEntity.ok(accommodations);
+    }
+
     // =========================
     // SEARCH AND FILTERING ENDPOINTS
     // =========================
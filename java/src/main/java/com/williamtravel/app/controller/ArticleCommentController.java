@@ -1,5 +1,6 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.dto.CursorPage;
 import com.williamtravel.app.entity.ArticleComment;
 import com.williamtravel.app.service.ArticleCommentService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -127,6 +128,17 @@ public class ArticleCommentController {
         return ResponseEntity.ok(comments);
     }
 
+    /**
+     * Get comments by article ID and status, newest first, one cursor slice at a time
+     */
+    @GetMapping("/article/{articleId}/status/{status}/cursor")
+    public ResponseEntity<CursorPage<ArticleComment>> getCommentsByArticleIdAndStatusCursor(
+            @PathVariable Integer articleId, @PathVariable Boolean status,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        CursorPage<ArticleComment> comments = articleCommentService.findByArticleIdAndStatus(articleId, status, cursor, size);
+        return ResponseEntity.ok(comments);
+    }
+
     /**
      * Count active comments by article
      */
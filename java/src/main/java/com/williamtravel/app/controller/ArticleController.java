@@ -1,7 +1,11 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.dto.ArticleSummary;
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CursorPage;
 import com.williamtravel.app.entity.Article;
 import com.williamtravel.app.service.ArticleService;
+import com.williamtravel.app.service.StreamingExportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,9 +13,11 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,6 +31,9 @@ public class ArticleController {
     @Autowired
     private ArticleService articleService;
 
+    @Autowired
+    private StreamingExportService streamingExportService;
+
     /**
      * Get all articles
      */
@@ -53,6 +62,14 @@ public class ArticleController {
                      .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get article summaries for a batch of IDs, keyed by ID; unknown IDs are left out
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Integer, ArticleSummary>> getArticlesByIds(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(articleService.findSummariesByIds(request.distinctIds()));
+    }
+
     /**
      * Get article by slug
      */
@@ -181,6 +198,16 @@ public class ArticleController {
         return ResponseEntity.ok(articles);
     }
 
+    /**
+     * Get published articles, newest first, one cursor slice at a time
+     */
+    @GetMapping("/published/cursor")
+    public ResponseEntity<CursorPage<Article>> getPublishedArticlesCursor(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        CursorPage<Article> articles = articleService.findPublishedArticles(cursor, size);
+        return ResponseEntity.ok(articles);
+    }
+
     /**
      * Get featured articles
      */
@@ -190,6 +217,14 @@ public class ArticleController {
         return ResponseEntity.ok(articles);
     }
 
+    /**
+     * Export featured articles as NDJSON, or as a JSON array with format=json, streamed row by row
+     */
+    @GetMapping("/featured/export")
+    public ResponseEntity<StreamingResponseBody> exportFeaturedArticles(@RequestParam(defaultValue = "ndjson") String format) {
+        return streamingExportService.export(format, "featured articles", articleService::streamFeaturedSummaries);
+    }
+
     /**
      * Count total articles
      */
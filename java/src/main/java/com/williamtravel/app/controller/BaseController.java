@@ -1,11 +1,10 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.config.LoggingSwitches;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.ExceptionHandler;
-
-import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * Base controller class providing common logging functionality
@@ -13,9 +12,12 @@ import jakarta.servlet.http.HttpServletRequest;
 public abstract class BaseController {
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Autowired
+    private LoggingSwitches loggingSwitches;
     
     protected void logApiRequest(String methodName, Object... args) {
-        if (logger.isInfoEnabled()) {
+        if (loggingSwitches.isCallLogging() && logger.isInfoEnabled()) {
             StringBuilder sb = new StringBuilder();
             for (Object arg : args) {
                 if (sb.length() > 0) sb.append(", ");
@@ -26,6 +28,9 @@ public abstract class BaseController {
     }
     
     protected void logApiSuccess(String methodName, Object result) {
+        if (!loggingSwitches.isCallLogging()) {
+            return;
+        }
         if (result == null) {
             logger.info("API Success: {}.{} returned null", getClass().getSimpleName(), methodName);
         } else {
@@ -46,6 +51,9 @@ public abstract class BaseController {
      * Log API response
      */
     protected <T> ResponseEntity<T> logResponse(String methodName, ResponseEntity<T> response) {
+        if (!loggingSwitches.isCallLogging()) {
+            return response;
+        }
         if (response.getStatusCode().is2xxSuccessful()) {
             logger.info("API Success: {}.{} returned status {}", 
                     getClass().getSimpleName(), methodName, response.getStatusCode().value());
@@ -55,15 +63,4 @@ public abstract class BaseController {
         }
         return response;
     }
-    
-    /**
-     * Generic exception handler for controllers that extend this class
-     * Can be overridden by more specific handlers in the global exception handler
-     */
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<String> handleException(Exception ex, HttpServletRequest request) {
-        logger.error("Unhandled controller exception in {}: {}", 
-                getClass().getSimpleName(), ex.getMessage(), ex);
-        return ResponseEntity.internalServerError().body("An unexpected error occurred");
-    }
 }
@@ -0,0 +1,192 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.config.ConditionalGetInterceptor;
+import com.williamtravel.app.security.UserDetailsCache;
+import com.williamtravel.app.service.AvailabilityIndexService;
+import com.williamtravel.app.service.GeoIndexService;
+import com.williamtravel.app.service.GeographyTreeService;
+import com.williamtravel.app.service.HibernateCacheService;
+import com.williamtravel.app.service.PopularityService;
+import com.williamtravel.app.service.RoomInventoryService;
+import com.williamtravel.app.service.ViewCounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST Controller for inspecting and clearing in-process caches
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheAdminController {
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private GeoIndexService geoIndexService;
+
+    @Autowired
+    private GeographyTreeService geographyTreeService;
+
+    @Autowired
+    private AvailabilityIndexService availabilityIndexService;
+
+    @Autowired
+    private RoomInventoryService roomInventoryService;
+
+    @Autowired
+    private PopularityService popularityService;
+
+    @Autowired
+    private ViewCounterService viewCounterService;
+
+    @Autowired
+    private HibernateCacheService hibernateCacheService;
+
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
+    /**
+     * Get user details cache statistics
+     */
+    @GetMapping("/user-details")
+    public ResponseEntity<Map<String, Object>> getUserDetailsCacheStats() {
+        return ResponseEntity.ok(userDetailsCache.statsSummary());
+    }
+
+    /**
+     * Clear the user details cache
+     */
+    @DeleteMapping("/user-details")
+    public ResponseEntity<Void> clearUserDetailsCache() {
+        userDetailsCache.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get geo index sizes
+     */
+    @GetMapping("/geo-index")
+    public ResponseEntity<Map<String, Object>> getGeoIndexStats() {
+        return ResponseEntity.ok(geoIndexService.statsSummary());
+    }
+
+    /**
+     * Rebuild the geo index from the database
+     */
+    @PostMapping("/geo-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildGeoIndex() {
+        geoIndexService.rebuild();
+        return ResponseEntity.ok(geoIndexService.statsSummary());
+    }
+
+    /**
+     * Get availability index window and size, with hold counts by status
+     */
+    @GetMapping("/availability-index")
+    public ResponseEntity<Map<String, Object>> getAvailabilityIndexStats() {
+        Map<String, Object> summary = availabilityIndexService.statsSummary();
+        summary.put("inventory", roomInventoryService.statsSummary());
+        return ResponseEntity.ok(summary);
+    }
+
+    /**
+     * Rebuild the availability index from the database
+     */
+    @PostMapping("/availability-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildAvailabilityIndex() {
+        availabilityIndexService.rebuild();
+        return ResponseEntity.ok(availabilityIndexService.statsSummary());
+    }
+
+    /**
+     * Get the last popularity scoring run and top list counts
+     */
+    @GetMapping("/popularity")
+    public ResponseEntity<Map<String, Object>> getPopularityStats() {
+        return ResponseEntity.ok(popularityService.statsSummary());
+    }
+
+    /**
+     * Rescore popularity now instead of waiting for the schedule
+     */
+    @PostMapping("/popularity/rescore")
+    public ResponseEntity<Map<String, Object>> rescorePopularity() {
+        popularityService.rescore();
+        return ResponseEntity.ok(popularityService.statsSummary());
+    }
+
+    /**
+     * Get geography tree node counts
+     */
+    @GetMapping("/geography")
+    public ResponseEntity<Map<String, Object>> getGeographyTreeStats() {
+        return ResponseEntity.ok(geographyTreeService.statsSummary());
+    }
+
+    /**
+     * Rebuild the geography tree from the database
+     */
+    @PostMapping("/geography/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildGeographyTree() {
+        geographyTreeService.rebuild();
+        return ResponseEntity.ok(geographyTreeService.statsSummary());
+    }
+
+    /**
+     * Get pending and flushed view counter totals
+     */
+    @GetMapping("/view-counters")
+    public ResponseEntity<Map<String, Object>> getViewCounterStats() {
+        return ResponseEntity.ok(viewCounterService.statsSummary());
+    }
+
+    /**
+     * Write pending view counts to the database now
+     */
+    @PostMapping("/view-counters/flush")
+    public ResponseEntity<Map<String, Object>> flushViewCounters() {
+        viewCounterService.flush();
+        return ResponseEntity.ok(viewCounterService.statsSummary());
+    }
+
+    /**
+     * Get Hibernate second-level and query cache statistics per region
+     */
+    @GetMapping("/hibernate")
+    public ResponseEntity<Map<String, Object>> getHibernateCacheStats() {
+        return ResponseEntity.ok(hibernateCacheService.statsSummary());
+    }
+
+    /**
+     * Clear all Hibernate cache regions
+     */
+    @DeleteMapping("/hibernate")
+    public ResponseEntity<Void> clearHibernateCache() {
+        hibernateCacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Clear one Hibernate cache region
+     */
+    @DeleteMapping("/hibernate/{region}")
+    public ResponseEntity<Void> clearHibernateCacheRegion(@PathVariable String region) {
+        hibernateCacheService.evictRegion(region);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get conditional GET probe and 304 counts with the per-route Cache-Control settings
+     */
+    @GetMapping("/http-cache")
+    public ResponseEntity<Map<String, Object>> getHttpCacheStats() {
+        return ResponseEntity.ok(conditionalGetInterceptor.statsSummary());
+    }
+}
@@ -1,5 +1,7 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.dto.CountryDetail;
+import com.williamtravel.app.dto.CountrySummary;
 import com.williamtravel.app.entity.Country;
 import com.williamtravel.app.service.CountryService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,8 +31,8 @@ public class CountryController {
      * Get all countries
      */
     @GetMapping
-    public ResponseEntity<List<Country>> getAllCountries() {
-        List<Country> countries = countryService.findAll();
+    public ResponseEntity<List<CountrySummary>> getAllCountries() {
+        List<CountrySummary> countries = countryService.findAllSummaries();
         return ResponseEntity.ok(countries);
     }
 
@@ -38,8 +40,8 @@ public class CountryController {
      * Get country by ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Country> getCountryById(@PathVariable Integer id) {
-        Optional<Country> country = countryService.findById(id);
+    public ResponseEntity<CountryDetail> getCountryById(@PathVariable Integer id) {
+        Optional<CountryDetail> country = countryService.findDetailById(id);
         return country.map(ResponseEntity::ok)
                      .orElse(ResponseEntity.notFound().build());
     }
@@ -93,8 +95,8 @@ public class CountryController {
      * Get all countries with pagination
      */
     @GetMapping("/page")
-    public ResponseEntity<Page<Country>> getCountriesPage(Pageable pageable) {
-        Page<Country> countries = countryService.findAll(pageable);
+    public ResponseEntity<Page<CountrySummary>> getCountriesPage(Pageable pageable) {
+        Page<CountrySummary> countries = countryService.findAllSummaries(pageable);
         return ResponseEntity.ok(countries);
     }
 
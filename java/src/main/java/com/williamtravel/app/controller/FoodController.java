@@ -1,6 +1,10 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CardView;
+import com.williamtravel.app.dto.FoodSummary;
 import com.williamtravel.app.entity.Food;
+import com.williamtravel.app.service.CardViewService;
 import com.williamtravel.app.service.FoodService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -11,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,6 +29,9 @@ public class FoodController {
     @Autowired
     private FoodService foodService;
 
+    @Autowired
+    private CardViewService cardViewService;
+
     /**
      * Get all foods
      */
@@ -43,6 +51,31 @@ public class FoodController {
                   .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get food summaries for a batch of IDs, keyed by ID; unknown IDs are left out
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Integer, FoodSummary>> getFoodsByIds(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(foodService.findSummariesByIds(request.distinctIds()));
+    }
+
+    /**
+     * Get a page of food cards: summary, main image and rating, filtered by status (default true)
+     */
+    @GetMapping("/cards")
+    public ResponseEntity<Page<CardView<FoodSummary>>> getFoodCards(@RequestParam(defaultValue = "true") Boolean status,
+                                                                    Pageable pageable) {
+        return ResponseEntity.ok(cardViewService.findFoodCards(status, pageable));
+    }
+
+    /**
+     * Get food cards for a batch of IDs, keyed by ID; unknown IDs are left out
+     */
+    @PostMapping("/cards/batch")
+    public ResponseEntity<Map<Integer, CardView<FoodSummary>>> getFoodCardsByIds(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(cardViewService.findFoodCards(request.distinctIds()));
+    }
+
     /**
      * Create new food
      */
@@ -0,0 +1,69 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.dto.GeographyNode;
+import com.williamtravel.app.service.GeographyTreeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for the continent → country → region → district → ward hierarchy, served from memory.
+ * Levels in paths are plural: continents, countries, regions, districts, wards.
+ */
+@RestController
+@RequestMapping("/api/geography")
+@CrossOrigin(origins = "*")
+public class GeographyController {
+
+    @Autowired
+    private GeographyTreeService geographyTreeService;
+
+    /**
+     * Get continents with their descendants; depth 1 stops at countries, depth 4 reaches wards
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<List<GeographyNode>> getTree(
+            @RequestParam(required = false) Integer status,
+            @RequestParam(defaultValue = "1") Integer depth) {
+        return ResponseEntity.ok(geographyTreeService.findTree(status, depth));
+    }
+
+    /**
+     * Get a node with its descendants, all the way down unless depth is given
+     */
+    @GetMapping("/{level}/{id}")
+    public ResponseEntity<GeographyNode> getSubtree(
+            @PathVariable String level,
+            @PathVariable Integer id,
+            @RequestParam(required = false) Integer status,
+            @RequestParam(required = false) Integer depth) {
+        return geographyTreeService.findSubtree(level, id, status, depth)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get the direct children of a node
+     */
+    @GetMapping("/{level}/{id}/children")
+    public ResponseEntity<List<GeographyNode>> getChildren(
+            @PathVariable String level,
+            @PathVariable Integer id,
+            @RequestParam(required = false) Integer status) {
+        return geographyTreeService.findChildren(level, id, status)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get the ancestor path of a node, from its continent down to the node itself
+     */
+    @GetMapping("/{level}/{id}/path")
+    public ResponseEntity<List<GeographyNode>> getPath(@PathVariable String level, @PathVariable Integer id) {
+        return geographyTreeService.findPath(level, id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,85 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.entity.ImportJob;
+import com.williamtravel.app.entity.ImportRejection;
+import com.williamtravel.app.security.AuthenticatedUser;
+import com.williamtravel.app.service.ImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * REST Controller for bulk imports of locations, foods and accommodations from JSONL files.
+ * The file is the request body, one JSON object per line; the import runs in the background and
+ * its progress is read from the job.
+ */
+@RestController
+@RequestMapping("/api/admin/imports")
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasRole('ADMIN')")
+public class ImportController {
+
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Upload a JSONL file and queue its import; type applies to lines without a "type" field
+     */
+    @PostMapping(consumes = {"application/x-ndjson", "application/jsonl", "application/octet-stream", "text/plain"})
+    public ResponseEntity<ImportJob> createImport(@RequestParam(required = false) String type,
+                                                  @RequestParam(required = false) String fileName,
+                                                  @AuthenticationPrincipal AuthenticatedUser user,
+                                                  InputStream body) {
+        ImportJob job = importService.create(fileName, type, body, user.getUserId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Get the most recent imports
+     */
+    @GetMapping
+    public ResponseEntity<List<ImportJob>> getImports(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(importService.findRecent(limit));
+    }
+
+    /**
+     * Get an import with its progress: lines committed out of total lines, and inserted, duplicate
+     * and rejected counts
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJob> getImport(@PathVariable Integer id) {
+        return ResponseEntity.ok(importService.findById(id));
+    }
+
+    /**
+     * Get the rejected lines of an import with their reasons
+     */
+    @GetMapping("/{id}/rejections")
+    public ResponseEntity<List<ImportRejection>> getRejections(@PathVariable Integer id,
+                                                               @RequestParam(defaultValue = "0") int offset,
+                                                               @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(importService.findRejections(id, offset, limit));
+    }
+
+    /**
+     * Resume an interrupted or failed import after its last committed line
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ImportJob> resumeImport(@PathVariable Integer id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.resume(id));
+    }
+
+    /**
+     * Stop a queued or running import after its current chunk; it can be resumed later
+     */
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<ImportJob> stopImport(@PathVariable Integer id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.stop(id));
+    }
+}
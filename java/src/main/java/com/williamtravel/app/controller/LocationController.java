@@ -1,7 +1,15 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CardView;
+import com.williamtravel.app.dto.CursorPage;
+import com.williamtravel.app.dto.LocationDetail;
+import com.williamtravel.app.dto.LocationSummary;
+import com.williamtravel.app.dto.NearbyResult;
 import com.williamtravel.app.entity.Location;
+import com.williamtravel.app.service.CardViewService;
 import com.williamtravel.app.service.LocationService;
+import com.williamtravel.app.service.StreamingExportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,9 +17,11 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,25 +35,64 @@ public class LocationController {
     @Autowired
     private LocationService locationService;
 
+    @Autowired
+    private CardViewService cardViewService;
+
+    @Autowired
+    private StreamingExportService streamingExportService;
+
     /**
      * Get all locations
      */
     @GetMapping
-    public ResponseEntity<List<Location>> getAllLocations() {
-        List<Location> locations = locationService.findAll();
+    public ResponseEntity<List<LocationSummary>> getAllLocations() {
+        List<LocationSummary> locations = locationService.findAllSummaries();
         return ResponseEntity.ok(locations);
     }
 
+    /**
+     * Export locations as NDJSON, or as a JSON array with format=json, streamed row by row
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLocations(@RequestParam(defaultValue = "ndjson") String format) {
+        return streamingExportService.export(format, "locations", locationService::streamAllSummaries);
+    }
+
     /**
      * Get location by ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Location> getLocationById(@PathVariable Integer id) {
-        Optional<Location> location = locationService.findById(id);
+    public ResponseEntity<LocationDetail> getLocationById(@PathVariable Integer id) {
+        Optional<LocationDetail> location = locationService.findDetailById(id);
         return location.map(ResponseEntity::ok)
                       .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get location summaries for a batch of IDs, keyed by ID; unknown IDs are left out
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Integer, LocationSummary>> getLocationsByIds(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(locationService.findSummariesByIds(request.distinctIds()));
+    }
+
+    /**
+     * Get a page of location cards: summary, main image and rating, filtered by active status (default true)
+     */
+    @GetMapping("/cards")
+    public ResponseEntity<Page<CardView<LocationSummary>>> getLocationCards(@RequestParam(defaultValue = "true") Boolean isActive,
+                                                                            Pageable pageable) {
+        return ResponseEntity.ok(cardViewService.findLocationCards(isActive, pageable));
+    }
+
+    /**
+     * Get location cards for a batch of IDs, keyed by ID; unknown IDs are left out
+     */
+    @PostMapping("/cards/batch")
+    public ResponseEntity<Map<Integer, CardView<LocationSummary>>> getLocationCardsByIds(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(cardViewService.findLocationCards(request.distinctIds()));
+    }
+
     /**
      * Create new location
      */
@@ -93,8 +142,8 @@ public class LocationController {
      * Get all locations with pagination
      */
     @GetMapping("/paginated")
-    public ResponseEntity<Page<Location>> getAllLocationsPaginated(Pageable pageable) {
-        Page<Location> locations = locationService.findAll(pageable);
+    public ResponseEntity<Page<LocationSummary>> getAllLocationsPaginated(Pageable pageable) {
+        Page<LocationSummary> locations = locationService.findAllSummaries(pageable);
         return ResponseEntity.ok(locations);
     }
 
@@ -151,9 +200,21 @@ public class LocationController {
      * Find locations by active status with pagination
      */
     @GetMapping("/by-status/paginated")
-    public ResponseEntity<Page<Location>> getLocationsByStatusPaginated(
+    public ResponseEntity<Page<LocationSummary>> getLocationsByStatusPaginated(
             @RequestParam Boolean isActive, Pageable pageable) {
-        Page<Location> locations = locationService.findByIsActive(isActive, pageable);
+        Page<LocationSummary> locations = locationService.findSummariesByIsActive(isActive, pageable);
+        return ResponseEntity.ok(locations);
+    }
+
+    /**
+     * Find locations by active status, newest first, one cursor slice at a time
+     */
+    @GetMapping("/by-status/cursor")
+    public ResponseEntity<CursorPage<LocationSummary>> getLocationsByStatusCursor(
+            @RequestParam Boolean isActive,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<LocationSummary> locations = locationService.findSummariesByIsActive(isActive, cursor, size);
         return ResponseEntity.ok(locations);
     }
 
@@ -404,6 +465,41 @@ public class LocationController {
         return ResponseEntity.ok(locations);
     }
 
+    /**
+     * Find active locations within a radius of a point, nearest first
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyResult<LocationSummary>>> getNearbyLocations(
+            @RequestParam Double lat, @RequestParam Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        List<NearbyResult<LocationSummary>> locations = locationService.findNearby(lat, lng, radiusKm, limit);
+        return ResponseEntity.ok(locations);
+    }
+
+    /**
+     * Find the k active locations nearest to a point
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearbyResult<LocationSummary>>> getNearestLocations(
+            @RequestParam Double lat, @RequestParam Double lng,
+            @RequestParam(required = false) Integer k) {
+        List<NearbyResult<LocationSummary>> locations = locationService.findNearest(lat, lng, k);
+        return ResponseEntity.ok(locations);
+    }
+
+    /**
+     * Find active locations inside a map viewport; minLng greater than maxLng spans the antimeridian
+     */
+    @GetMapping("/in-bounds")
+    public ResponseEntity<List<LocationSummary>> getLocationsInBounds(
+            @RequestParam Double minLat, @RequestParam Double maxLat,
+            @RequestParam Double minLng, @RequestParam Double maxLng,
+            @RequestParam(required = false) Integer limit) {
+        List<LocationSummary> locations = locationService.findSummariesWithinBounds(minLat, maxLat, minLng, maxLng, limit);
+        return ResponseEntity.ok(locations);
+    }
+
     // ==================== SEARCH AND FILTERING ====================
 
     /**
@@ -0,0 +1,58 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.config.LoggingSwitches;
+import com.williamtravel.app.dto.LoggingSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for switching per-call logging and access log sampling at runtime
+ */
+@RestController
+@RequestMapping("/api/admin/logging")
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasRole('ADMIN')")
+public class LoggingAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingAdminController.class);
+
+    @Autowired
+    private LoggingSwitches loggingSwitches;
+
+    /**
+     * Get the current logging settings
+     */
+    @GetMapping
+    public ResponseEntity<LoggingSettings> getLoggingSettings() {
+        return ResponseEntity.ok(currentSettings());
+    }
+
+    /**
+     * Update the logging settings; they apply to the next request and are not persisted across restarts
+     */
+    @PutMapping
+    public ResponseEntity<LoggingSettings> updateLoggingSettings(@RequestBody LoggingSettings settings) {
+        if (settings.accessLogSampleRate() != null) {
+            loggingSwitches.setAccessLogSampleRate(settings.accessLogSampleRate());
+        }
+        if (settings.slowRequestMillis() != null) {
+            loggingSwitches.setSlowRequestMillis(settings.slowRequestMillis());
+        }
+        if (settings.callLogging() != null) {
+            loggingSwitches.setCallLogging(settings.callLogging());
+        }
+        LoggingSettings current = currentSettings();
+        logger.info("Logging settings changed: {}", current);
+        return ResponseEntity.ok(current);
+    }
+
+    private LoggingSettings currentSettings() {
+        return new LoggingSettings(loggingSwitches.isCallLogging(),
+                loggingSwitches.getAccessLogSampleRate(),
+                loggingSwitches.getSlowRequestMillis());
+    }
+}
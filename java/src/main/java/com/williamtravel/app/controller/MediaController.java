@@ -1,7 +1,11 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CursorPage;
+import com.williamtravel.app.dto.MediaSummary;
 import com.williamtravel.app.entity.Media;
 import com.williamtravel.app.service.MediaService;
+import com.williamtravel.app.service.StreamingExportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,9 +13,11 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,6 +31,9 @@ public class MediaController {
     @Autowired
     private MediaService mediaService;
 
+    @Autowired
+    private StreamingExportService streamingExportService;
+
     // ==================== EXISTING ENDPOINTS ====================
 
     /**
@@ -36,6 +45,14 @@ public class MediaController {
         return ResponseEntity.ok(media);
     }
 
+    /**
+     * Export media as NDJSON, or as a JSON array with format=json, streamed row by row
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMedia(@RequestParam(defaultValue = "ndjson") String format) {
+        return streamingExportService.export(format, "media", mediaService::streamAllSummaries);
+    }
+
     /**
      * Get media by ID
      */
@@ -120,6 +137,16 @@ public class MediaController {
         return ResponseEntity.ok(media);
     }
 
+    /**
+     * Find media by reference, newest first, one cursor slice at a time
+     */
+    @GetMapping("/reference/{referenceId}/{referenceType}/cursor")
+    public ResponseEntity<CursorPage<Media>> getMediaByReferenceCursor(@PathVariable Integer referenceId, @PathVariable String referenceType,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        CursorPage<Media> media = mediaService.findByReference(referenceId, referenceType, cursor, size);
+        return ResponseEntity.ok(media);
+    }
+
     // Find by reference type
     /**
      * Find media by reference type
@@ -228,6 +255,22 @@ public class MediaController {
                    .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get the main media of a batch of referenced entities, keyed by reference ID; references without one are left out
+     */
+    @PostMapping("/main/reference/batch")
+    public ResponseEntity<Map<Integer, MediaSummary>> getMainMediaByReferences(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(mediaService.findMainSummariesByReferences(request.requiredReferenceType(), request.distinctIds()));
+    }
+
+    /**
+     * Get all media of a batch of referenced entities, grouped by reference ID
+     */
+    @PostMapping("/reference/batch")
+    public ResponseEntity<Map<Integer, List<MediaSummary>>> getMediaByReferences(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(mediaService.findSummariesByReferences(request.requiredReferenceType(), request.distinctIds()));
+    }
+
     /**
      * Find all main media
      */
@@ -0,0 +1,88 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.dto.AccommodationSummary;
+import com.williamtravel.app.dto.ArticleSummary;
+import com.williamtravel.app.dto.CardView;
+import com.williamtravel.app.dto.FoodSummary;
+import com.williamtravel.app.dto.LocationSummary;
+import com.williamtravel.app.service.ArticleService;
+import com.williamtravel.app.service.CardViewService;
+import com.williamtravel.app.service.PopularityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * REST Controller for the most popular locations, accommodations, foods and articles, overall or within
+ * a category and/or region. Lists come from the in-memory top lists of the popularity scoring job and
+ * hold at most popularity.top-k items each.
+ */
+@RestController
+@RequestMapping("/api/popular")
+@CrossOrigin(origins = "*")
+public class PopularityController {
+
+    @Autowired
+    private PopularityService popularityService;
+
+    @Autowired
+    private CardViewService cardViewService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    /**
+     * Get the most popular active locations as cards
+     */
+    @GetMapping("/locations")
+    public ResponseEntity<List<CardView<LocationSummary>>> getPopularLocations(
+            @RequestParam(required = false) Integer categoryId, @RequestParam(required = false) Integer regionId,
+            @RequestParam(required = false) Integer offset, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(load(PopularityService.LOCATION, categoryId, regionId, offset, limit,
+                cardViewService::findActiveLocationCards));
+    }
+
+    /**
+     * Get the most popular active accommodations as cards
+     */
+    @GetMapping("/accommodations")
+    public ResponseEntity<List<CardView<AccommodationSummary>>> getPopularAccommodations(
+            @RequestParam(required = false) Integer categoryId, @RequestParam(required = false) Integer regionId,
+            @RequestParam(required = false) Integer offset, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(load(PopularityService.ACCOMMODATION, categoryId, regionId, offset, limit,
+                cardViewService::findActiveAccommodationCards));
+    }
+
+    /**
+     * Get the most popular available foods as cards
+     */
+    @GetMapping("/foods")
+    public ResponseEntity<List<CardView<FoodSummary>>> getPopularFoods(
+            @RequestParam(required = false) Integer categoryId, @RequestParam(required = false) Integer regionId,
+            @RequestParam(required = false) Integer offset, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(load(PopularityService.FOOD, categoryId, regionId, offset, limit,
+                cardViewService::findAvailableFoodCards));
+    }
+
+    /**
+     * Get the most popular published articles as summaries
+     */
+    @GetMapping("/articles")
+    public ResponseEntity<List<ArticleSummary>> getPopularArticles(
+            @RequestParam(required = false) Integer categoryId, @RequestParam(required = false) Integer regionId,
+            @RequestParam(required = false) Integer offset, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(load(PopularityService.ARTICLE, categoryId, regionId, offset, limit,
+                articleService::findPublishedSummariesByIds));
+    }
+
+    private <T> List<T> load(String type, Integer categoryId, Integer regionId, Integer offset, Integer limit,
+                             Function<List<Integer>, Map<Integer, T>> loader) {
+        List<Integer> ids = popularityService.findTopIds(type, categoryId, regionId, offset, limit);
+        return ids.isEmpty() ? List.of() : new ArrayList<>(loader.apply(ids).values());
+    }
+}
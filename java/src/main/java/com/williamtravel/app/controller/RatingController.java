@@ -1,17 +1,25 @@
 package com.williamtravel.app.controller;
 
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CursorPage;
+import com.williamtravel.app.dto.RatingStats;
 import com.williamtravel.app.entity.Rating;
 import com.williamtravel.app.service.RatingService;
+import com.williamtravel.app.service.RatingSummaryService;
+import com.williamtravel.app.service.StreamingExportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,6 +33,12 @@ public class RatingController {
     @Autowired
     private RatingService ratingService;
 
+    @Autowired
+    private StreamingExportService streamingExportService;
+
+    @Autowired
+    private RatingSummaryService ratingSummaryService;
+
     // ==================== EXISTING ENDPOINTS ====================
 
     /**
@@ -36,6 +50,14 @@ public class RatingController {
         return ResponseEntity.ok(ratings);
     }
 
+    /**
+     * Export ratings as NDJSON, or as a JSON array with format=json, streamed row by row
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRatings(@RequestParam(defaultValue = "ndjson") String format) {
+        return streamingExportService.export(format, "ratings", ratingService::streamAllRows);
+    }
+
     /**
      * Get rating by ID
      */
@@ -120,6 +142,16 @@ public class RatingController {
         return ResponseEntity.ok(ratings);
     }
 
+    /**
+     * Get ratings by reference, newest first, one cursor slice at a time
+     */
+    @GetMapping("/reference/{referenceId}/{referenceType}/cursor")
+    public ResponseEntity<CursorPage<Rating>> getRatingsByReferenceCursor(@PathVariable Integer referenceId, @PathVariable String referenceType,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        CursorPage<Rating> ratings = ratingService.findByReference(referenceId, referenceType, cursor, size);
+        return ResponseEntity.ok(ratings);
+    }
+
     // Find by user
     /**
      * Get ratings by user ID
@@ -276,6 +308,33 @@ public class RatingController {
         return ResponseEntity.ok(distribution);
     }
 
+    /**
+     * Get rating summary (count, average, range and star histogram) by reference
+     */
+    @GetMapping("/summary/reference/{referenceId}/{referenceType}")
+    public ResponseEntity<RatingStats> getRatingSummaryByReference(@PathVariable Integer referenceId, @PathVariable String referenceType) {
+        RatingStats stats = ratingSummaryService.findStats(referenceType, referenceId);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Get rating summaries for a batch of referenced entities, keyed by reference ID
+     */
+    @PostMapping("/summary/batch")
+    public ResponseEntity<Map<Integer, RatingStats>> getRatingSummariesByReferences(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(ratingSummaryService.findStats(request.requiredReferenceType(), request.distinctIds()));
+    }
+
+    /**
+     * Rebuild all rating summaries from the ratings table
+     */
+    @PostMapping("/summary/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildRatingSummaries() {
+        ratingSummaryService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
     // Top rated entities by type
     /**
      * Get top rated entities by type
@@ -316,6 +375,14 @@ public class RatingController {
         return ResponseEntity.ok(ratings);
     }
 
+    /**
+     * Export ratings with reviews as NDJSON, or as a JSON array with format=json, streamed row by row
+     */
+    @GetMapping("/with-reviews/export")
+    public ResponseEntity<StreamingResponseBody> exportRatingsWithReviews(@RequestParam(defaultValue = "ndjson") String format) {
+        return streamingExportService.export(format, "ratings with reviews", ratingService::streamRowsWithReviews);
+    }
+
     /**
      * Get ratings with reviews with pagination
      */
@@ -0,0 +1,112 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.dto.AllotmentRequest;
+import com.williamtravel.app.dto.HoldRequest;
+import com.williamtravel.app.dto.RoomAvailability;
+import com.williamtravel.app.entity.RoomHold;
+import com.williamtravel.app.entity.RoomInventory;
+import com.williamtravel.app.security.AuthenticatedUser;
+import com.williamtravel.app.service.AvailabilityIndexService;
+import com.williamtravel.app.service.RoomInventoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for room availability search, per-night allotments and holds
+ */
+@RestController
+@RequestMapping("/api/inventory")
+@CrossOrigin(origins = "*")
+public class RoomInventoryController {
+
+    @Autowired
+    private AvailabilityIndexService availabilityIndexService;
+
+    @Autowired
+    private RoomInventoryService roomInventoryService;
+
+    /**
+     * Search rooms free for every night from checkIn up to checkOut, cheapest first.
+     * Served from the in-memory availability index; a hold confirms the units against the database.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<List<RoomAvailability>> searchAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @RequestParam(required = false) Integer guests,
+            @RequestParam(required = false) Integer quantity,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Integer regionId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(availabilityIndexService.search(checkIn, checkOut, guests, quantity,
+                minPrice, maxPrice, regionId, limit));
+    }
+
+    /**
+     * Get a room's allotted, booked and held units per night
+     */
+    @GetMapping("/rooms/{roomId}")
+    public ResponseEntity<List<RoomInventory>> getRoomCalendar(
+            @PathVariable Integer roomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(roomInventoryService.findCalendar(roomId, from, to));
+    }
+
+    /**
+     * Set the units a room offers on each night of a range
+     */
+    @PutMapping("/rooms/{roomId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RoomInventory>> setAllotment(@PathVariable Integer roomId,
+                                                            @RequestBody AllotmentRequest request) {
+        return ResponseEntity.ok(roomInventoryService.setAllotment(roomId, request.from(), request.to(),
+                request.allotment()));
+    }
+
+    /**
+     * Get the current user's most recent holds
+     */
+    @GetMapping("/holds")
+    public ResponseEntity<List<RoomHold>> getMyHolds(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(roomInventoryService.findHoldsByUser(user.getUserId()));
+    }
+
+    /**
+     * Hold units of a room for a stay; answers 409 when any night has too few units left
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<RoomHold> createHold(@AuthenticationPrincipal AuthenticatedUser user,
+                                               @RequestBody HoldRequest request) {
+        RoomHold hold = roomInventoryService.hold(user.getUserId(), request.roomId(), request.checkIn(),
+                request.checkOut(), request.quantity());
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+    /**
+     * Commit a hold into a booking
+     */
+    @PostMapping("/holds/{id}/commit")
+    public ResponseEntity<RoomHold> commitHold(@AuthenticationPrincipal AuthenticatedUser user,
+                                               @PathVariable Integer id) {
+        return ResponseEntity.ok(roomInventoryService.commit(id, user));
+    }
+
+    /**
+     * Release a hold before it expires
+     */
+    @DeleteMapping("/holds/{id}")
+    public ResponseEntity<RoomHold> releaseHold(@AuthenticationPrincipal AuthenticatedUser user,
+                                                @PathVariable Integer id) {
+        return ResponseEntity.ok(roomInventoryService.release(id, user));
+    }
+}
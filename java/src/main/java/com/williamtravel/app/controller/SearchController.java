@@ -0,0 +1,33 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.dto.SearchResult;
+import com.williamtravel.app.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for full-text search across catalog and content entities
+ */
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    /**
+     * Search locations, accommodations, foods and articles, ranked by relevance.
+     * Matching ignores case and Vietnamese diacritics; types narrows the entity types searched.
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchResult>> search(@RequestParam String q,
+                                                     @RequestParam(required = false) List<String> types,
+                                                     @RequestParam(required = false) Integer limit) {
+        List<SearchResult> results = searchService.search(q, types, limit);
+        return ResponseEntity.ok(results);
+    }
+}
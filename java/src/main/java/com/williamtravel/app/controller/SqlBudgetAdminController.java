@@ -0,0 +1,39 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.config.SqlStatementBudgetInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST Controller for the per-endpoint SQL statement budget counters
+ */
+@RestController
+@RequestMapping("/api/admin/sql-budget")
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasRole('ADMIN')")
+public class SqlBudgetAdminController {
+
+    @Autowired
+    private SqlStatementBudgetInterceptor sqlStatementBudgetInterceptor;
+
+    /**
+     * Get statement counts and budget violations per endpoint
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatementBudgetStats() {
+        return ResponseEntity.ok(sqlStatementBudgetInterceptor.statsSummary());
+    }
+
+    /**
+     * Reset the recorded counts
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> resetStatementBudgetStats() {
+        sqlStatementBudgetInterceptor.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
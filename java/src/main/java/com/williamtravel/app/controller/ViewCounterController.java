@@ -0,0 +1,35 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.service.ViewCounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for recording page views of articles, events, community posts and catalog items
+ */
+@RestController
+@RequestMapping("/api/views")
+@CrossOrigin(origins = "*")
+public class ViewCounterController {
+
+    @Autowired
+    private ViewCounterService viewCounterService;
+
+    /**
+     * Record a view; type is article, event, community-post, location, accommodation or food
+     */
+    @PostMapping("/{type}/{id}")
+    public ResponseEntity<Void> recordView(@PathVariable String type, @PathVariable Integer id) {
+        viewCounterService.increment(ViewCounterService.Target.fromType(type), id);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * Get views recorded for an item but not yet written to the database
+     */
+    @GetMapping("/{type}/{id}/pending")
+    public ResponseEntity<Long> getPendingViews(@PathVariable String type, @PathVariable Integer id) {
+        return ResponseEntity.ok(viewCounterService.pending(ViewCounterService.Target.fromType(type), id));
+    }
+}
@@ -0,0 +1,38 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Detail view of an accommodation; the owner is exposed by ID only
+ */
+public record AccommodationDetail(
+        Integer id,
+        Integer userId,
+        String name,
+        String nameCode,
+        String description,
+        String descriptionCode,
+        Double latitude,
+        Double longitude,
+        String address,
+        String city,
+        String thumbnailUrl,
+        Double priceMin,
+        Double priceMax,
+        Double popularityScore,
+        Double rating,
+        LocalTime checkinTime,
+        LocalTime checkoutTime,
+        String cancelPolicy,
+        String petPolicy,
+        String childPolicy,
+        Boolean isActive,
+        NamedReference category,
+        NamedReference country,
+        NamedReference region,
+        NamedReference district,
+        NamedReference ward,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
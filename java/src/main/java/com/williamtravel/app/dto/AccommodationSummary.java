@@ -0,0 +1,27 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of an accommodation, selected column-by-column by repository projections
+ */
+public record AccommodationSummary(
+        Integer id,
+        String name,
+        String thumbnailUrl,
+        String city,
+        Double latitude,
+        Double longitude,
+        Double priceMin,
+        Double priceMax,
+        Double rating,
+        Double popularityScore,
+        Boolean isActive,
+        Integer categoryId,
+        String categoryName,
+        Integer countryId,
+        String countryName,
+        Integer regionId,
+        String regionName,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,12 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Units of a room to offer on each night from the first date up to, but not including, the second
+ */
+public record AllotmentRequest(
+        LocalDate from,
+        LocalDate to,
+        Integer allotment) {
+}
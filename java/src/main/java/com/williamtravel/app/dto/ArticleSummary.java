@@ -0,0 +1,18 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of an article with its author by ID, selected column-by-column by repository projections
+ */
+public record ArticleSummary(
+        Integer id,
+        String title,
+        String slug,
+        String description,
+        String thumbnailUrl,
+        Integer viewCount,
+        Boolean status,
+        Integer authorId,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,82 @@
+package com.williamtravel.app.dto;
+
+import com.williamtravel.app.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Body of a batch lookup: the IDs to resolve and, for media and ratings, the type of entity they reference
+ */
+public record BatchRequest(
+        List<Integer> ids,
+        String referenceType) {
+
+    /** Largest number of IDs accepted in one batch */
+    public static final int MAX_IDS = 200;
+
+    /**
+     * The requested IDs without nulls or duplicates, in request order
+     */
+    public List<Integer> distinctIds() {
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException("ids must not be empty");
+        }
+        LinkedHashSet<Integer> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        if (distinct.size() > MAX_IDS) {
+            throw new BadRequestException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * The reference type, required for lookups by reference
+     */
+    public String requiredReferenceType() {
+        if (referenceType == null || referenceType.isBlank()) {
+            throw new BadRequestException("referenceType is required");
+        }
+        return referenceType;
+    }
+
+    /**
+     * Key loaded rows by ID in request order, leaving out IDs that matched nothing
+     */
+    public static <T> Map<Integer, T> keyed(List<Integer> ids, Collection<T> rows, Function<T, Integer> idOf) {
+        Map<Integer, T> byId = new LinkedHashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            byId.putIfAbsent(idOf.apply(row), row);
+        }
+        Map<Integer, T> result = new LinkedHashMap<>(byId.size() * 2);
+        for (Integer id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                result.put(id, row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Group loaded rows by ID in request order, with an empty group for IDs that matched nothing
+     */
+    public static <T> Map<Integer, List<T>> grouped(List<Integer> ids, Collection<T> rows, Function<T, Integer> idOf) {
+        Map<Integer, List<T>> result = new LinkedHashMap<>(ids.size() * 2);
+        for (Integer id : ids) {
+            result.put(id, new ArrayList<>());
+        }
+        for (T row : rows) {
+            List<T> group = result.get(idOf.apply(row));
+            if (group != null) {
+                group.add(row);
+            }
+        }
+        return result;
+    }
+}
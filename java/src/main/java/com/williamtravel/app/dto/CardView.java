@@ -0,0 +1,12 @@
+package com.williamtravel.app.dto;
+
+/**
+ * Everything a listing card shows: the item's summary (with category and geography names),
+ * its main image and its rating aggregates
+ */
+public record CardView<T>(
+        T item,
+        MediaSummary mainImage,
+        Double ratingAverage,
+        long ratingCount) {
+}
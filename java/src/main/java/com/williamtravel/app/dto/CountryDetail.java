@@ -0,0 +1,21 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Detail view of a country with its continent as a reference
+ */
+public record CountryDetail(
+        Integer id,
+        String code,
+        String name,
+        String nameCode,
+        String description,
+        String descriptionCode,
+        String backgroundImage,
+        String logo,
+        Integer status,
+        NamedReference continent,
+        LocalDate createdDate,
+        LocalDate updatedDate) {
+}
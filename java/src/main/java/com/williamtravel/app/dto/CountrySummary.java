@@ -0,0 +1,13 @@
+package com.williamtravel.app.dto;
+
+/**
+ * List view of a country, selected column-by-column by repository projections
+ */
+public record CountrySummary(
+        Integer id,
+        String code,
+        String name,
+        String logo,
+        Integer status,
+        Integer continentId) {
+}
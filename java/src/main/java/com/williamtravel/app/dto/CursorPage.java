@@ -0,0 +1,27 @@
+package com.williamtravel.app.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One slice of a keyset-paginated list. Carries an opaque cursor for the next
+ * slice instead of page numbers and a total count.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor) {
+
+    /**
+     * Build a slice from rows fetched with one extra row beyond the requested size,
+     * which tells whether another slice follows without counting
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, content.size(), hasNext, nextCursor);
+    }
+}
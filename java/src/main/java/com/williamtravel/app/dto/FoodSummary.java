@@ -0,0 +1,23 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of a food, selected column-by-column by repository projections
+ */
+public record FoodSummary(
+        Integer id,
+        String name,
+        String thumbnailUrl,
+        Double priceMin,
+        Double priceMax,
+        Double popularityScore,
+        Boolean status,
+        Integer categoryId,
+        String categoryName,
+        Integer countryId,
+        String countryName,
+        Integer regionId,
+        String regionName,
+        LocalDateTime createdAt) {
+}
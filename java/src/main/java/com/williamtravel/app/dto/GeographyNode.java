@@ -0,0 +1,21 @@
+package com.williamtravel.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Node of the continent → country → region → district → ward tree.
+ * Children are null when the requested depth stops at this node.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GeographyNode(
+        String level,
+        Integer id,
+        String code,
+        String name,
+        String nameCode,
+        Integer status,
+        Integer parentId,
+        List<GeographyNode> children) {
+}
@@ -0,0 +1,13 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Units of a room to hold for a stay; quantity defaults to one
+ */
+public record HoldRequest(
+        Integer roomId,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        Integer quantity) {
+}
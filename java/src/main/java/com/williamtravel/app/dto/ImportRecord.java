@@ -0,0 +1,30 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalTime;
+
+/**
+ * One line of a bulk import file. Category and geography are given by name (country also by code) and
+ * resolved against the database; type falls back to the job's default type when missing.
+ */
+public record ImportRecord(
+        String type,
+        String name,
+        String description,
+        Double latitude,
+        Double longitude,
+        String address,
+        String city,
+        String thumbnailUrl,
+        Double priceMin,
+        Double priceMax,
+        String category,
+        String country,
+        String region,
+        String district,
+        String ward,
+        LocalTime checkinTime,
+        LocalTime checkoutTime,
+        String cancelPolicy,
+        String petPolicy,
+        String childPolicy) {
+}
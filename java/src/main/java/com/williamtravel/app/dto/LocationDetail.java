@@ -0,0 +1,30 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Detail view of a location with its category and geography flattened to references
+ */
+public record LocationDetail(
+        Integer id,
+        String name,
+        String nameCode,
+        String description,
+        String descriptionCode,
+        Double latitude,
+        Double longitude,
+        String address,
+        String city,
+        String thumbnailUrl,
+        Double priceMin,
+        Double priceMax,
+        Double popularityScore,
+        Boolean isActive,
+        NamedReference category,
+        NamedReference country,
+        NamedReference region,
+        NamedReference district,
+        NamedReference ward,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
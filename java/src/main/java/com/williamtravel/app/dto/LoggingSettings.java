@@ -0,0 +1,10 @@
+package com.williamtravel.app.dto;
+
+/**
+ * Runtime logging settings; fields left null in an update keep their current value
+ */
+public record LoggingSettings(
+        Boolean callLogging,
+        Double accessLogSampleRate,
+        Long slowRequestMillis) {
+}
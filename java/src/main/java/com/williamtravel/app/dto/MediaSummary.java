@@ -0,0 +1,23 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of a media item, selected column-by-column by repository projections
+ */
+public record MediaSummary(
+        Integer id,
+        Integer typeId,
+        Integer categoryId,
+        Integer referenceId,
+        String referenceType,
+        String url,
+        String title,
+        String altText,
+        Integer sortOrder,
+        Boolean isMain,
+        Integer width,
+        Integer height,
+        Integer status,
+        LocalDateTime uploadedAt) {
+}
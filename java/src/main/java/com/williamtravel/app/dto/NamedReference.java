@@ -0,0 +1,7 @@
+package com.williamtravel.app.dto;
+
+/**
+ * Compact reference to a related entity (category, country, region, etc.)
+ */
+public record NamedReference(Integer id, String name) {
+}
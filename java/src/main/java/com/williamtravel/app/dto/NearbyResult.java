@@ -0,0 +1,36 @@
+package com.williamtravel.app.dto;
+
+import com.williamtravel.app.util.SpatialGrid;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An item matched by a proximity query, with its distance from the query point
+ */
+public record NearbyResult<T>(
+        T item,
+        double distanceKm) {
+
+    /**
+     * Pair loaded rows with index hits, keeping the hits' distance order and skipping rows no longer present
+     */
+    public static <T> List<NearbyResult<T>> of(List<SpatialGrid.Hit> hits, Collection<T> rows, Function<T, Integer> idOf) {
+        Map<Integer, T> byId = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+        List<NearbyResult<T>> results = new ArrayList<>(hits.size());
+        for (SpatialGrid.Hit hit : hits) {
+            T row = byId.get(hit.id());
+            if (row != null) {
+                results.add(new NearbyResult<>(row, hit.distanceKm()));
+            }
+        }
+        return results;
+    }
+}
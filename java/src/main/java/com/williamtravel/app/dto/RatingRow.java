@@ -0,0 +1,16 @@
+package com.williamtravel.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat view of a rating with its author by ID, used for streamed exports
+ */
+public record RatingRow(
+        Integer id,
+        Integer referenceId,
+        String referenceType,
+        Integer userId,
+        Double rating,
+        String comment,
+        LocalDateTime createdAt) {
+}
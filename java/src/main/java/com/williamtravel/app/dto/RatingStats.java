@@ -0,0 +1,38 @@
+package com.williamtravel.app.dto;
+
+import com.williamtravel.app.entity.RatingSummary;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rating aggregates of one rated entity: count, average, range and a 1-5 star histogram
+ */
+public record RatingStats(
+        String referenceType,
+        Integer referenceId,
+        long count,
+        Double average,
+        Double min,
+        Double max,
+        Map<Integer, Long> histogram) {
+
+    public static RatingStats of(RatingSummary summary) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, summary.getStar1());
+        histogram.put(2, summary.getStar2());
+        histogram.put(3, summary.getStar3());
+        histogram.put(4, summary.getStar4());
+        histogram.put(5, summary.getStar5());
+        return new RatingStats(summary.getReferenceType(), summary.getReferenceId(), summary.getRatingCount(),
+                summary.getAverageRating(), summary.getMinRating(), summary.getMaxRating(), histogram);
+    }
+
+    public static RatingStats empty(String referenceType, Integer referenceId) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int star = 1; star <= 5; star++) {
+            histogram.put(star, 0L);
+        }
+        return new RatingStats(referenceType, referenceId, 0L, null, null, null, histogram);
+    }
+}
@@ -0,0 +1,15 @@
+package com.williamtravel.app.dto;
+
+/**
+ * A room free for a whole stay, with the units free on its fullest night and the price of the stay per unit
+ */
+public record RoomAvailability(
+        Integer roomId,
+        Integer accommodationId,
+        Integer regionId,
+        Integer capacity,
+        Double pricePerNight,
+        Integer nights,
+        Double totalPrice,
+        Integer unitsAvailable) {
+}
@@ -0,0 +1,17 @@
+package com.williamtravel.app.dto;
+
+/**
+ * Row returned by the native full-text search queries; aliases in each query match these getters
+ */
+public interface SearchHit {
+
+    Integer getId();
+
+    String getTitle();
+
+    String getSnippet();
+
+    String getThumbnailUrl();
+
+    Double getScore();
+}
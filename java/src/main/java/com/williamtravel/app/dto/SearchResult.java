@@ -0,0 +1,18 @@
+package com.williamtravel.app.dto;
+
+/**
+ * One ranked hit of the cross-entity search
+ */
+public record SearchResult(
+        String type,
+        Integer id,
+        String title,
+        String snippet,
+        String thumbnailUrl,
+        double score) {
+
+    public static SearchResult of(String type, SearchHit hit) {
+        return new SearchResult(type, hit.getId(), hit.getTitle(), hit.getSnippet(), hit.getThumbnailUrl(),
+                hit.getScore() != null ? hit.getScore() : 0d);
+    }
+}
@@ -1,8 +1,11 @@
 package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.Where;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -11,15 +14,30 @@ import java.util.Set;
 
 @Entity
 @Table(name = "accommodations")
-@Data
-public class Accommodation {
+@NamedEntityGraph(name = Accommodation.LIST_GRAPH, attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("country"), @NamedAttributeNode("region")})
+@NamedEntityGraph(name = Accommodation.DETAIL_GRAPH, attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("country"), @NamedAttributeNode("region"), @NamedAttributeNode("district"), @NamedAttributeNode("ward")})
+@NamedEntityGraph(name = Accommodation.ADMIN_GRAPH, attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("category"), @NamedAttributeNode("country"), @NamedAttributeNode("region"), @NamedAttributeNode("district"), @NamedAttributeNode("ward")})
+@Getter
+@Setter
+@ToString
+public class Accommodation extends BaseEntity {
+
+    /** Fetch plan for list endpoints: category, country, region */
+    public static final String LIST_GRAPH = "Accommodation.list";
+
+    /** Fetch plan for detail endpoints: category, country, region, district, ward */
+    public static final String DETAIL_GRAPH = "Accommodation.detail";
+
+    /** Fetch plan for owner and admin listings, which also show the owning user: user, category, country, region, district, ward */
+    public static final String ADMIN_GRAPH = "Accommodation.admin";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
     private Integer id;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -50,23 +68,28 @@ public class Accommodation {
     @Column(name = "city", length = 100)
     private String city;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "country_id")
     private Country country;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "region_id")
     private Region region;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "district_id")
     private District district;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ward_id")
     private Ward ward;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private AccommodationCategory category;
 
@@ -82,6 +105,9 @@ public class Accommodation {
     @Column(name = "popularity_score")
     private Double popularityScore;
 
+    @Column(name = "view_count")
+    private Integer viewCount;
+
     @Column(name = "rating")
     private Double rating;
 
@@ -106,12 +132,15 @@ public class Accommodation {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "accommodation")
     private Set<AccommodationRoom> rooms = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany
     @JoinColumn(name = "reference_id")
     @Where(clause = "reference_type = 'accommodation'")
@@ -1,9 +1,15 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +20,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "accommodations_categories")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CATEGORIES_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class AccommodationCategory {
+public class AccommodationCategory extends BaseEntity {
 
     /**
      * Unique identifier for each accommodation category
@@ -48,12 +57,14 @@ public class AccommodationCategory {
     /**
      * Timestamp when category was last updated
      */
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
     /**
      * Accommodations belonging to this category
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "category")
     private Set<Accommodation> accommodations = new HashSet<>();
 }
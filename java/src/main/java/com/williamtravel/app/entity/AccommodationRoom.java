@@ -1,10 +1,14 @@
 package com.williamtravel.app.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.Where;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -14,10 +18,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "accommodation_rooms")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class AccommodationRoom {
+public class AccommodationRoom extends BaseEntity {
 
     /**
      * Unique identifier for each room
@@ -29,6 +35,8 @@ public class AccommodationRoom {
     /**
      * Reference to the accommodation
      */
+    @ToString.Exclude
+    @JsonIgnoreProperties("rooms")
     @ManyToOne
     @JoinColumn(name = "accommodation_id", nullable = false)
     private Accommodation accommodation;
@@ -102,12 +110,14 @@ public class AccommodationRoom {
     /**
      * Timestamp when room was last updated
      */
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
     /**
      * Media items associated with this room
      */
+    @ToString.Exclude
     @OneToMany
     @JoinColumn(name = "reference_id")
     @Where(clause = "reference_type = 'accommodation_room'")
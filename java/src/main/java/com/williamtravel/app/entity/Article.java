@@ -2,8 +2,11 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +17,20 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "article")
-@Data
+@NamedEntityGraph(name = Article.LIST_GRAPH, attributeNodes = {@NamedAttributeNode("country"), @NamedAttributeNode("region")})
+@NamedEntityGraph(name = Article.DETAIL_GRAPH, attributeNodes = {@NamedAttributeNode("author"), @NamedAttributeNode("country"), @NamedAttributeNode("region"), @NamedAttributeNode("district"), @NamedAttributeNode("ward")})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Article {
+public class Article extends BaseEntity {
+
+    /** Fetch plan for list endpoints: country, region */
+    public static final String LIST_GRAPH = "Article.list";
+
+    /** Fetch plan for detail endpoints: author, country, region, district, ward */
+    public static final String DETAIL_GRAPH = "Article.detail";
 
     /**
      * Unique identifier for each article
@@ -30,7 +43,8 @@ public class Article {
     /**
      * Reference to the user who authored this article
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
@@ -73,28 +87,32 @@ public class Article {
     /**
      * Reference to the country the article is about
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "country_id")
     private Country country;
 
     /**
      * Reference to the region the article is about
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "region_id")
     private Region region;
 
     /**
      * Reference to the district the article is about
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "district_id")
     private District district;
 
     /**
      * Reference to the ward the article is about
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ward_id")
     private Ward ward;
 
@@ -110,6 +128,12 @@ public class Article {
     @Column(name = "view_count")
     private Integer viewCount;
 
+    /**
+     * Popularity score for ranking, maintained by the scoring job
+     */
+    @Column(name = "popularity_score")
+    private Double popularityScore;
+
     /**
      * Whether the article is active/published
      */
@@ -125,12 +149,14 @@ public class Article {
     /**
      * Timestamp when article was last updated
      */
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
     /**
      * Categories associated with this article
      */
+    @ToString.Exclude
     @ManyToMany
     @JoinTable(
         name = "article_article_categories",
@@ -142,6 +168,7 @@ public class Article {
     /**
      * Tags associated with this article
      */
+    @ToString.Exclude
     @ManyToMany
     @JoinTable(
         name = "article_article_tags",
@@ -153,12 +180,14 @@ public class Article {
     /**
      * Comments on this article
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "article")
     private Set<ArticleComment> comments = new HashSet<>();
     
     /**
      * Reactions (likes, dislikes) to this article
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "article")
     private Set<ArticleReaction> reactions = new HashSet<>();
 }
@@ -2,18 +2,22 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Junction table linking articles to their categories
  */
 @Entity
 @Table(name = "article_article_categories")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class ArticleArticleCategory {
+public class ArticleArticleCategory extends BaseEntity {
 
     /**
      * Unique identifier for each article-category relationship
@@ -25,6 +29,7 @@ public class ArticleArticleCategory {
     /**
      * Reference to the article
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "article_id", nullable = false)
     private Article article;
@@ -32,6 +37,7 @@ public class ArticleArticleCategory {
     /**
      * Reference to the article category
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "article_categories_id", nullable = false)
     private ArticleCategory articleCategory;
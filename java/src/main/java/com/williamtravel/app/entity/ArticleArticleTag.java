@@ -2,18 +2,22 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Junction table linking articles to their tags
  */
 @Entity
 @Table(name = "article_article_tags")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class ArticleArticleTag {
+public class ArticleArticleTag extends BaseEntity {
 
     /**
      * Unique identifier for each article-tag relationship
@@ -25,6 +29,7 @@ public class ArticleArticleTag {
     /**
      * Reference to the article
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "article_id", nullable = false)
     private Article article;
@@ -32,6 +37,7 @@ public class ArticleArticleTag {
     /**
      * Reference to the article tag
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "article_tags_id", nullable = false)
     private ArticleTag articleTag;
@@ -1,9 +1,15 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +20,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "article_categories")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CATEGORIES_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class ArticleCategory {
+public class ArticleCategory extends BaseEntity {
 
     /**
      * Unique identifier for each article category
@@ -48,6 +57,7 @@ public class ArticleCategory {
     /**
      * Parent category for hierarchical organization
      */
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_category_id")
     private ArticleCategory parentCategory;
@@ -55,6 +65,7 @@ public class ArticleCategory {
     /**
      * Child categories
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "parentCategory", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<ArticleCategory> childCategories = new HashSet<>();
 
@@ -79,12 +90,14 @@ public class ArticleCategory {
     /**
      * Timestamp when category was last updated
      */
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
     /**
      * Articles belonging to this category
      */
+    @ToString.Exclude
     @ManyToMany(mappedBy = "categories")
     private Set<Article> articles = new HashSet<>();
 }
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -12,10 +14,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "article_reaction")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class ArticleReaction {
+public class ArticleReaction extends BaseEntity {
 
     /**
      * Unique identifier for each article reaction
@@ -27,6 +31,7 @@ public class ArticleReaction {
     /**
      * Reference to the user who reacted
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -34,6 +39,7 @@ public class ArticleReaction {
     /**
      * Reference to the article being reacted to
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "article_id", nullable = false)
     private Article article;
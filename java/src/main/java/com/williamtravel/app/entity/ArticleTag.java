@@ -1,9 +1,15 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +20,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "article_tags")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CATEGORIES_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class ArticleTag {
+public class ArticleTag extends BaseEntity {
 
     /**
      * Unique identifier for each article tag
@@ -60,12 +69,14 @@ public class ArticleTag {
     /**
      * Timestamp when tag was last updated
      */
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
     /**
      * Articles using this tag
      */
+    @ToString.Exclude
     @ManyToMany(mappedBy = "tags")
     private Set<Article> articles = new HashSet<>();
 }
@@ -0,0 +1,40 @@
+package com.williamtravel.app.entity;
+
+import org.hibernate.proxy.HibernateProxy;
+
+/**
+ * Identity for all entities: two instances are equal when they are of the same entity class and
+ * have the same non-null id. Neither equals nor hashCode touches associations, and a lazy proxy
+ * compares equal to its loaded entity without being initialized. hashCode is constant per class,
+ * so an entity keeps its hash when it is assigned an id on persist.
+ */
+public abstract class BaseEntity {
+
+    /**
+     * Get the primary key, or null while the entity is transient
+     */
+    public abstract Object getId();
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || effectiveClass(this) != effectiveClass(o)) {
+            return false;
+        }
+        Object id = getId();
+        return id != null && id.equals(((BaseEntity) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return effectiveClass(this).hashCode();
+    }
+
+    private static Class<?> effectiveClass(Object o) {
+        return o instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getPersistentClass()
+                : o.getClass();
+    }
+}
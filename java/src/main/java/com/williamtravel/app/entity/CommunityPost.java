@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +16,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "community_post")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class CommunityPost {
+public class CommunityPost extends BaseEntity {
 
     /**
      * Unique identifier for each community post
@@ -30,6 +34,7 @@ public class CommunityPost {
     /**
      * Reference to the user who created this post
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -37,6 +42,7 @@ public class CommunityPost {
     /**
      * Reference to the post category
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "category_id", nullable = false)
     private CommunityPostCategory category;
@@ -86,18 +92,21 @@ public class CommunityPost {
     /**
      * Comments on this post
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "post")
     private Set<CommunityPostComment> comments = new HashSet<>();
 
     /**
      * Reactions (likes, dislikes) to this post
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "post")
     private Set<CommunityPostReaction> reactions = new HashSet<>();
 
     /**
      * Tags associated with this post
      */
+    @ToString.Exclude
     @ManyToMany
     @JoinTable(
         name = "community_post_community_post_tags",
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +16,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "community_post_categories")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class CommunityPostCategory {
+public class CommunityPostCategory extends BaseEntity {
 
     /**
      * Unique identifier for each community post category
@@ -72,6 +76,7 @@ public class CommunityPostCategory {
     /**
      * Posts belonging to this category
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "category")
     private Set<CommunityPost> posts = new HashSet<>();
 }
\ No newline at end of file
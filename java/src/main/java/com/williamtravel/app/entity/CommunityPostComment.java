@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +16,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "community_post_comment")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class CommunityPostComment {
+public class CommunityPostComment extends BaseEntity {
 
     /**
      * Unique identifier for each comment
@@ -30,6 +34,7 @@ public class CommunityPostComment {
     /**
      * Reference to the user who created the comment
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -37,6 +42,7 @@ public class CommunityPostComment {
     /**
      * Reference to the community post being commented on
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "post_id", nullable = false)
     private CommunityPost post;
@@ -50,6 +56,7 @@ public class CommunityPostComment {
     /**
      * Reference to parent comment for nested replies
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "parent_id")
     private CommunityPostComment parent;
@@ -57,6 +64,7 @@ public class CommunityPostComment {
     /**
      * Replies to this comment
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "parent")
     private Set<CommunityPostComment> replies = new HashSet<>();
 
@@ -81,6 +89,7 @@ public class CommunityPostComment {
     /**
      * Reactions to this comment
      */
+    @ToString.Exclude
     @OneToMany(mappedBy = "comment")
     private Set<CommunityPostReaction> reactions = new HashSet<>();
 }
\ No newline at end of file
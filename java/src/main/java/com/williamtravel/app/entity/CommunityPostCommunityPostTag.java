@@ -2,18 +2,22 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Junction table linking community posts to their tags
  */
 @Entity
 @Table(name = "community_post_community_post_tags")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class CommunityPostCommunityPostTag {
+public class CommunityPostCommunityPostTag extends BaseEntity {
 
     /**
      * Unique identifier for each post-tag relationship
@@ -25,6 +29,7 @@ public class CommunityPostCommunityPostTag {
     /**
      * Reference to the community post
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "community_post_id", nullable = false)
     private CommunityPost communityPost;
@@ -32,6 +37,7 @@ public class CommunityPostCommunityPostTag {
     /**
      * Reference to the community post tag
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "community_post_tag_id", nullable = false)
     private CommunityPostTag communityPostTag;
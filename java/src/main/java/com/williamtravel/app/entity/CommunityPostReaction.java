@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -12,10 +14,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "community_post_reaction")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class CommunityPostReaction {
+public class CommunityPostReaction extends BaseEntity {
 
     /**
      * Unique identifier for each reaction
@@ -28,6 +32,7 @@ public class CommunityPostReaction {
     /**
      * Reference to the user who reacted
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -35,6 +40,7 @@ public class CommunityPostReaction {
     /**
      * Reference to the community post being reacted to
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "post_id", nullable = false)
     private CommunityPost post;
@@ -48,6 +54,7 @@ public class CommunityPostReaction {
     /**
      * Reference to the comment being reacted to (optional)
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "comment_id")
     private CommunityPostComment comment;
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +16,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "community_post_tags")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class CommunityPostTag {
+public class CommunityPostTag extends BaseEntity {
 
     /**
      * Unique identifier for each community post tag
@@ -54,6 +58,7 @@ public class CommunityPostTag {
     /**
      * Posts using this tag
      */
+    @ToString.Exclude
     @ManyToMany(mappedBy = "tags")
     private Set<CommunityPost> posts = new HashSet<>();
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -14,10 +19,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "continents")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.GEOGRAPHY_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Continent {
+public class Continent extends BaseEntity {
 
     /**
      * Unique identifier for each continent
@@ -86,6 +94,7 @@ public class Continent {
     @Column(name = "updated_date")
     private LocalDate updatedDate;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "continent")
     @JsonIgnore
     private Set<Country> countries = new HashSet<>();
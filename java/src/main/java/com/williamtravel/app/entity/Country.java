@@ -1,10 +1,15 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -14,10 +19,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "countries")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.GEOGRAPHY_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Country {
+public class Country extends BaseEntity {
 
     /**
      * Unique identifier for each country
@@ -89,31 +97,38 @@ public class Country {
     /**
      * Reference to the continent this country belongs to
      */
+    @ToString.Exclude
     @ManyToOne
     @JsonIgnore
     @JoinColumn(name = "continent_id", nullable = false)
     private Continent continent;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "country")
     @JsonIgnore
     private Set<Region> regions = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "country")
     @JsonIgnore
     private Set<Location> locations = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "country")
     @JsonIgnore
     private Set<Accommodation> accommodations = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "country")
     @JsonIgnore
     private Set<Food> foods = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "country")
     @JsonIgnore
     private Set<Article> articles = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "country")
     @JsonIgnore
     private Set<Event> events = new HashSet<>();
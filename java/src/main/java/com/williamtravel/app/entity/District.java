@@ -1,9 +1,14 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,10 +18,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "districts")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.GEOGRAPHY_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class District {
+public class District extends BaseEntity {
 
     /**
      * Unique identifier for each district
@@ -88,25 +96,32 @@ public class District {
     /**
      * Reference to the region this district belongs to
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "region_id", nullable = false)
     private Region region;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "district")
     private Set<Ward> wards = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "district")
     private Set<Location> locations = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "district")
     private Set<Accommodation> accommodations = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "district")
     private Set<Food> foods = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "district")
     private Set<Article> articles = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "district")
     private Set<Event> events = new HashSet<>();
 }
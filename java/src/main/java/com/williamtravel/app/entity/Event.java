@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,10 +19,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "event")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Event {
+public class Event extends BaseEntity {
 
     /**
      * Unique identifier for each event
@@ -32,6 +36,7 @@ public class Event {
     /**
      * Reference to the user who created this event
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -39,6 +44,7 @@ public class Event {
     /**
      * Reference to the event organizer
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "organizer_id", nullable = false)
     private Organizer organizer;
@@ -46,6 +52,7 @@ public class Event {
     /**
      * Reference to the event category
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "category_id", nullable = false)
     private EventCategory category;
@@ -83,6 +90,7 @@ public class Event {
     /**
      * Reference to the country where event takes place
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "country_id")
     private Country country;
@@ -90,6 +98,7 @@ public class Event {
     /**
      * Reference to the region where event takes place
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "region_id")
     private Region region;
@@ -97,6 +106,7 @@ public class Event {
     /**
      * Reference to the district where event takes place
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "district_id")
     private District district;
@@ -104,6 +114,7 @@ public class Event {
     /**
      * Reference to the ward where event takes place
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "ward_id")
     private Ward ward;
@@ -168,9 +179,11 @@ public class Event {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "event")
     private Set<EventAttendee> attendees = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "event")
     private Set<EventSponsor> sponsors = new HashSet<>();
 }
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -12,10 +14,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "event_attendee")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class EventAttendee {
+public class EventAttendee extends BaseEntity {
 
     /**
      * Unique identifier for each attendance record
@@ -27,6 +31,7 @@ public class EventAttendee {
     /**
      * Reference to the user attending the event
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -34,6 +39,7 @@ public class EventAttendee {
     /**
      * Reference to the event being attended
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +16,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "event_categories")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class EventCategory {
+public class EventCategory extends BaseEntity {
 
     /**
      * Unique identifier for each event category
@@ -50,6 +54,7 @@ public class EventCategory {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "category")
     private Set<Event> events = new HashSet<>();
 }
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -12,10 +14,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "event_sponsor")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class EventSponsor {
+public class EventSponsor extends BaseEntity {
 
     /**
      * Unique identifier for each sponsorship record
@@ -27,6 +31,7 @@ public class EventSponsor {
     /**
      * Reference to the sponsoring organizer
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "organizer_id", nullable = false)
     private Organizer organizer;
@@ -34,6 +39,7 @@ public class EventSponsor {
     /**
      * Reference to the sponsored event
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
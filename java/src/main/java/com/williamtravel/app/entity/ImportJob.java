@@ -0,0 +1,121 @@
+package com.williamtravel.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import java.time.LocalDateTime;
+
+/**
+ * One bulk import of a JSONL file of locations, foods and accommodations. The uploaded file is kept in
+ * the spool directory; every committed chunk advances linesCommitted in the same transaction, so an
+ * interrupted or failed import resumes at the first line that was not written.
+ */
+@Entity
+@Table(name = "import_job")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob extends BaseEntity {
+
+    public static final String QUEUED = "queued";
+    public static final String RUNNING = "running";
+    public static final String COMPLETED = "completed";
+    public static final String FAILED = "failed";
+    public static final String INTERRUPTED = "interrupted";
+
+    /**
+     * Unique identifier for each import
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * Name of the uploaded file, as given by the client
+     */
+    @Column(name = "file_name", length = 255, nullable = false)
+    private String fileName;
+
+    /**
+     * Path of the spooled copy of the file
+     */
+    @Column(name = "file_path", length = 500, nullable = false)
+    private String filePath;
+
+    /**
+     * Type of lines without a "type" field (location, food or accommodation)
+     */
+    @Column(name = "default_type", length = 50)
+    private String defaultType;
+
+    /**
+     * Current state (queued, running, completed, failed or interrupted)
+     */
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+
+    /**
+     * Number of lines in the file
+     */
+    @Column(name = "total_lines", nullable = false)
+    private Long totalLines;
+
+    /**
+     * Lines already written; an import resumes after this line
+     */
+    @Column(name = "lines_committed", nullable = false)
+    private Long linesCommitted;
+
+    /**
+     * Rows inserted so far
+     */
+    @Column(name = "inserted", nullable = false)
+    private Long inserted;
+
+    /**
+     * Lines skipped as duplicates of an existing row or an earlier line
+     */
+    @Column(name = "duplicates", nullable = false)
+    private Long duplicates;
+
+    /**
+     * Lines rejected as unreadable, incomplete or with an unknown category
+     */
+    @Column(name = "rejected", nullable = false)
+    private Long rejected;
+
+    /**
+     * Error that stopped the last run, if any
+     */
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * ID of the user who started the import; imported accommodations are owned by this user
+     */
+    @Column(name = "created_by", nullable = false)
+    private Integer createdBy;
+
+    /**
+     * Timestamp when the file was uploaded
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp of the last progress update
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Timestamp when the import finished
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,46 @@
+package com.williamtravel.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * A line of an import that was not written, with the reason. Only the first rejections of a job are kept.
+ */
+@Entity
+@Table(name = "import_rejection")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRejection extends BaseEntity {
+
+    /**
+     * Unique identifier for each rejection
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * ID of the import job
+     */
+    @Column(name = "job_id", nullable = false)
+    private Integer jobId;
+
+    /**
+     * Line number in the file, starting at 1
+     */
+    @Column(name = "line_number", nullable = false)
+    private Long lineNumber;
+
+    /**
+     * Why the line was rejected
+     */
+    @Column(name = "reason", length = 500, nullable = false)
+    private String reason;
+}
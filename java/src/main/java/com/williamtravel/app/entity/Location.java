@@ -2,8 +2,11 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 /**
@@ -11,10 +14,20 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "locations")
-@Data
+@NamedEntityGraph(name = Location.LIST_GRAPH, attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("country"), @NamedAttributeNode("region")})
+@NamedEntityGraph(name = Location.DETAIL_GRAPH, attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("country"), @NamedAttributeNode("region"), @NamedAttributeNode("district"), @NamedAttributeNode("ward")})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Location {
+public class Location extends BaseEntity {
+
+    /** Fetch plan for list endpoints: category, country, region */
+    public static final String LIST_GRAPH = "Location.list";
+
+    /** Fetch plan for detail endpoints: category, country, region, district, ward */
+    public static final String DETAIL_GRAPH = "Location.detail";
 
     /**
      * Unique identifier for each location
@@ -80,35 +93,40 @@ public class Location {
     /**
      * Reference to the country
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "country_id")
     private Country country;
 
     /**
      * Reference to the region
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "region_id")
     private Region region;
 
     /**
      * Reference to the district
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "district_id")
     private District district;
 
     /**
      * Reference to the ward
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ward_id")
     private Ward ward;
 
     /**
      * Reference to the location category
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private LocationCategory category;
 
@@ -136,6 +154,12 @@ public class Location {
     @Column(name = "popularity_score")
     private Double popularityScore;
 
+    /**
+     * Number of times the location has been viewed
+     */
+    @Column(name = "view_count")
+    private Integer viewCount;
+
     /**
      * Whether the location is active/visible
      */
@@ -151,6 +175,7 @@ public class Location {
     /**
      * Timestamp when location was last updated
      */
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 }
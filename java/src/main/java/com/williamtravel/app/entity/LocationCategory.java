@@ -1,9 +1,15 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,10 +19,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "location_categories")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CATEGORIES_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class LocationCategory {
+public class LocationCategory extends BaseEntity {
 
     /**
      * Unique identifier for each location category
@@ -46,9 +55,11 @@ public class LocationCategory {
     /**
      * Timestamp when category was last updated
      */
+    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "category")
     private Set<Location> locations = new HashSet<>();
 }
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -12,10 +14,20 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "media")
-@Data
+@NamedEntityGraph(name = Media.LIST_GRAPH, attributeNodes = {@NamedAttributeNode("type"), @NamedAttributeNode("category")})
+@NamedEntityGraph(name = Media.DETAIL_GRAPH, attributeNodes = {@NamedAttributeNode("type"), @NamedAttributeNode("category")})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Media {
+public class Media extends BaseEntity {
+
+    /** Fetch plan for list endpoints: type, category */
+    public static final String LIST_GRAPH = "Media.list";
+
+    /** Fetch plan for detail endpoints: type, category */
+    public static final String DETAIL_GRAPH = "Media.detail";
 
     /**
      * Unique identifier for each media file
@@ -27,14 +39,16 @@ public class Media {
     /**
      * Reference to media type (image, video, etc.)
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "type_id", nullable = false)
     private MediaType type;
 
     /**
      * Reference to media category (profile photo, location image, etc.)
      */
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private MediaCategory category;
 
@@ -1,9 +1,14 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,10 +18,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "media_type")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CATEGORIES_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class MediaType {
+public class MediaType extends BaseEntity {
 
     /**
      * Unique identifier for each media type
@@ -73,6 +81,7 @@ public class MediaType {
     @Column(name = "updated_date")
     private LocalDate updatedDate;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "type")
     private Set<Media> media = new HashSet<>();
 }
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +16,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "organizer")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Organizer {
+public class Organizer extends BaseEntity {
 
     /**
      * Unique identifier for each organizer
@@ -29,6 +33,7 @@ public class Organizer {
     /**
      * Reference to the user who manages this organizer profile
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -93,9 +98,11 @@ public class Organizer {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "organizer")
     private Set<Event> events = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "organizer")
     private Set<EventSponsor> sponsorships = new HashSet<>();
 }
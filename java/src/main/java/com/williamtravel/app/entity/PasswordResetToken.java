@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 /**
@@ -11,10 +13,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "password_reset_tokens")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class PasswordResetToken {
+public class PasswordResetToken extends BaseEntity {
 
     /**
      * Unique identifier for each token
@@ -26,12 +30,14 @@ public class PasswordResetToken {
     /**
      * Unique token for password reset
      */
+    @ToString.Exclude
     @Column(name = "token", length = 255, nullable = false, unique = true)
     private String token;
 
     /**
      * Reference to the user
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,61 @@
+package com.williamtravel.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import java.time.LocalDateTime;
+
+/**
+ * Time-decayed view count of one scored entity, carried between runs of the popularity scoring job.
+ * Only rewritten when new views arrive; in between, the decay is applied from decayedAt on read.
+ */
+@Entity
+@Table(name = "popularity_state",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"reference_type", "reference_id"}))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularityState extends BaseEntity {
+
+    /**
+     * Unique identifier for each state row
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * Type of the scored item (location, accommodation, food or article)
+     */
+    @Column(name = "reference_type", length = 50, nullable = false)
+    private String referenceType;
+
+    /**
+     * ID of the scored item
+     */
+    @Column(name = "reference_id", nullable = false)
+    private Integer referenceId;
+
+    /**
+     * The item's view_count when its decayed views were last updated
+     */
+    @Column(name = "views_seen", nullable = false)
+    private Long viewsSeen;
+
+    /**
+     * Decayed view count as of decayedAt
+     */
+    @Column(name = "decayed_views", nullable = false)
+    private Double decayedViews;
+
+    /**
+     * When decayedViews was computed
+     */
+    @Column(name = "decayed_at", nullable = false)
+    private LocalDateTime decayedAt;
+}
@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 /**
@@ -11,10 +13,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "ratings")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Rating {
+public class Rating extends BaseEntity {
 
     /**
      * Unique identifier for each rating
@@ -38,6 +42,7 @@ public class Rating {
     /**
      * Reference to the user who created the rating
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,96 @@
+package com.williamtravel.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import java.time.LocalDateTime;
+
+/**
+ * Running rating aggregates for one rated entity, maintained alongside rating writes
+ */
+@Entity
+@Table(name = "rating_summary",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"reference_type", "reference_id"}))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummary extends BaseEntity {
+
+    /**
+     * Unique identifier for each summary
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * Type of the rated item (location, accommodation, food, etc.)
+     */
+    @Column(name = "reference_type", length = 50, nullable = false)
+    private String referenceType;
+
+    /**
+     * ID of the rated item
+     */
+    @Column(name = "reference_id", nullable = false)
+    private Integer referenceId;
+
+    /**
+     * Number of ratings
+     */
+    @Column(name = "rating_count", nullable = false)
+    private Long ratingCount;
+
+    /**
+     * Sum of all rating values
+     */
+    @Column(name = "rating_sum", nullable = false)
+    private Double ratingSum;
+
+    /**
+     * Average rating, null when there are no ratings
+     */
+    @Column(name = "average_rating")
+    private Double averageRating;
+
+    /**
+     * Lowest rating value
+     */
+    @Column(name = "min_rating")
+    private Double minRating;
+
+    /**
+     * Highest rating value
+     */
+    @Column(name = "max_rating")
+    private Double maxRating;
+
+    /**
+     * Histogram of ratings rounded to the nearest star
+     */
+    @Column(name = "star_1", nullable = false)
+    private Long star1;
+
+    @Column(name = "star_2", nullable = false)
+    private Long star2;
+
+    @Column(name = "star_3", nullable = false)
+    private Long star3;
+
+    @Column(name = "star_4", nullable = false)
+    private Long star4;
+
+    @Column(name = "star_5", nullable = false)
+    private Long star5;
+
+    /**
+     * Timestamp of the last change
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -1,9 +1,14 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,10 +18,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "regions")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.GEOGRAPHY_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Region {
+public class Region extends BaseEntity {
 
     /**
      * Unique identifier for each region
@@ -88,25 +96,32 @@ public class Region {
     /**
      * Reference to the country this region belongs to
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "country_id", nullable = false)
     private Country country;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "region")
     private Set<District> districts = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "region")
     private Set<Location> locations = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "region")
     private Set<Accommodation> accommodations = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "region")
     private Set<Food> foods = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "region")
     private Set<Article> articles = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "region")
     private Set<Event> events = new HashSet<>();
 }
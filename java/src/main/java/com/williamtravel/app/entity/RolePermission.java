@@ -1,20 +1,25 @@
 package com.williamtravel.app.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Maps which permissions are assigned to each role
  */
 @Entity
 @Table(name = "role_permissions")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @IdClass(RolePermissionId.class)
-public class RolePermission {
+public class RolePermission extends BaseEntity {
 
     /**
      * Reference to the role
@@ -30,13 +35,22 @@ public class RolePermission {
     @Column(name = "permission_id")
     private Integer permissionId;
 
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "role_id", insertable = false, updatable = false)
     private Role role;
 
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "permission_id", insertable = false, updatable = false)
     private Permission permission;
-}
-
 
+    /**
+     * Composite key built from the role and permission ids
+     */
+    @Override
+    @JsonIgnore
+    public RolePermissionId getId() {
+        return roleId == null || permissionId == null ? null : new RolePermissionId(roleId, permissionId);
+    }
+}
@@ -0,0 +1,90 @@
+package com.williamtravel.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Units of a room reserved for a stay. A hold counts against the inventory from the moment it is
+ * placed; it is committed into a booking, released by its owner, or expires.
+ */
+@Entity
+@Table(name = "room_hold")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomHold extends BaseEntity {
+
+    public static final String HELD = "held";
+    public static final String COMMITTED = "committed";
+    public static final String RELEASED = "released";
+    public static final String EXPIRED = "expired";
+
+    /**
+     * Unique identifier for each hold
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * ID of the accommodation room
+     */
+    @Column(name = "room_id", nullable = false)
+    private Integer roomId;
+
+    /**
+     * ID of the user who placed the hold
+     */
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    /**
+     * First night of the stay
+     */
+    @Column(name = "check_in", nullable = false)
+    private LocalDate checkIn;
+
+    /**
+     * Day of departure; the night before it is the last one held
+     */
+    @Column(name = "check_out", nullable = false)
+    private LocalDate checkOut;
+
+    /**
+     * Units held for each night
+     */
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    /**
+     * held, committed, released or expired
+     */
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+
+    /**
+     * When an uncommitted hold is released automatically
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Timestamp when the hold was placed
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp of the last status change
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
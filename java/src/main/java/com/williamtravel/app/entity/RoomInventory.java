@@ -0,0 +1,75 @@
+package com.williamtravel.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Units of one room type that can be sold for one night, and how many of them are booked or held.
+ * Nights without a row are not for sale.
+ */
+@Entity
+@Table(name = "room_inventory",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"room_id", "stay_date"}))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomInventory extends BaseEntity {
+
+    /**
+     * Unique identifier for each room night
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * ID of the accommodation room
+     */
+    @Column(name = "room_id", nullable = false)
+    private Integer roomId;
+
+    /**
+     * The night, as the date of arrival
+     */
+    @Column(name = "stay_date", nullable = false)
+    private LocalDate stayDate;
+
+    /**
+     * Units offered for the night
+     */
+    @Column(name = "allotment", nullable = false)
+    private Integer allotment;
+
+    /**
+     * Units sold through committed holds
+     */
+    @Column(name = "booked", nullable = false)
+    private Integer booked;
+
+    /**
+     * Units reserved by holds that are not committed yet
+     */
+    @Column(name = "held", nullable = false)
+    private Integer held;
+
+    /**
+     * Timestamp of the last change
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Units still free for the night
+     */
+    public int getAvailable() {
+        return Math.max(0, allotment - booked - held);
+    }
+}
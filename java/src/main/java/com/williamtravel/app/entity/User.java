@@ -2,8 +2,10 @@ package com.williamtravel.app.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,10 +15,12 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "users")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class User {
+public class User extends BaseEntity {
 
     /**
      * Unique identifier for each user
@@ -40,12 +44,14 @@ public class User {
     /**
      * Hashed password for security
      */
+    @ToString.Exclude
     @Column(name = "hashed_password", length = 255, nullable = false)
     private String hashedPassword;
 
     /**
      * Reference to user role in roles table
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "role_id", nullable = false)
     private Role role;
@@ -74,39 +80,51 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<Accommodation> accommodations = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<Rating> ratings = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "author")
     private Set<Article> articles = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<ArticleComment> articleComments = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<ArticleReaction> articleReactions = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<CommunityPost> communityPosts = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<CommunityPostComment> communityPostComments = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<CommunityPostReaction> communityPostReactions = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<Event> events = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<EventAttendee> eventAttendances = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<Organizer> organizers = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "user")
     private Set<PasswordResetToken> passwordResetTokens = new HashSet<>();
 }
@@ -1,9 +1,14 @@
 package com.williamtravel.app.entity;
 
+import com.williamtravel.app.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,10 +18,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "wards")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.GEOGRAPHY_REGION)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Ward {
+public class Ward extends BaseEntity {
 
     /**
      * Unique identifier for each ward
@@ -88,22 +96,28 @@ public class Ward {
     /**
      * Reference to the district this ward belongs to
      */
+    @ToString.Exclude
     @ManyToOne
     @JoinColumn(name = "district_id", nullable = false)
     private District district;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "ward")
     private Set<Location> locations = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "ward")
     private Set<Accommodation> accommodations = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "ward")
     private Set<Food> foods = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "ward")
     private Set<Article> articles = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "ward")
     private Set<Event> events = new HashSet<>();
 }
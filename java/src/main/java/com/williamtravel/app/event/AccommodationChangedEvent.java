@@ -0,0 +1,25 @@
+package com.williamtravel.app.event;
+
+import com.williamtravel.app.entity.Accommodation;
+
+/**
+ * Published after an accommodation is created, updated or deleted
+ */
+public class AccommodationChangedEvent {
+
+    private final Accommodation accommodation;
+    private final boolean deleted;
+
+    public AccommodationChangedEvent(Accommodation accommodation, boolean deleted) {
+        this.accommodation = accommodation;
+        this.deleted = deleted;
+    }
+
+    public Accommodation getAccommodation() {
+        return accommodation;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
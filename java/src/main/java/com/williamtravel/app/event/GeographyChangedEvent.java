@@ -0,0 +1,23 @@
+package com.williamtravel.app.event;
+
+/**
+ * Published after a continent, country, region, district or ward is created, updated or deleted
+ */
+public class GeographyChangedEvent {
+
+    private final String entityName;
+    private final Integer id;
+
+    public GeographyChangedEvent(String entityName, Integer id) {
+        this.entityName = entityName;
+        this.id = id;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+}
@@ -0,0 +1,25 @@
+package com.williamtravel.app.event;
+
+import com.williamtravel.app.entity.Location;
+
+/**
+ * Published after a location is created, updated or deleted
+ */
+public class LocationChangedEvent {
+
+    private final Location location;
+    private final boolean deleted;
+
+    public LocationChangedEvent(Location location, boolean deleted) {
+        this.location = location;
+        this.deleted = deleted;
+    }
+
+    public Location getLocation() {
+        return location;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
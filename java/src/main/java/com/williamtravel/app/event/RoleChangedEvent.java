@@ -0,0 +1,22 @@
+package com.williamtravel.app.event;
+
+/**
+ * Published after a role or its permission assignments change.
+ * A null role ID means the change may affect any role.
+ */
+public class RoleChangedEvent {
+
+    private final Integer roleId;
+
+    public RoleChangedEvent(Integer roleId) {
+        this.roleId = roleId;
+    }
+
+    public Integer getRoleId() {
+        return roleId;
+    }
+
+    public boolean affectsAllRoles() {
+        return roleId == null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.williamtravel.app.event;
+
+/**
+ * Published after a room's allotments, holds or bookable attributes change
+ */
+public class RoomInventoryChangedEvent {
+
+    private final Integer roomId;
+
+    public RoomInventoryChangedEvent(Integer roomId) {
+        this.roomId = roomId;
+    }
+
+    public Integer getRoomId() {
+        return roomId;
+    }
+}
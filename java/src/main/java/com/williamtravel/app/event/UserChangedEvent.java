@@ -0,0 +1,25 @@
+package com.williamtravel.app.event;
+
+import com.williamtravel.app.entity.User;
+
+/**
+ * Published after a user account is created, updated or deleted
+ */
+public class UserChangedEvent {
+
+    private final User user;
+    private final boolean deleted;
+
+    public UserChangedEvent(User user, boolean deleted) {
+        this.user = user;
+        this.deleted = deleted;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
@@ -0,0 +1,16 @@
+package com.williamtravel.app.exception;
+
+/**
+ * Thrown when a request carries invalid input, such as a malformed cursor or an oversized batch.
+ * Answered with 400 Bad Request and the message, so the message must be safe to show to clients.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
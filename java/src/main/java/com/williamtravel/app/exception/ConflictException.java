@@ -0,0 +1,12 @@
+package com.williamtravel.app.exception;
+
+/**
+ * Thrown when a request conflicts with the current state of a resource, such as holding a sold-out room
+ * or resuming an import that is already running. Answered with 409 Conflict and the message.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
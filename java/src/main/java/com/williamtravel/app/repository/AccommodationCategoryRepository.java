@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.AccommodationCategory;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +21,13 @@ import java.util.Optional;
 @Repository
 public interface AccommodationCategoryRepository extends JpaRepository<AccommodationCategory, Integer> {
 
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<AccommodationCategory> findAll();
+
     // Basic finder methods
     Optional<AccommodationCategory> findByName(String name);
     
@@ -26,10 +36,12 @@ public interface AccommodationCategoryRepository extends JpaRepository<Accommoda
     boolean existsByName(String name);
     
     // Status-based queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AccommodationCategory> findByStatus(Boolean status);
     
     Page<AccommodationCategory> findByStatus(Boolean status, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AccommodationCategory> findByStatusOrderByNameAsc(Boolean status);
     
     List<AccommodationCategory> findByStatusOrderByCreatedAtDesc(Boolean status);
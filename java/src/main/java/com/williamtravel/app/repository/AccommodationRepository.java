@@ -1,16 +1,24 @@
 package com.williamtravel.app.repository;
 
+import com.williamtravel.app.dto.AccommodationSummary;
+import com.williamtravel.app.dto.SearchHit;
 import com.williamtravel.app.entity.Accommodation;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Accommodation entity operations
@@ -18,59 +26,143 @@ import java.util.Optional;
 @Repository
 public interface AccommodationRepository extends JpaRepository<Accommodation, Integer> {
 
+    /**
+     * Find all, with the associations list views render
+     */
+    @EntityGraph(Accommodation.LIST_GRAPH)
+    @Override
+    List<Accommodation> findAll();
+
+    /**
+     * Find a page, with the associations list views render
+     */
+    @EntityGraph(Accommodation.LIST_GRAPH)
+    @Override
+    Page<Accommodation> findAll(Pageable pageable);
+
+    /**
+     * Find by id, with the associations detail views render
+     */
+    @EntityGraph(Accommodation.DETAIL_GRAPH)
+    @Override
+    Optional<Accommodation> findById(Integer id);
+
+    // Summary projections for list views
+    String SUMMARY_SELECT = "SELECT new com.williamtravel.app.dto.AccommodationSummary(" +
+            "a.id, a.name, a.thumbnailUrl, a.city, a.latitude, a.longitude, a.priceMin, a.priceMax, " +
+            "a.rating, a.popularityScore, a.isActive, c.id, c.name, co.id, co.name, r.id, r.name, a.createdAt) " +
+            "FROM Accommodation a LEFT JOIN a.category c LEFT JOIN a.country co LEFT JOIN a.region r";
+    
+    @Query(SUMMARY_SELECT)
+    List<AccommodationSummary> findAllSummaries();
+    
+    // Streamed through a database cursor for exports; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + " ORDER BY a.id")
+    Stream<AccommodationSummary> streamAllSummaries();
+    
+    @Query(value = SUMMARY_SELECT + " WHERE a.isActive = :isActive",
+           countQuery = "SELECT COUNT(a) FROM Accommodation a WHERE a.isActive = :isActive")
+    Page<AccommodationSummary> findSummariesByIsActive(@Param("isActive") Boolean isActive, Pageable pageable);
+    
+    // Keyset slice ordered by (createdAt DESC, id DESC), strictly after the given position
+    @Query(SUMMARY_SELECT + " WHERE a.isActive = :isActive AND (a.createdAt, a.id) < (:createdAt, :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AccommodationSummary> findSummariesByIsActiveAfter(@Param("isActive") Boolean isActive,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Integer id,
+                                                           Pageable limit);
+    
+    @Query("SELECT a FROM Accommodation a LEFT JOIN FETCH a.category LEFT JOIN FETCH a.country LEFT JOIN FETCH a.region " +
+           "LEFT JOIN FETCH a.district LEFT JOIN FETCH a.ward WHERE a.id = :id")
+    Optional<Accommodation> findDetailById(@Param("id") Integer id);
+    
+    @Query(SUMMARY_SELECT + " WHERE a.id IN :ids")
+    List<AccommodationSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Active rows only, for ids taken from the popularity top lists, which may predate a deactivation
+    @Query(SUMMARY_SELECT + " WHERE a.id IN :ids AND a.isActive = true")
+    List<AccommodationSummary> findActiveSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    // Coordinates of active rows, used to build the in-memory geo index
+    @Query("SELECT a.id, a.latitude, a.longitude FROM Accommodation a " +
+           "WHERE a.isActive = true AND a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+    List<Object[]> findActiveCoordinates();
+    
     // Basic finder methods
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByName(String name);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByNameContainingIgnoreCase(String name);
     
     boolean existsByName(String name);
     
     // Status-based queries
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByIsActive(Boolean isActive);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     Page<Accommodation> findByIsActive(Boolean isActive, Pageable pageable);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByIsActiveOrderByRatingDesc(Boolean isActive);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByIsActiveOrderByNameAsc(Boolean isActive);
     
     // Category relationship queries
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByCategoryId(Integer categoryId);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     Page<Accommodation> findByCategoryId(Integer categoryId, Pageable pageable);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByCategoryIdAndIsActive(Integer categoryId, Boolean isActive);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     Page<Accommodation> findByCategoryIdAndIsActive(Integer categoryId, Boolean isActive, Pageable pageable);
     
     @Query("SELECT a FROM Accommodation a JOIN FETCH a.category WHERE a.category.id = :categoryId AND a.isActive = :isActive")
     List<Accommodation> findByCategoryIdAndIsActiveWithCategory(@Param("categoryId") Integer categoryId, @Param("isActive") Boolean isActive);
     
     // User relationship queries
+    @EntityGraph(Accommodation.ADMIN_GRAPH)
     List<Accommodation> findByUserId(Integer userId);
     
+    @EntityGraph(Accommodation.ADMIN_GRAPH)
     Page<Accommodation> findByUserId(Integer userId, Pageable pageable);
     
+    @EntityGraph(Accommodation.ADMIN_GRAPH)
     List<Accommodation> findByUserIdAndIsActive(Integer userId, Boolean isActive);
     
     @Query("SELECT a FROM Accommodation a JOIN FETCH a.user WHERE a.user.id = :userId AND a.isActive = :isActive")
     List<Accommodation> findByUserIdAndIsActiveWithUser(@Param("userId") Integer userId, @Param("isActive") Boolean isActive);
     
     // Geographic relationship queries
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByCountryId(Integer countryId);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByCountryIdAndIsActive(Integer countryId, Boolean isActive);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByRegionId(Integer regionId);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByRegionIdAndIsActive(Integer regionId, Boolean isActive);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByDistrictId(Integer districtId);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByDistrictIdAndIsActive(Integer districtId, Boolean isActive);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByWardId(Integer wardId);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByWardIdAndIsActive(Integer wardId, Boolean isActive);
     
     // Geographic queries with relationships
@@ -84,19 +176,24 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, In
     Optional<Accommodation> findByIdWithFullGeography(@Param("id") Integer id);
     
     // Rating and price queries
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByIsActiveAndRatingGreaterThanEqual(Boolean isActive, Double minRating);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     @Query("SELECT a FROM Accommodation a WHERE a.isActive = :isActive AND a.rating BETWEEN :minRating AND :maxRating")
     List<Accommodation> findByIsActiveAndRatingBetween(@Param("isActive") Boolean isActive, 
                                                       @Param("minRating") Double minRating, 
                                                       @Param("maxRating") Double maxRating);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByIsActiveOrderByRatingDesc(Boolean isActive, Pageable pageable);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     @Query("SELECT a FROM Accommodation a WHERE a.isActive = :isActive AND a.rating IS NOT NULL ORDER BY a.rating DESC")
     List<Accommodation> findTopAccommodationsByRating(@Param("isActive") Boolean isActive, Pageable pageable);
     
     // Geographic proximity queries
+    @EntityGraph(Accommodation.LIST_GRAPH)
     @Query("SELECT a FROM Accommodation a WHERE a.isActive = :isActive AND " +
            "a.latitude BETWEEN :minLat AND :maxLat AND " +
            "a.longitude BETWEEN :minLng AND :maxLng")
@@ -107,6 +204,7 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, In
                                                           @Param("maxLng") Double maxLng);
     
     // Search and filtering
+    @EntityGraph(Accommodation.LIST_GRAPH)
     @Query("SELECT a FROM Accommodation a WHERE a.isActive = :isActive AND " +
            "(:name IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
            "(:categoryId IS NULL OR a.category.id = :categoryId) AND " +
@@ -131,6 +229,15 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, In
            "LOWER(a.city) LIKE LOWER(CONCAT('%', :searchText, '%')))")
     List<Accommodation> searchAccommodations(@Param("isActive") Boolean isActive, @Param("searchText") String searchText);
     
+    // Full-text search over the generated search_vector column, with trigram fallback on the name for typos
+    @Query(value = "SELECT a.id AS \"id\", a.name AS \"title\", LEFT(a.description, 200) AS \"snippet\", " +
+           "a.thumbnail_url AS \"thumbnailUrl\", " +
+           "CAST(ts_rank_cd(a.search_vector, q.query) + similarity(f_search_text(a.name), :term) AS double precision) AS \"score\" " +
+           "FROM accommodations a, to_tsquery('simple', :tsQuery) AS q(query) " +
+           "WHERE a.is_active = true AND (a.search_vector @@ q.query OR f_search_text(a.name) % :term) " +
+           "ORDER BY \"score\" DESC, a.id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchFullText(@Param("tsQuery") String tsQuery, @Param("term") String term, @Param("limit") int limit);
+    
     // Count queries
     long countByIsActive(Boolean isActive);
     
@@ -143,8 +250,10 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, In
     long countByUserId(Integer userId);
     
     // Date-based queries
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     List<Accommodation> findByUpdatedAtAfter(LocalDateTime date);
     
     // Statistics queries
@@ -176,12 +285,15 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, In
     boolean existsByLatitudeAndLongitudeAndIdNot(Double latitude, Double longitude, Integer id);
     
     // Custom business logic queries
+    @EntityGraph(Accommodation.LIST_GRAPH)
     @Query("SELECT a FROM Accommodation a WHERE a.isActive = true AND EXISTS (SELECT 1 FROM Media m WHERE m.referenceId = a.id AND m.referenceType = 'accommodation') ORDER BY a.rating DESC")
     List<Accommodation> findFeaturedAccommodationsWithImages(Pageable pageable);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     @Query("SELECT a FROM Accommodation a WHERE a.isActive = true AND a.country.id = :countryId ORDER BY a.rating DESC")
     List<Accommodation> findTopAccommodationsByCountry(@Param("countryId") Integer countryId, Pageable pageable);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     @Query("SELECT a FROM Accommodation a WHERE a.isActive = true AND a.region.id = :regionId ORDER BY a.rating DESC")
     List<Accommodation> findTopAccommodationsByRegion(@Param("regionId") Integer regionId, Pageable pageable);
     
@@ -189,6 +301,7 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, In
            "(:countryId IS NULL OR a.country.id = :countryId) ORDER BY a.city")
     List<String> findDistinctActiveCitiesByCountry(@Param("countryId") Integer countryId);
     
+    @EntityGraph(Accommodation.LIST_GRAPH)
     @Query("SELECT a FROM Accommodation a WHERE a.isActive = true AND a.category.id = :categoryId ORDER BY a.rating DESC")
     List<Accommodation> findTopAccommodationsByCategory(@Param("categoryId") Integer categoryId, Pageable pageable);
 }
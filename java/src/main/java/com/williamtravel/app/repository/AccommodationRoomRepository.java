@@ -299,6 +299,19 @@ public interface AccommodationRoomRepository extends JpaRepository<Accommodation
     
     boolean existsByAccommodationIdAndName(Integer accommodationId, String name);
     
+    // Sellable rooms as [roomId, accommodationId, regionId, adultCapacity, childCapacity, pricePerNight], for the availability index
+    String SELLABLE_SELECT = "SELECT ar.id, a.id, r.id, ar.adultCapacity, ar.childCapacity, ar.pricePerNight " +
+           "FROM AccommodationRoom ar JOIN ar.accommodation a LEFT JOIN a.region r WHERE ar.status = 1 AND a.isActive = true";
+
+    @Query(SELLABLE_SELECT)
+    List<Object[]> findSellableRooms();
+
+    @Query(SELLABLE_SELECT + " AND ar.id = :id")
+    List<Object[]> findSellableRoom(@Param("id") Integer id);
+
+    @Query("SELECT ar.id FROM AccommodationRoom ar WHERE ar.accommodation.id = :accommodationId")
+    List<Integer> findIdsByAccommodationId(@Param("accommodationId") Integer accommodationId);
+
     // Custom business logic queries
     @Query("SELECT ar FROM AccommodationRoom ar WHERE ar.status = 1 AND ar.accommodation.isActive = true AND " +
            "EXISTS (SELECT 1 FROM Media m WHERE m.referenceId = ar.id AND m.referenceType = 'accommodation_room') ORDER BY ar.pricePerNight ASC")
@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.ArticleCategory;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,20 +21,30 @@ import java.util.Optional;
 @Repository
 public interface ArticleCategoryRepository extends JpaRepository<ArticleCategory, Integer> {
 
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<ArticleCategory> findAll();
+
     // Basic finder methods
     Optional<ArticleCategory> findByName(String name);
     
     boolean existsByName(String name);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ArticleCategory> findBySlug(String slug);
     
     boolean existsBySlug(String slug);
 
     // Status-based queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ArticleCategory> findByStatus(Boolean status);
     
     Page<ArticleCategory> findByStatus(Boolean status, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT ac FROM ArticleCategory ac WHERE ac.status = true ORDER BY ac.name ASC")
     List<ArticleCategory> findAllActiveOrderByName();
 
@@ -101,6 +114,7 @@ public interface ArticleCategoryRepository extends JpaRepository<ArticleCategory
     List<ArticleCategory> findAllOrderByName();
     
     // Hierarchical queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT ac FROM ArticleCategory ac WHERE ac.status = true AND ac.parentCategory IS NULL ORDER BY ac.sortOrder ASC, ac.name ASC")
     List<ArticleCategory> findRootCategories();
     
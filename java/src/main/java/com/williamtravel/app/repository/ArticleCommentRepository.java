@@ -34,6 +34,15 @@ public interface ArticleCommentRepository extends JpaRepository<ArticleComment,
     Page<ArticleComment> findByArticleIdAndStatus(@Param("articleId") Integer articleId, 
                                                  @Param("status") Boolean status, 
                                                  Pageable pageable);
+    
+    // Keyset slice ordered by (createdAt DESC, id DESC), strictly after the given position
+    @Query("SELECT ac FROM ArticleComment ac WHERE ac.article.id = :articleId AND ac.status = :status " +
+           "AND (ac.createdAt, ac.id) < (:createdAt, :id) ORDER BY ac.createdAt DESC, ac.id DESC")
+    List<ArticleComment> findByArticleIdAndStatusAfter(@Param("articleId") Integer articleId,
+                                                      @Param("status") Boolean status,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Integer id,
+                                                      Pageable limit);
 
     // Find by user
     @Query("SELECT ac FROM ArticleComment ac WHERE ac.user.id = :userId ORDER BY ac.createdAt DESC")
@@ -1,17 +1,24 @@
 package com.williamtravel.app.repository;
 
+import com.williamtravel.app.dto.ArticleSummary;
+import com.williamtravel.app.dto.SearchHit;
 import com.williamtravel.app.entity.Article;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Article entity operations
@@ -19,46 +26,109 @@ import java.util.Optional;
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Integer> {
 
+    /**
+     * Find all, with the associations list views render
+     */
+    @EntityGraph(Article.LIST_GRAPH)
+    @Override
+    List<Article> findAll();
+
+    /**
+     * Find a page, with the associations list views render
+     */
+    @EntityGraph(Article.LIST_GRAPH)
+    @Override
+    Page<Article> findAll(Pageable pageable);
+
+    /**
+     * Find by id, with the associations detail views render
+     */
+    @EntityGraph(Article.DETAIL_GRAPH)
+    @Override
+    Optional<Article> findById(Integer id);
+
+    String SUMMARY_SELECT = "SELECT new com.williamtravel.app.dto.ArticleSummary(" +
+            "a.id, a.title, a.slug, a.description, a.thumbnailUrl, a.viewCount, a.status, a.author.id, a.createdAt) " +
+            "FROM Article a";
+
     // Basic CRUD operations are inherited from JpaRepository
     
     // Custom finder methods
+    @EntityGraph(Article.DETAIL_GRAPH)
     Optional<Article> findByTitleAndStatus(String title, Boolean status);
     
+    @EntityGraph(Article.DETAIL_GRAPH)
     Optional<Article> findBySlug(String slug);
     
     boolean existsBySlug(String slug);
     
     boolean existsByTitle(String title);
     
+    @EntityGraph(Article.LIST_GRAPH)
     List<Article> findByAuthorId(Integer authorId);
     
+    @EntityGraph(Article.LIST_GRAPH)
     Page<Article> findByAuthorId(Integer authorId, Pageable pageable);
     
+    @EntityGraph(Article.LIST_GRAPH)
     List<Article> findByAuthorIdAndStatus(Integer authorId, Boolean status);
     
+    @EntityGraph(Article.LIST_GRAPH)
     Page<Article> findByAuthorIdAndStatus(@Param("authorId") Integer authorId,
                                          @Param("status") Boolean status,
                                          Pageable pageable);
 
     // Status-based queries
+    @EntityGraph(Article.LIST_GRAPH)
     List<Article> findByStatus(Boolean status);
     
+    @EntityGraph(Article.LIST_GRAPH)
     Page<Article> findByStatus(Boolean status, Pageable pageable);
     
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.createdAt DESC")
     List<Article> findPublishedArticles();
     
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.createdAt DESC")
     Page<Article> findPublishedArticles(Pageable pageable);
-
-    // Featured articles - using published articles ordered by view count as featured
-    @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.viewCount DESC")
+    
+    // Keyset slice ordered by (createdAt DESC, id DESC), strictly after the given position
+    @EntityGraph(Article.LIST_GRAPH)
+    @Query("SELECT a FROM Article a WHERE a.status = true AND (a.createdAt, a.id) < (:createdAt, :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Article> findPublishedArticlesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Integer id,
+                                             Pageable limit);
+
+    // Featured articles - published articles by popularity score; served from the in-memory top list when it is built
+    @EntityGraph(Article.LIST_GRAPH)
+    @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.popularityScore DESC NULLS LAST, a.viewCount DESC")
     List<Article> findFeaturedArticles();
     
-    @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.viewCount DESC")
+    @EntityGraph(Article.LIST_GRAPH)
+    @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.popularityScore DESC NULLS LAST, a.viewCount DESC")
     Page<Article> findFeaturedArticles(Pageable pageable);
 
+    @EntityGraph(Article.LIST_GRAPH)
+    @Query("SELECT a FROM Article a WHERE a.id IN :ids AND a.status = true")
+    List<Article> findPublishedListByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Streamed through a database cursor for exports; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + " WHERE a.status = true ORDER BY a.popularityScore DESC NULLS LAST, a.viewCount DESC, a.id")
+    Stream<ArticleSummary> streamFeaturedSummaries();
+
+    // Summary projections for batch lookups
+    @Query(SUMMARY_SELECT + " WHERE a.id IN :ids")
+    List<ArticleSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Published rows only, for ids taken from the popularity top lists, which may predate an unpublish
+    @Query(SUMMARY_SELECT + " WHERE a.id IN :ids AND a.status = true")
+    List<ArticleSummary> findPublishedSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
     // Search queries
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a WHERE " +
            "(LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -66,47 +136,66 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
            "a.status = true")
     List<Article> searchByKeyword(@Param("keyword") String keyword);
     
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a WHERE " +
            "(LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(a.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
            "a.status = true")
     Page<Article> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    // Full-text search over the generated search_vector column, with trigram fallback on the title for typos
+    @Query(value = "SELECT a.id AS \"id\", a.title AS \"title\", LEFT(a.description, 200) AS \"snippet\", " +
+           "a.thumbnail_url AS \"thumbnailUrl\", " +
+           "CAST(ts_rank_cd(a.search_vector, q.query) + similarity(f_search_text(a.title), :term) AS double precision) AS \"score\" " +
+           "FROM article a, to_tsquery('simple', :tsQuery) AS q(query) " +
+           "WHERE a.status = true AND (a.search_vector @@ q.query OR f_search_text(a.title) % :term) " +
+           "ORDER BY \"score\" DESC, a.id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchFullText(@Param("tsQuery") String tsQuery, @Param("term") String term, @Param("limit") int limit);
 
     // Category-based queries
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a " +
            "JOIN a.categories c " +
            "WHERE c.id = :categoryId AND a.status = true")
     List<Article> findByCategoryId(@Param("categoryId") Integer categoryId);
     
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a " +
            "JOIN a.categories c " +
            "WHERE c.id = :categoryId AND a.status = true")
     Page<Article> findByCategoryId(@Param("categoryId") Integer categoryId, Pageable pageable);
 
     // Tag-based queries
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a " +
            "JOIN a.tags t " +
            "WHERE t.id = :tagId AND a.status = true")
     List<Article> findByTagId(@Param("tagId") Integer tagId);
     
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a " +
            "JOIN a.tags t " +
            "WHERE t.id = :tagId AND a.status = true")
     Page<Article> findByTagId(@Param("tagId") Integer tagId, Pageable pageable);
 
-    // Popular articles (by view count)
-    @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.viewCount DESC")
+    // Popular articles (by popularity score)
+    @EntityGraph(Article.LIST_GRAPH)
+    @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.popularityScore DESC NULLS LAST, a.viewCount DESC")
     List<Article> findPopularArticles(Pageable pageable);
     
-    @Query("SELECT a FROM Article a WHERE a.status = true AND a.createdAt >= :since ORDER BY a.viewCount DESC")
+    @EntityGraph(Article.LIST_GRAPH)
+    @Query("SELECT a FROM Article a WHERE a.status = true AND a.createdAt >= :since " +
+           "ORDER BY a.popularityScore DESC NULLS LAST, a.viewCount DESC")
     List<Article> findPopularArticlesSince(@Param("since") LocalDateTime since, Pageable pageable);
 
     // Recent articles
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a WHERE a.status = true ORDER BY a.createdAt DESC")
     List<Article> findRecentArticles(Pageable pageable);
 
     // Articles by date range
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a WHERE " +
            "a.createdAt >= :startDate AND a.createdAt <= :endDate AND " +
            "a.status = true " +
@@ -114,6 +203,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
     List<Article> findByDateRange(@Param("startDate") LocalDateTime startDate,
                                  @Param("endDate") LocalDateTime endDate);
     
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a WHERE " +
            "a.createdAt >= :startDate AND a.createdAt <= :endDate AND " +
            "a.status = true " +
@@ -123,6 +213,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
                                  Pageable pageable);
 
     // Related articles (by shared categories)
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT DISTINCT a FROM Article a " +
            "JOIN a.categories c " +
            "WHERE c IN (" +
@@ -132,11 +223,6 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
            ") AND a.id != :articleId AND a.status = true")
     List<Article> findRelatedArticles(@Param("articleId") Integer articleId, Pageable pageable);
 
-    // Update view count
-    @Modifying
-    @Query("UPDATE Article a SET a.viewCount = a.viewCount + 1 WHERE a.id = :id")
-    void incrementViewCount(@Param("id") Integer id);
-
     // Statistical queries
     @Query("SELECT COUNT(a) FROM Article a WHERE a.status = true")
     Long countPublishedArticles();
@@ -148,6 +234,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
     Long countByStatus(@Param("status") Boolean status);
 
     // Complex search with filters - simplified without featured field
+    @EntityGraph(Article.LIST_GRAPH)
     @Query("SELECT a FROM Article a " +
            "LEFT JOIN a.categories c " +
            "WHERE " +
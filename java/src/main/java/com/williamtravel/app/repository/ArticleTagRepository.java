@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.ArticleTag;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,20 +21,30 @@ import java.util.Optional;
 @Repository
 public interface ArticleTagRepository extends JpaRepository<ArticleTag, Integer> {
 
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<ArticleTag> findAll();
+
     // Basic finder methods
     Optional<ArticleTag> findByName(String name);
     
     boolean existsByName(String name);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ArticleTag> findBySlug(String slug);
     
     boolean existsBySlug(String slug);
 
     // Status-based queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ArticleTag> findByStatus(Boolean status);
     
     Page<ArticleTag> findByStatus(Boolean status, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT at FROM ArticleTag at WHERE at.status = true ORDER BY at.name ASC")
     List<ArticleTag> findAllActiveOrderByName();
 
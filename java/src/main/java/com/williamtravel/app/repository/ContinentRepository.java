@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.Continent;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +19,18 @@ import java.util.Optional;
  */
 @Repository
 public interface ContinentRepository extends JpaRepository<Continent, Integer> {
+
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Continent> findAll();
     
     /**
      * Find continent by code
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Continent> findByCode(String code);
     
     /**
@@ -30,6 +41,7 @@ public interface ContinentRepository extends JpaRepository<Continent, Integer> {
     /**
      * Find active continents
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Continent> findByStatus(Integer status);
     
     /**
@@ -64,4 +76,10 @@ public interface ContinentRepository extends JpaRepository<Continent, Integer> {
      */
     @Query("SELECT DISTINCT c FROM Continent c LEFT JOIN FETCH c.countries")
     List<Continent> findAllWithCountries();
+
+    /**
+     * Find flat rows used to build the in-memory geography tree
+     */
+    @Query("SELECT c.id, c.code, c.name, c.nameCode, c.status FROM Continent c")
+    List<Object[]> findHierarchyRows();
 }
@@ -1,13 +1,17 @@
 package com.williamtravel.app.repository;
 
+import com.williamtravel.app.dto.CountrySummary;
 import com.williamtravel.app.entity.Country;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +20,40 @@ import java.util.Optional;
  */
 @Repository
 public interface CountryRepository extends JpaRepository<Country, Integer> {
+
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Country> findAll();
+    
+    String SUMMARY_SELECT = "SELECT new com.williamtravel.app.dto.CountrySummary(" +
+            "c.id, c.code, c.name, c.logo, c.status, c.continent.id) FROM Country c";
+    
+    /**
+     * Find all countries as list summaries
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SUMMARY_SELECT)
+    List<CountrySummary> findAllSummaries();
+    
+    /**
+     * Find country summaries with pagination
+     */
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(c) FROM Country c")
+    Page<CountrySummary> findAllSummaries(Pageable pageable);
+    
+    /**
+     * Find country with its continent for the detail view
+     */
+    @Query("SELECT c FROM Country c JOIN FETCH c.continent WHERE c.id = :id")
+    Optional<Country> findDetailById(@Param("id") Integer id);
     
     /**
      * Find country by code
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Country> findByCode(String code);
     
     /**
@@ -30,16 +64,19 @@ public interface CountryRepository extends JpaRepository<Country, Integer> {
     /**
      * Find countries by continent
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Country> findByContinentId(Integer continentId);
     
     /**
      * Find active countries
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Country> findByStatus(Integer status);
     
     /**
      * Find countries by continent and status
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Country> findByContinentIdAndStatus(Integer continentId, Integer status);
     
     /**
@@ -76,4 +113,10 @@ public interface CountryRepository extends JpaRepository<Country, Integer> {
      */
     @Query("SELECT DISTINCT c FROM Country c LEFT JOIN FETCH c.regions WHERE c.id = :countryId")
     Optional<Country> findWithRegionsById(@Param("countryId") Integer countryId);
+
+    /**
+     * Find flat rows used to build the in-memory geography tree
+     */
+    @Query("SELECT c.id, c.code, c.name, c.nameCode, c.status, c.continent.id FROM Country c")
+    List<Object[]> findHierarchyRows();
 }
@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.District;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +21,17 @@ import java.util.Optional;
 @Repository
 public interface DistrictRepository extends JpaRepository<District, Integer> {
 
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<District> findAll();
+
+    // Flat rows used to build the in-memory geography tree
+    @Query("SELECT d.id, d.code, d.name, d.nameCode, d.status, d.region.id FROM District d")
+    List<Object[]> findHierarchyRows();
+
     // Basic finder methods
     Optional<District> findByCode(String code);
     
@@ -30,17 +44,21 @@ public interface DistrictRepository extends JpaRepository<District, Integer> {
     boolean existsByName(String name);
     
     // Status-based queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<District> findByStatus(Integer status);
     
     Page<District> findByStatus(Integer status, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<District> findByStatusOrderByName(Integer status);
     
     // Region relationship queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<District> findByRegionId(Integer regionId);
     
     Page<District> findByRegionId(Integer regionId, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<District> findByRegionIdAndStatus(Integer regionId, Integer status);
     
     Page<District> findByRegionIdAndStatus(Integer regionId, Integer status, Pageable pageable);
@@ -132,6 +150,7 @@ public interface DistrictRepository extends JpaRepository<District, Integer> {
     boolean existsByRegionIdAndCodeAndIdNot(Integer regionId, String code, Integer id);
     
     // Custom queries for specific business logic
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT d FROM District d WHERE d.region.id = :regionId AND d.status = 1 ORDER BY d.name")
     List<District> findActiveDistrictsByRegion(@Param("regionId") Integer regionId);
     
@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.FoodCategory;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,16 +21,25 @@ import java.util.Optional;
 @Repository
 public interface FoodCategoryRepository extends JpaRepository<FoodCategory, Integer> {
 
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<FoodCategory> findAll();
+
     // Basic finder methods
     Optional<FoodCategory> findByName(String name);
     
     boolean existsByName(String name);
 
     // Status-based queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<FoodCategory> findByStatus(Boolean status);
     
     Page<FoodCategory> findByStatus(Boolean status, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT fc FROM FoodCategory fc WHERE fc.status = true ORDER BY fc.name ASC")
     List<FoodCategory> findAllActiveOrderByName();
 
@@ -1,14 +1,18 @@
 package com.williamtravel.app.repository;
 
+import com.williamtravel.app.dto.FoodSummary;
+import com.williamtravel.app.dto.SearchHit;
 import com.williamtravel.app.entity.Food;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +23,49 @@ import java.util.Optional;
 @Repository
 public interface FoodRepository extends JpaRepository<Food, Integer> {
 
+    /**
+     * Find all, with the associations list views render
+     */
+    @EntityGraph(Food.LIST_GRAPH)
+    @Override
+    List<Food> findAll();
+
+    /**
+     * Find a page, with the associations list views render
+     */
+    @EntityGraph(Food.LIST_GRAPH)
+    @Override
+    Page<Food> findAll(Pageable pageable);
+
+    /**
+     * Find by id, with the associations detail views render
+     */
+    @EntityGraph(Food.DETAIL_GRAPH)
+    @Override
+    Optional<Food> findById(Integer id);
+
+    String SUMMARY_SELECT = "SELECT new com.williamtravel.app.dto.FoodSummary(" +
+            "f.id, f.name, f.thumbnailUrl, f.priceMin, f.priceMax, f.popularityScore, f.status, " +
+            "c.id, c.name, co.id, co.name, r.id, r.name, f.createdAt) " +
+            "FROM Food f LEFT JOIN f.category c LEFT JOIN f.country co LEFT JOIN f.region r";
+
+    // Summary projections for batch lookups
+    @Query(SUMMARY_SELECT + " WHERE f.id IN :ids")
+    List<FoodSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Available rows only, for ids taken from the popularity top lists, which may predate a deactivation
+    @Query(SUMMARY_SELECT + " WHERE f.id IN :ids AND f.status = true")
+    List<FoodSummary> findAvailableSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(value = SUMMARY_SELECT + " WHERE f.status = :status",
+           countQuery = "SELECT COUNT(f) FROM Food f WHERE f.status = :status")
+    Page<FoodSummary> findSummariesByStatus(@Param("status") Boolean status, Pageable pageable);
+
     // Basic finder methods
+    @EntityGraph(Food.DETAIL_GRAPH)
     Optional<Food> findByName(String name);
     
+    @EntityGraph(Food.DETAIL_GRAPH)
     Optional<Food> findByNameCode(String nameCode);
     
     boolean existsByName(String name);
@@ -29,72 +73,97 @@ public interface FoodRepository extends JpaRepository<Food, Integer> {
     boolean existsByNameCode(String nameCode);
 
     // Status-based queries
+    @EntityGraph(Food.LIST_GRAPH)
     List<Food> findByStatus(Boolean status);
     
+    @EntityGraph(Food.LIST_GRAPH)
     Page<Food> findByStatus(Boolean status, Pageable pageable);
 
     // Category-based queries
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.category.id = :categoryId")
     List<Food> findByCategoryId(@Param("categoryId") Integer categoryId);
     
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.category.id = :categoryId AND f.status = :status")
     Page<Food> findByCategoryIdAndStatus(@Param("categoryId") Integer categoryId, 
                                         @Param("status") Boolean status, 
                                         Pageable pageable);
 
     // Country-based queries
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.country.id = :countryId")
     List<Food> findByCountryId(@Param("countryId") Integer countryId);
     
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.country.id = :countryId AND f.status = :status")
     Page<Food> findByCountryIdAndStatus(@Param("countryId") Integer countryId, 
                                        @Param("status") Boolean status, 
                                        Pageable pageable);
 
     // Region-based queries
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.region.id = :regionId")
     List<Food> findByRegionId(@Param("regionId") Integer regionId);
     
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.region.id = :regionId AND f.status = :status")
     Page<Food> findByRegionIdAndStatus(@Param("regionId") Integer regionId, 
                                       @Param("status") Boolean status, 
                                       Pageable pageable);
 
     // Price range queries
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.priceMin >= :minPrice AND f.priceMax <= :maxPrice AND f.status = true")
     List<Food> findByPriceRange(@Param("minPrice") BigDecimal minPrice, 
                                @Param("maxPrice") BigDecimal maxPrice);
     
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.priceMin >= :minPrice AND f.priceMax <= :maxPrice AND f.status = true")
     Page<Food> findByPriceRange(@Param("minPrice") BigDecimal minPrice, 
                                @Param("maxPrice") BigDecimal maxPrice, 
                                Pageable pageable);
 
     // Search queries
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE " +
            "(LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(f.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
            "f.status = true")
     List<Food> searchByKeyword(@Param("keyword") String keyword);
     
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE " +
            "(LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(f.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
            "f.status = true")
     Page<Food> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    // Full-text search over the generated search_vector column, with trigram fallback on the name for typos
+    @Query(value = "SELECT f.id AS \"id\", f.name AS \"title\", LEFT(f.description, 200) AS \"snippet\", " +
+           "f.thumbnail_url AS \"thumbnailUrl\", " +
+           "CAST(ts_rank_cd(f.search_vector, q.query) + similarity(f_search_text(f.name), :term) AS double precision) AS \"score\" " +
+           "FROM food f, to_tsquery('simple', :tsQuery) AS q(query) " +
+           "WHERE f.status = true AND (f.search_vector @@ q.query OR f_search_text(f.name) % :term) " +
+           "ORDER BY \"score\" DESC, f.id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchFullText(@Param("tsQuery") String tsQuery, @Param("term") String term, @Param("limit") int limit);
 
     // Popular food queries (by popularity score)
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.status = true ORDER BY f.popularityScore DESC")
     List<Food> findPopularFood(Pageable pageable);
     
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.category.id = :categoryId AND f.status = true ORDER BY f.popularityScore DESC")
     List<Food> findPopularFoodByCategory(@Param("categoryId") Integer categoryId, Pageable pageable);
 
     // Recently added food
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE f.status = true ORDER BY f.createdAt DESC")
     List<Food> findRecentFood(Pageable pageable);
 
     // Food with media
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT DISTINCT f FROM Food f WHERE f.status = true AND EXISTS (SELECT m FROM Media m WHERE m.referenceId = f.id AND m.referenceType = 'food')")
     List<Food> findFoodWithMedia();
 
@@ -109,6 +178,7 @@ public interface FoodRepository extends JpaRepository<Food, Integer> {
     Long countActiveFoodByCountry(@Param("countryId") Integer countryId);
 
     // Advanced geographic queries
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE " +
            "f.country.id = :countryId AND " +
            "(:regionId IS NULL OR f.region.id = :regionId) AND " +
@@ -118,6 +188,7 @@ public interface FoodRepository extends JpaRepository<Food, Integer> {
                                     Pageable pageable);
 
     // Complex search with multiple filters
+    @EntityGraph(Food.LIST_GRAPH)
     @Query("SELECT f FROM Food f WHERE " +
            "(:keyword IS NULL OR LOWER(f.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(f.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
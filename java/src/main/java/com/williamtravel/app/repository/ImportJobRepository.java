@@ -0,0 +1,28 @@
+package com.williamtravel.app.repository;
+
+import com.williamtravel.app.entity.ImportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for ImportJob entity operations
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Integer> {
+
+    @Query("SELECT j FROM ImportJob j ORDER BY j.createdAt DESC")
+    List<ImportJob> findRecent(Pageable pageable);
+
+    // Jobs left running or queued by a stopped instance
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = 'interrupted', j.updatedAt = :now WHERE j.status IN :statuses")
+    int markInterrupted(@Param("statuses") Collection<String> statuses, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package com.williamtravel.app.repository;
+
+import com.williamtravel.app.entity.ImportRejection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for ImportRejection entity operations
+ */
+@Repository
+public interface ImportRejectionRepository extends JpaRepository<ImportRejection, Integer> {
+
+    // A row offset rather than a page, so callers can start at any rejection
+    @Query(value = "SELECT * FROM import_rejection WHERE job_id = :jobId ORDER BY line_number, id " +
+           "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ImportRejection> findByJobId(@Param("jobId") Integer jobId, @Param("offset") int offset,
+                                      @Param("limit") int limit);
+
+    long countByJobId(Integer jobId);
+}
@@ -1,16 +1,24 @@
 package com.williamtravel.app.repository;
 
+import com.williamtravel.app.dto.LocationSummary;
+import com.williamtravel.app.dto.SearchHit;
 import com.williamtravel.app.entity.Location;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Location entity operations
@@ -18,49 +26,133 @@ import java.util.Optional;
 @Repository
 public interface LocationRepository extends JpaRepository<Location, Integer> {
 
+    /**
+     * Find all, with the associations list views render
+     */
+    @EntityGraph(Location.LIST_GRAPH)
+    @Override
+    List<Location> findAll();
+
+    /**
+     * Find a page, with the associations list views render
+     */
+    @EntityGraph(Location.LIST_GRAPH)
+    @Override
+    Page<Location> findAll(Pageable pageable);
+
+    /**
+     * Find by id, with the associations detail views render
+     */
+    @EntityGraph(Location.DETAIL_GRAPH)
+    @Override
+    Optional<Location> findById(Integer id);
+
+    // Summary projections for list views
+    String SUMMARY_SELECT = "SELECT new com.williamtravel.app.dto.LocationSummary(" +
+            "l.id, l.name, l.thumbnailUrl, l.city, l.latitude, l.longitude, l.priceMin, l.priceMax, " +
+            "l.popularityScore, l.isActive, c.id, c.name, co.id, co.name, r.id, r.name, l.createdAt) " +
+            "FROM Location l LEFT JOIN l.category c LEFT JOIN l.country co LEFT JOIN l.region r";
+    
+    @Query(SUMMARY_SELECT)
+    List<LocationSummary> findAllSummaries();
+    
+    // Streamed through a database cursor for exports; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + " ORDER BY l.id")
+    Stream<LocationSummary> streamAllSummaries();
+    
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(l) FROM Location l")
+    Page<LocationSummary> findAllSummaries(Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.isActive = :isActive",
+           countQuery = "SELECT COUNT(l) FROM Location l WHERE l.isActive = :isActive")
+    Page<LocationSummary> findSummariesByIsActive(@Param("isActive") Boolean isActive, Pageable pageable);
+    
+    // Keyset slice ordered by (createdAt DESC, id DESC), strictly after the given position
+    @Query(SUMMARY_SELECT + " WHERE l.isActive = :isActive AND (l.createdAt, l.id) < (:createdAt, :id) " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    List<LocationSummary> findSummariesByIsActiveAfter(@Param("isActive") Boolean isActive,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Integer id,
+                                                      Pageable limit);
+    
+    @Query("SELECT l FROM Location l LEFT JOIN FETCH l.category LEFT JOIN FETCH l.country LEFT JOIN FETCH l.region " +
+           "LEFT JOIN FETCH l.district LEFT JOIN FETCH l.ward WHERE l.id = :id")
+    Optional<Location> findDetailById(@Param("id") Integer id);
+    
+    @Query(SUMMARY_SELECT + " WHERE l.id IN :ids")
+    List<LocationSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Active rows only, for ids taken from the popularity top lists, which may predate a deactivation
+    @Query(SUMMARY_SELECT + " WHERE l.id IN :ids AND l.isActive = true")
+    List<LocationSummary> findActiveSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    // Coordinates of active rows, used to build the in-memory geo index
+    @Query("SELECT l.id, l.latitude, l.longitude FROM Location l " +
+           "WHERE l.isActive = true AND l.latitude IS NOT NULL AND l.longitude IS NOT NULL")
+    List<Object[]> findActiveCoordinates();
+    
     // Basic finder methods
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByName(String name);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByNameContainingIgnoreCase(String name);
     
     boolean existsByName(String name);
     
     // Status-based queries
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByIsActive(Boolean isActive);
     
+    @EntityGraph(Location.LIST_GRAPH)
     Page<Location> findByIsActive(Boolean isActive, Pageable pageable);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByIsActiveOrderByPopularityScoreDesc(Boolean isActive);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByIsActiveOrderByNameAsc(Boolean isActive);
     
     // Category relationship queries
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByCategoryId(Integer categoryId);
     
+    @EntityGraph(Location.LIST_GRAPH)
     Page<Location> findByCategoryId(Integer categoryId, Pageable pageable);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByCategoryIdAndIsActive(Integer categoryId, Boolean isActive);
     
+    @EntityGraph(Location.LIST_GRAPH)
     Page<Location> findByCategoryIdAndIsActive(Integer categoryId, Boolean isActive, Pageable pageable);
     
     @Query("SELECT l FROM Location l JOIN FETCH l.category WHERE l.category.id = :categoryId AND l.isActive = :isActive")
     List<Location> findByCategoryIdAndIsActiveWithCategory(@Param("categoryId") Integer categoryId, @Param("isActive") Boolean isActive);
     
     // Geographic relationship queries
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByCountryId(Integer countryId);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByCountryIdAndIsActive(Integer countryId, Boolean isActive);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByRegionId(Integer regionId);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByRegionIdAndIsActive(Integer regionId, Boolean isActive);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByDistrictId(Integer districtId);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByDistrictIdAndIsActive(Integer districtId, Boolean isActive);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByWardId(Integer wardId);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByWardIdAndIsActive(Integer wardId, Boolean isActive);
     
     // Geographic queries with relationships
@@ -74,8 +166,10 @@ public interface LocationRepository extends JpaRepository<Location, Integer> {
     Optional<Location> findByIdWithFullGeography(@Param("id") Integer id);
     
     // Price range queries
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByPriceMinLessThanEqualAndPriceMaxGreaterThanEqual(Double maxBudget, Double minBudget);
     
+    @EntityGraph(Location.LIST_GRAPH)
     @Query("SELECT l FROM Location l WHERE l.isActive = :isActive AND " +
            "(:minPrice IS NULL OR l.priceMin >= :minPrice) AND " +
            "(:maxPrice IS NULL OR l.priceMax <= :maxPrice)")
@@ -84,17 +178,21 @@ public interface LocationRepository extends JpaRepository<Location, Integer> {
                                               @Param("maxPrice") Double maxPrice);
     
     // Popularity and ranking queries
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByIsActiveOrderByPopularityScoreDesc(Boolean isActive, Pageable pageable);
     
+    @EntityGraph(Location.LIST_GRAPH)
     @Query("SELECT l FROM Location l WHERE l.isActive = :isActive AND l.popularityScore IS NOT NULL ORDER BY l.popularityScore DESC")
     List<Location> findTopLocationsByPopularity(@Param("isActive") Boolean isActive, Pageable pageable);
     
+    @EntityGraph(Location.LIST_GRAPH)
     @Query("SELECT l FROM Location l WHERE l.category.id = :categoryId AND l.isActive = :isActive ORDER BY l.popularityScore DESC")
     List<Location> findTopLocationsByCategoryAndPopularity(@Param("categoryId") Integer categoryId, 
                                                           @Param("isActive") Boolean isActive, 
                                                           Pageable pageable);
     
     // Geographic proximity queries
+    @EntityGraph(Location.LIST_GRAPH)
     @Query("SELECT l FROM Location l WHERE l.isActive = :isActive AND " +
            "l.latitude BETWEEN :minLat AND :maxLat AND " +
            "l.longitude BETWEEN :minLng AND :maxLng")
@@ -105,6 +203,7 @@ public interface LocationRepository extends JpaRepository<Location, Integer> {
                                                      @Param("maxLng") Double maxLng);
     
     // Search and filtering
+    @EntityGraph(Location.LIST_GRAPH)
     @Query("SELECT l FROM Location l WHERE l.isActive = :isActive AND " +
            "(:name IS NULL OR LOWER(l.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
            "(:categoryId IS NULL OR l.category.id = :categoryId) AND " +
@@ -127,6 +226,15 @@ public interface LocationRepository extends JpaRepository<Location, Integer> {
            "LOWER(l.city) LIKE LOWER(CONCAT('%', :searchText, '%')))")
     List<Location> searchLocations(@Param("isActive") Boolean isActive, @Param("searchText") String searchText);
     
+    // Full-text search over the generated search_vector column, with trigram fallback on the name for typos
+    @Query(value = "SELECT l.id AS \"id\", l.name AS \"title\", LEFT(l.description, 200) AS \"snippet\", " +
+           "l.thumbnail_url AS \"thumbnailUrl\", " +
+           "CAST(ts_rank_cd(l.search_vector, q.query) + similarity(f_search_text(l.name), :term) AS double precision) AS \"score\" " +
+           "FROM locations l, to_tsquery('simple', :tsQuery) AS q(query) " +
+           "WHERE l.is_active = true AND (l.search_vector @@ q.query OR f_search_text(l.name) % :term) " +
+           "ORDER BY \"score\" DESC, l.id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchFullText(@Param("tsQuery") String tsQuery, @Param("term") String term, @Param("limit") int limit);
+    
     // Count queries
     long countByIsActive(Boolean isActive);
     
@@ -137,8 +245,10 @@ public interface LocationRepository extends JpaRepository<Location, Integer> {
     long countByRegionIdAndIsActive(Integer regionId, Boolean isActive);
     
     // Date-based queries
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
+    @EntityGraph(Location.LIST_GRAPH)
     List<Location> findByUpdatedAtAfter(LocalDateTime date);
     
     // Statistics queries
@@ -160,12 +270,15 @@ public interface LocationRepository extends JpaRepository<Location, Integer> {
     boolean existsByLatitudeAndLongitudeAndIdNot(Double latitude, Double longitude, Integer id);
     
     // Custom business logic queries
+    @EntityGraph(Location.LIST_GRAPH)
     @Query("SELECT l FROM Location l WHERE l.isActive = true AND l.thumbnailUrl IS NOT NULL ORDER BY l.popularityScore DESC")
     List<Location> findFeaturedLocationsWithImages(Pageable pageable);
     
+    @EntityGraph(Location.LIST_GRAPH)
     @Query("SELECT l FROM Location l WHERE l.isActive = true AND l.country.id = :countryId ORDER BY l.popularityScore DESC")
     List<Location> findTopLocationsByCountry(@Param("countryId") Integer countryId, Pageable pageable);
     
+    @EntityGraph(Location.LIST_GRAPH)
     @Query("SELECT l FROM Location l WHERE l.isActive = true AND l.region.id = :regionId ORDER BY l.popularityScore DESC")
     List<Location> findTopLocationsByRegion(@Param("regionId") Integer regionId, Pageable pageable);
     
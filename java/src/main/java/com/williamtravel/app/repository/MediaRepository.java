@@ -1,16 +1,23 @@
 package com.williamtravel.app.repository;
 
+import com.williamtravel.app.dto.MediaSummary;
 import com.williamtravel.app.entity.Media;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Media entity operations
@@ -19,77 +26,146 @@ import java.util.Optional;
 @Repository
 public interface MediaRepository extends JpaRepository<Media, Integer> {
 
+    /**
+     * Find all, with the associations list views render
+     */
+    @EntityGraph(Media.LIST_GRAPH)
+    @Override
+    List<Media> findAll();
+
+    /**
+     * Find a page, with the associations list views render
+     */
+    @EntityGraph(Media.LIST_GRAPH)
+    @Override
+    Page<Media> findAll(Pageable pageable);
+
+    /**
+     * Find by id, with the associations detail views render
+     */
+    @EntityGraph(Media.DETAIL_GRAPH)
+    @Override
+    Optional<Media> findById(Integer id);
+
+    String SUMMARY_SELECT = "SELECT new com.williamtravel.app.dto.MediaSummary(" +
+            "m.id, m.type.id, m.category.id, m.referenceId, m.referenceType, m.url, m.title, m.altText, " +
+            "m.sortOrder, m.isMain, m.width, m.height, m.status, m.uploadedAt) FROM Media m";
+
+    // Streamed through a database cursor for exports; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + " ORDER BY m.id")
+    Stream<MediaSummary> streamAllSummaries();
+
+    // Summary projections for batch lookups by reference
+    @Query(SUMMARY_SELECT + " WHERE m.referenceType = :referenceType AND m.referenceId IN :referenceIds " +
+           "ORDER BY m.referenceId, m.sortOrder, m.id")
+    List<MediaSummary> findSummariesByReferenceIn(@Param("referenceType") String referenceType,
+                                                  @Param("referenceIds") Collection<Integer> referenceIds);
+
+    @Query(SUMMARY_SELECT + " WHERE m.referenceType = :referenceType AND m.referenceId IN :referenceIds " +
+           "AND m.isMain = true ORDER BY m.referenceId, m.sortOrder, m.id")
+    List<MediaSummary> findMainSummariesByReferenceIn(@Param("referenceType") String referenceType,
+                                                      @Param("referenceIds") Collection<Integer> referenceIds);
+
     // Find by reference (entity this media belongs to)
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.referenceId = :referenceId AND m.referenceType = :referenceType")
     List<Media> findByReference(@Param("referenceId") Integer referenceId, 
                                @Param("referenceType") String referenceType);
     
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.referenceId = :referenceId AND m.referenceType = :referenceType ORDER BY m.sortOrder ASC, m.uploadedAt DESC")
     Page<Media> findByReference(@Param("referenceId") Integer referenceId, 
                                @Param("referenceType") String referenceType, 
                                Pageable pageable);
+    
+    // Keyset slice ordered by id DESC, strictly after the given id
+    @EntityGraph(Media.LIST_GRAPH)
+    @Query("SELECT m FROM Media m WHERE m.referenceId = :referenceId AND m.referenceType = :referenceType " +
+           "AND m.id < :id ORDER BY m.id DESC")
+    List<Media> findByReferenceAfter(@Param("referenceId") Integer referenceId,
+                                     @Param("referenceType") String referenceType,
+                                     @Param("id") Integer id,
+                                     Pageable limit);
 
     // Find by reference type
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.referenceType = :referenceType ORDER BY m.uploadedAt DESC")
     List<Media> findByReferenceType(@Param("referenceType") String referenceType);
     
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.referenceType = :referenceType ORDER BY m.uploadedAt DESC")
     Page<Media> findByReferenceType(@Param("referenceType") String referenceType, Pageable pageable);
 
     // Find by media type
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.type.id = :typeId")
     List<Media> findByTypeId(@Param("typeId") Integer typeId);
     
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.type.id = :typeId ORDER BY m.uploadedAt DESC")
     Page<Media> findByTypeId(@Param("typeId") Integer typeId, Pageable pageable);
 
     // Find by media category
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.category.id = :categoryId")
     List<Media> findByCategoryId(@Param("categoryId") Integer categoryId);
     
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.category.id = :categoryId ORDER BY m.uploadedAt DESC")
     Page<Media> findByCategoryId(@Param("categoryId") Integer categoryId, Pageable pageable);
 
     // Find by file path
+    @EntityGraph(Media.DETAIL_GRAPH)
     Optional<Media> findByFilePath(String filePath);
     
     boolean existsByFilePath(String filePath);
 
     // Find by original filename
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE LOWER(m.originalFileName) LIKE LOWER(CONCAT('%', :filename, '%'))")
     List<Media> findByOriginalFileNameContaining(@Param("filename") String filename);
 
     // Find by alt text
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE LOWER(m.altText) LIKE LOWER(CONCAT('%', :altText, '%'))")
     List<Media> findByAltTextContaining(@Param("altText") String altText);
 
     // Find main/featured media for entities
+    @EntityGraph(Media.DETAIL_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.referenceId = :referenceId AND m.referenceType = :referenceType AND m.isMain = true")
     Optional<Media> findMainMediaByReference(@Param("referenceId") Integer referenceId, 
                                             @Param("referenceType") String referenceType);
 
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.isMain = true ORDER BY m.uploadedAt DESC")
     List<Media> findAllMainMedia();
 
     // Find by file size range
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.fileSize >= :minSize AND m.fileSize <= :maxSize ORDER BY m.uploadedAt DESC")
     List<Media> findByFileSizeRange(@Param("minSize") Long minSize, @Param("maxSize") Long maxSize);
 
     // Find by upload date range
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.uploadedAt >= :startDate AND m.uploadedAt <= :endDate ORDER BY m.uploadedAt DESC")
     List<Media> findByUploadDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.uploadedAt >= :startDate AND m.uploadedAt <= :endDate ORDER BY m.uploadedAt DESC")
     Page<Media> findByUploadDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, Pageable pageable);
 
     // Recent uploads
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m ORDER BY m.uploadedAt DESC")
     List<Media> findRecentUploads(Pageable pageable);
 
     // Find by dimensions (for images)
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.width = :width AND m.height = :height")
     List<Media> findByDimensions(@Param("width") Integer width, @Param("height") Integer height);
 
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.width >= :minWidth AND m.height >= :minHeight")
     List<Media> findByMinDimensions(@Param("minWidth") Integer minWidth, @Param("minHeight") Integer minHeight);
 
@@ -113,12 +189,14 @@ public interface MediaRepository extends JpaRepository<Media, Integer> {
     Long getTotalFileSize();
 
     // Find media by type and reference combination
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.referenceId = :referenceId AND m.referenceType = :referenceType AND m.type.id = :typeId ORDER BY m.sortOrder ASC")
     List<Media> findByReferenceAndType(@Param("referenceId") Integer referenceId, 
                                       @Param("referenceType") String referenceType, 
                                       @Param("typeId") Integer typeId);
 
     // Find media by category and reference combination
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.referenceId = :referenceId AND m.referenceType = :referenceType AND m.category.id = :categoryId ORDER BY m.sortOrder ASC")
     List<Media> findByReferenceAndCategory(@Param("referenceId") Integer referenceId, 
                                           @Param("referenceType") String referenceType, 
@@ -137,12 +215,14 @@ public interface MediaRepository extends JpaRepository<Media, Integer> {
     List<Object[]> findEntitiesWithMostMedia(Pageable pageable);
 
     // Search media by filename and alt text
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE " +
            "LOWER(m.originalFileName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(m.altText) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "ORDER BY m.uploadedAt DESC")
     List<Media> searchMedia(@Param("keyword") String keyword);
     
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE " +
            "LOWER(m.originalFileName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(m.altText) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -150,6 +230,7 @@ public interface MediaRepository extends JpaRepository<Media, Integer> {
     Page<Media> searchMedia(@Param("keyword") String keyword, Pageable pageable);
 
     // Find orphaned media (media without valid reference)
+    @EntityGraph(Media.LIST_GRAPH)
     @Query("SELECT m FROM Media m WHERE m.referenceId IS NULL OR m.referenceType IS NULL")
     List<Media> findOrphanedMedia();
 }
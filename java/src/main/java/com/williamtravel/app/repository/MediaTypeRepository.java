@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.MediaType;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,9 +21,17 @@ import java.util.Optional;
 @Repository
 public interface MediaTypeRepository extends JpaRepository<MediaType, Integer> {
 
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<MediaType> findAll();
+
     // Basic finder methods
     Optional<MediaType> findByName(String name);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<MediaType> findByExtension(String extension);
     
     boolean existsByName(String name);
@@ -28,10 +39,12 @@ public interface MediaTypeRepository extends JpaRepository<MediaType, Integer> {
     boolean existsByExtension(String extension);
 
     // Status-based queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<MediaType> findByStatus(Integer status);
     
     Page<MediaType> findByStatus(Integer status, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT mt FROM MediaType mt WHERE mt.status = 1 ORDER BY mt.name ASC")
     List<MediaType> findAllActiveOrderByName();
 
@@ -1,16 +1,21 @@
 package com.williamtravel.app.repository;
 
+import com.williamtravel.app.dto.RatingRow;
 import com.williamtravel.app.entity.Rating;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Rating entity operations
@@ -19,6 +24,14 @@ import java.util.Optional;
 @Repository
 public interface RatingRepository extends JpaRepository<Rating, Integer> {
 
+    String ROW_SELECT = "SELECT new com.williamtravel.app.dto.RatingRow(" +
+            "r.id, r.referenceId, r.referenceType, r.user.id, r.rating, r.comment, r.createdAt) FROM Rating r";
+
+    // Streamed rows for exports; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ROW_SELECT + " ORDER BY r.id")
+    Stream<RatingRow> streamAllRows();
+
     // Find by reference (entity being rated)
     @Query("SELECT r FROM Rating r WHERE r.referenceId = :referenceId AND r.referenceType = :referenceType")
     List<Rating> findByReference(@Param("referenceId") Integer referenceId, 
@@ -28,6 +41,15 @@ public interface RatingRepository extends JpaRepository<Rating, Integer> {
     Page<Rating> findByReference(@Param("referenceId") Integer referenceId, 
                                 @Param("referenceType") String referenceType, 
                                 Pageable pageable);
+    
+    // Keyset slice ordered by (createdAt DESC, id DESC), strictly after the given position
+    @Query("SELECT r FROM Rating r WHERE r.referenceId = :referenceId AND r.referenceType = :referenceType " +
+           "AND (r.createdAt, r.id) < (:createdAt, :id) ORDER BY r.createdAt DESC, r.id DESC")
+    List<Rating> findByReferenceAfter(@Param("referenceId") Integer referenceId,
+                                      @Param("referenceType") String referenceType,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Integer id,
+                                      Pageable limit);
 
     // Find by user
     @Query("SELECT r FROM Rating r WHERE r.user.id = :userId ORDER BY r.createdAt DESC")
@@ -128,6 +150,11 @@ public interface RatingRepository extends JpaRepository<Rating, Integer> {
     @Query("SELECT r FROM Rating r WHERE r.comment IS NOT NULL AND r.comment != '' ORDER BY r.createdAt DESC")
     List<Rating> findRatingsWithReviews();
     
+    // Streamed rows for exports; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ROW_SELECT + " WHERE r.comment IS NOT NULL AND r.comment != '' ORDER BY r.createdAt DESC, r.id DESC")
+    Stream<RatingRow> streamRowsWithReviews();
+    
     @Query("SELECT r FROM Rating r WHERE r.comment IS NOT NULL AND r.comment != '' ORDER BY r.createdAt DESC")
     Page<Rating> findRatingsWithReviews(Pageable pageable);
 
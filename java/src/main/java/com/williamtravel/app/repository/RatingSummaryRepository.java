@@ -0,0 +1,127 @@
+package com.williamtravel.app.repository;
+
+import com.williamtravel.app.entity.RatingSummary;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for RatingSummary entity operations.
+ * Write queries are single statements so concurrent rating writes serialize on the summary row.
+ */
+@Repository
+public interface RatingSummaryRepository extends JpaRepository<RatingSummary, Integer> {
+
+    /** Star bucket of a rating value; must agree with RatingSummaryService.star() */
+    String STAR = "LEAST(5, GREATEST(1, FLOOR(r.rating + 0.5)))";
+
+    Optional<RatingSummary> findByReferenceTypeAndReferenceId(String referenceType, Integer referenceId);
+
+    List<RatingSummary> findByReferenceTypeAndReferenceIdIn(String referenceType, Collection<Integer> referenceIds);
+
+    // Leaderboards
+    @Query("SELECT s.referenceId, s.averageRating, s.ratingCount FROM RatingSummary s " +
+           "WHERE s.referenceType = :referenceType AND s.ratingCount >= :minRatingCount AND s.ratingCount > 0 " +
+           "ORDER BY s.averageRating DESC, s.ratingCount DESC")
+    List<Object[]> findTopRatedByType(@Param("referenceType") String referenceType,
+                                      @Param("minRatingCount") Long minRatingCount,
+                                      Pageable pageable);
+
+    @Query("SELECT s.referenceId, s.ratingCount, s.averageRating FROM RatingSummary s " +
+           "WHERE s.referenceType = :referenceType AND s.ratingCount > 0 " +
+           "ORDER BY s.ratingCount DESC, s.averageRating DESC")
+    List<Object[]> findMostReviewedByType(@Param("referenceType") String referenceType, Pageable pageable);
+
+    // Incremental maintenance. Native writes declare the table they touch; without it Hibernate
+    // would evict every second-level cache region on each rating
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rating_summary"))
+    @Query(value = "INSERT INTO rating_summary (reference_type, reference_id, rating_count, rating_sum, average_rating, " +
+           "min_rating, max_rating, star_1, star_2, star_3, star_4, star_5, updated_at) " +
+           "VALUES (:referenceType, :referenceId, 1, :rating, :rating, :rating, :rating, " +
+           "CASE WHEN :star = 1 THEN 1 ELSE 0 END, CASE WHEN :star = 2 THEN 1 ELSE 0 END, " +
+           "CASE WHEN :star = 3 THEN 1 ELSE 0 END, CASE WHEN :star = 4 THEN 1 ELSE 0 END, " +
+           "CASE WHEN :star = 5 THEN 1 ELSE 0 END, now()) " +
+           "ON CONFLICT (reference_type, reference_id) DO UPDATE SET " +
+           "rating_count = rating_summary.rating_count + 1, " +
+           "rating_sum = rating_summary.rating_sum + EXCLUDED.rating_sum, " +
+           "average_rating = (rating_summary.rating_sum + EXCLUDED.rating_sum) / (rating_summary.rating_count + 1), " +
+           "min_rating = LEAST(rating_summary.min_rating, EXCLUDED.min_rating), " +
+           "max_rating = GREATEST(rating_summary.max_rating, EXCLUDED.max_rating), " +
+           "star_1 = rating_summary.star_1 + EXCLUDED.star_1, " +
+           "star_2 = rating_summary.star_2 + EXCLUDED.star_2, " +
+           "star_3 = rating_summary.star_3 + EXCLUDED.star_3, " +
+           "star_4 = rating_summary.star_4 + EXCLUDED.star_4, " +
+           "star_5 = rating_summary.star_5 + EXCLUDED.star_5, " +
+           "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int addRating(@Param("referenceType") String referenceType,
+                  @Param("referenceId") Integer referenceId,
+                  @Param("rating") Double rating,
+                  @Param("star") int star);
+
+    // The rating row must already be deleted or changed, so min/max are recomputed from what remains
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rating_summary"))
+    @Query(value = "UPDATE rating_summary s SET " +
+           "rating_count = s.rating_count - 1, " +
+           "rating_sum = s.rating_sum - :rating, " +
+           "average_rating = CASE WHEN s.rating_count > 1 THEN (s.rating_sum - :rating) / (s.rating_count - 1) END, " +
+           "min_rating = m.min_rating, " +
+           "max_rating = m.max_rating, " +
+           "star_1 = s.star_1 - CASE WHEN :star = 1 THEN 1 ELSE 0 END, " +
+           "star_2 = s.star_2 - CASE WHEN :star = 2 THEN 1 ELSE 0 END, " +
+           "star_3 = s.star_3 - CASE WHEN :star = 3 THEN 1 ELSE 0 END, " +
+           "star_4 = s.star_4 - CASE WHEN :star = 4 THEN 1 ELSE 0 END, " +
+           "star_5 = s.star_5 - CASE WHEN :star = 5 THEN 1 ELSE 0 END, " +
+           "updated_at = now() " +
+           "FROM (SELECT MIN(r.rating) AS min_rating, MAX(r.rating) AS max_rating FROM ratings r " +
+           "      WHERE r.reference_type = :referenceType AND r.reference_id = :referenceId) m " +
+           "WHERE s.reference_type = :referenceType AND s.reference_id = :referenceId AND s.rating_count > 0",
+           nativeQuery = true)
+    int removeRating(@Param("referenceType") String referenceType,
+                     @Param("referenceId") Integer referenceId,
+                     @Param("rating") Double rating,
+                     @Param("star") int star);
+
+    // Full rebuild from the ratings table, used to correct drift
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rating_summary"))
+    @Query(value = "DELETE FROM rating_summary", nativeQuery = true)
+    int deleteAllSummaries();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rating_summary"))
+    @Query(value = "INSERT INTO rating_summary (reference_type, reference_id, rating_count, rating_sum, average_rating, " +
+           "min_rating, max_rating, star_1, star_2, star_3, star_4, star_5, updated_at) " +
+           "SELECT r.reference_type, r.reference_id, COUNT(*), SUM(r.rating), AVG(r.rating), MIN(r.rating), MAX(r.rating), " +
+           "COUNT(*) FILTER (WHERE " + STAR + " = 1), COUNT(*) FILTER (WHERE " + STAR + " = 2), " +
+           "COUNT(*) FILTER (WHERE " + STAR + " = 3), COUNT(*) FILTER (WHERE " + STAR + " = 4), " +
+           "COUNT(*) FILTER (WHERE " + STAR + " = 5), now() " +
+           "FROM ratings r GROUP BY r.reference_type, r.reference_id", nativeQuery = true)
+    int insertAllFromRatings();
+
+    // Keep the denormalized accommodations.rating column in step with the summary
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accommodations"))
+    @Query(value = "UPDATE accommodations SET rating = (SELECT s.average_rating FROM rating_summary s " +
+           "WHERE s.reference_type = 'accommodation' AND s.reference_id = :accommodationId) " +
+           "WHERE id = :accommodationId", nativeQuery = true)
+    int syncAccommodationRating(@Param("accommodationId") Integer accommodationId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accommodations"))
+    @Query(value = "UPDATE accommodations a SET rating = s.average_rating FROM rating_summary s " +
+           "WHERE s.reference_type = 'accommodation' AND s.reference_id = a.id " +
+           "AND a.rating IS DISTINCT FROM s.average_rating", nativeQuery = true)
+    int syncAllAccommodationRatings();
+}
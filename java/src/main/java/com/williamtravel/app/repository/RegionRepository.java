@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.Region;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +21,17 @@ import java.util.Optional;
 @Repository
 public interface RegionRepository extends JpaRepository<Region, Integer> {
 
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Region> findAll();
+
+    // Flat rows used to build the in-memory geography tree
+    @Query("SELECT r.id, r.code, r.name, r.nameCode, r.status, r.country.id FROM Region r")
+    List<Object[]> findHierarchyRows();
+
     // Basic finder methods
     Optional<Region> findByCode(String code);
     
@@ -30,17 +44,21 @@ public interface RegionRepository extends JpaRepository<Region, Integer> {
     boolean existsByName(String name);
     
     // Status-based queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Region> findByStatus(Integer status);
     
     Page<Region> findByStatus(Integer status, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Region> findByStatusOrderByName(Integer status);
     
     // Country relationship queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Region> findByCountryId(Integer countryId);
     
     Page<Region> findByCountryId(Integer countryId, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Region> findByCountryIdAndStatus(Integer countryId, Integer status);
     
     Page<Region> findByCountryIdAndStatus(Integer countryId, Integer status, Pageable pageable);
@@ -119,6 +137,7 @@ public interface RegionRepository extends JpaRepository<Region, Integer> {
     boolean existsByCountryIdAndCodeAndIdNot(Integer countryId, String code, Integer id);
     
     // Custom queries for specific business logic
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT r FROM Region r WHERE r.country.id = :countryId AND r.status = 1 ORDER BY r.name")
     List<Region> findActiveRegionsByCountry(@Param("countryId") Integer countryId);
     
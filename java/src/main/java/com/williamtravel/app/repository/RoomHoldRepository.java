@@ -0,0 +1,35 @@
+package com.williamtravel.app.repository;
+
+import com.williamtravel.app.entity.RoomHold;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for RoomHold entity operations
+ */
+@Repository
+public interface RoomHoldRepository extends JpaRepository<RoomHold, Integer> {
+
+    // Locked so a commit, a release and the expiry job cannot all settle the same hold
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM RoomHold h WHERE h.id = :id")
+    Optional<RoomHold> lockById(@Param("id") Integer id);
+
+    @Query("SELECT h FROM RoomHold h WHERE h.userId = :userId ORDER BY h.createdAt DESC")
+    List<RoomHold> findByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    @Query("SELECT h.id FROM RoomHold h WHERE h.status = 'held' AND h.expiresAt < :now ORDER BY h.expiresAt")
+    List<Integer> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT h.status, COUNT(h) FROM RoomHold h GROUP BY h.status")
+    List<Object[]> countByStatus();
+}
@@ -0,0 +1,47 @@
+package com.williamtravel.app.repository;
+
+import com.williamtravel.app.entity.RoomInventory;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for RoomInventory entity operations
+ */
+@Repository
+public interface RoomInventoryRepository extends JpaRepository<RoomInventory, Integer> {
+
+    @Query("SELECT i FROM RoomInventory i WHERE i.roomId = :roomId AND i.stayDate >= :from AND i.stayDate < :to " +
+           "ORDER BY i.stayDate")
+    List<RoomInventory> findByRoom(@Param("roomId") Integer roomId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Row locks are taken in date order, so holds on overlapping stays queue instead of deadlocking
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM RoomInventory i WHERE i.roomId = :roomId AND i.stayDate >= :from AND i.stayDate < :to " +
+           "ORDER BY i.stayDate")
+    List<RoomInventory> lockByRoom(@Param("roomId") Integer roomId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Free units per room night as [roomId, stayDate, free], for the availability index
+    @Query("SELECT i.roomId, i.stayDate, i.allotment - i.booked - i.held FROM RoomInventory i " +
+           "WHERE i.roomId = :roomId AND i.stayDate >= :from AND i.stayDate < :to")
+    List<Object[]> findFreeByRoom(@Param("roomId") Integer roomId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Streamed through a database cursor for the index rebuild; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT i.roomId, i.stayDate, i.allotment - i.booked - i.held FROM RoomInventory i " +
+           "WHERE i.stayDate >= :from AND i.stayDate < :to ORDER BY i.roomId")
+    Stream<Object[]> streamFree(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT COUNT(i) FROM RoomInventory i WHERE i.stayDate >= :from")
+    long countFrom(@Param("from") LocalDate from);
+}
@@ -23,6 +23,12 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      */
     Optional<User> findByEmail(String email);
     
+    /**
+     * Find ID, active flag and last update timestamp by email, used for token revocation checks
+     */
+    @Query("SELECT u.id, u.isActive, u.updatedAt FROM User u WHERE u.email = :email")
+    List<Object[]> findActiveStateByEmail(@Param("email") String email);
+    
     /**
      * Find users by role
      */
@@ -1,13 +1,16 @@
 package com.williamtravel.app.repository;
 
 import com.williamtravel.app.entity.Ward;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +21,17 @@ import java.util.Optional;
 @Repository
 public interface WardRepository extends JpaRepository<Ward, Integer> {
 
+    /**
+     * Find all, served from the query cache
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Ward> findAll();
+
+    // Flat rows used to build the in-memory geography tree
+    @Query("SELECT w.id, w.code, w.name, w.nameCode, w.status, w.district.id FROM Ward w")
+    List<Object[]> findHierarchyRows();
+
     // Basic finder methods
     Optional<Ward> findByCode(String code);
     
@@ -30,17 +44,21 @@ public interface WardRepository extends JpaRepository<Ward, Integer> {
     boolean existsByName(String name);
     
     // Status-based queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Ward> findByStatus(Integer status);
     
     Page<Ward> findByStatus(Integer status, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Ward> findByStatusOrderByName(Integer status);
     
     // District relationship queries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Ward> findByDistrictId(Integer districtId);
     
     Page<Ward> findByDistrictId(Integer districtId, Pageable pageable);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Ward> findByDistrictIdAndStatus(Integer districtId, Integer status);
     
     Page<Ward> findByDistrictIdAndStatus(Integer districtId, Integer status, Pageable pageable);
@@ -136,6 +154,7 @@ public interface WardRepository extends JpaRepository<Ward, Integer> {
     boolean existsByDistrictIdAndCodeAndIdNot(Integer districtId, String code, Integer id);
     
     // Custom queries for specific business logic
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT w FROM Ward w WHERE w.district.id = :districtId AND w.status = 1 ORDER BY w.name")
     List<Ward> findActiveWardsByDistrict(@Param("districtId") Integer districtId);
     
@@ -0,0 +1,87 @@
+package com.williamtravel.app.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * UserDetails carrying the role, superuser flag and version stamp that are
+ * written into JWT claims, so an authenticated request can be rebuilt from the
+ * token alone without loading the user row.
+ */
+public class AuthenticatedUser extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Integer userId;
+    private final Integer roleId;
+    private final String roleName;
+    private final boolean superuser;
+    private final long version;
+
+    public AuthenticatedUser(Integer userId, String email, String password, boolean enabled,
+                             Integer roleId, String roleName, boolean superuser, long version) {
+        super(email, password != null ? password : "", enabled, true, true, true,
+                buildAuthorities(roleName, superuser));
+        this.userId = userId;
+        this.roleId = roleId;
+        this.roleName = roleName;
+        this.superuser = superuser;
+        this.version = version;
+    }
+
+    /**
+     * Fresh instance with the same state, so a cached copy is never affected by credential erasure
+     */
+    public AuthenticatedUser copy() {
+        return new AuthenticatedUser(userId, getUsername(), getPassword(), isEnabled(),
+                roleId, roleName, superuser, version);
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public Integer getRoleId() {
+        return roleId;
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+
+    public boolean isSuperuser() {
+        return superuser;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Build granted authorities from a role name and superuser flag
+     */
+    public static Collection<GrantedAuthority> buildAuthorities(String roleName, boolean superuser) {
+        List<GrantedAuthority> authorities = new ArrayList<>(2);
+        if (roleName != null) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + roleName));
+        }
+        if (superuser) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+        return authorities;
+    }
+
+    /**
+     * Version stamp of a user row, derived from its last update timestamp
+     */
+    public static long versionOf(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+}
@@ -5,17 +5,11 @@ import com.williamtravel.app.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
@@ -24,32 +18,22 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userDetailsCache.get(email, this::loadFromDatabase);
+    }
+
+    private AuthenticatedUser loadFromDatabase(String email) {
         logger.info("Loading user details for email: {}", email);
         try {
             User user = userService.findByEmail(email)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
             logger.info("User found: {}", user.getEmail());
-            boolean isActive = user.getIsActive() != null ? user.getIsActive() : false;
-            
-            if (!isActive) {
-                logger.warn("Attempt to authenticate inactive user: {}", email);
-            }
-            
-            Collection<? extends GrantedAuthority> authorities = getAuthorities(user);
-            logger.debug("User authorities: {}", authorities);
-
-            return new org.springframework.security.core.userdetails.User(
-                    user.getEmail(),
-                    user.getHashedPassword(),
-                    isActive,
-                    true,
-                    true,
-                    true,
-                    authorities
-            );
+            return buildUserDetails(user);
         } catch (UsernameNotFoundException e) {
             logger.warn("User not found with email: {}", email);
             throw e;
@@ -59,24 +43,31 @@ public class CustomUserDetailsService implements UserDetailsService {
         }
     }
 
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
-        logger.debug("Building authorities for user: {}", user.getEmail());
-        List<GrantedAuthority> authorities = new ArrayList<>();
+    /**
+     * Build user details for an already loaded user, carrying the state needed for stateless tokens
+     */
+    public AuthenticatedUser buildUserDetails(User user) {
+        boolean isActive = user.getIsActive() != null ? user.getIsActive() : false;
         
-        // Add role
-        if (user.getRole() != null) {
-            String roleName = user.getRole().getName();
-            logger.debug("Adding role authority for user {}: ROLE_{}", user.getEmail(), roleName);
-            authorities.add(new SimpleGrantedAuthority("ROLE_" + roleName));
+        if (!isActive) {
+            logger.warn("Attempt to authenticate inactive user: {}", user.getEmail());
         }
         
-        // Add superuser authority if applicable
-        if (user.getIsSuperuser() != null && user.getIsSuperuser()) {
-            logger.debug("Adding admin authority for superuser: {}", user.getEmail());
-            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
-        }
+        String roleName = user.getRole() != null ? user.getRole().getName() : null;
+        boolean isSuperuser = user.getIsSuperuser() != null && user.getIsSuperuser();
         
-        return authorities;
+        AuthenticatedUser userDetails = new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getHashedPassword(),
+                isActive,
+                user.getRole() != null ? user.getRole().getId() : null,
+                roleName,
+                isSuperuser,
+                AuthenticatedUser.versionOf(user.getUpdatedAt())
+        );
+        logger.debug("User authorities: {}", userDetails.getAuthorities());
+        return userDetails;
     }
 
     public User findUserByEmail(String email) {
@@ -30,13 +30,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtProperties jwtProperties;
 
+    @Autowired
+    private UserVersionRegistry userVersionRegistry;
+
     private static final List<String> PUBLIC_URLS = Arrays.asList(
         "/api/auth/**",
         "/api/public/**",
         "/auth/**",     // Thêm đường dẫn không có tiền tố /api
         "/public/**",   // Thêm đường dẫn không có tiền tố /api
         "/swagger-ui/**",
-        "/v3/api-docs/**"
+        "/v3/api-docs/**",
+        "/actuator/health/**",
+        "/actuator/prometheus"
     );
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
@@ -44,10 +49,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
-        logger.info("Request path: " + path);
         boolean shouldNotFilter = PUBLIC_URLS.stream()
                .anyMatch(pattern -> pathMatcher.match(pattern, path));
-        logger.info("Should not filter: " + shouldNotFilter);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request path: " + path + ", should not filter: " + shouldNotFilter);
+        }
         return shouldNotFilter;
     }
 
@@ -59,28 +65,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String username = null;
         String jwtToken = null;
+        ParsedToken parsedToken = null;
         
         // JWT Token is in the form "Bearer token". Remove Bearer word and get only the Token
         if (requestTokenHeader != null && requestTokenHeader.startsWith(jwtProperties.getPrefix())) {
             jwtToken = requestTokenHeader.substring(jwtProperties.getPrefix().length());
             try {
-                username = jwtTokenUtil.getUsernameFromToken(jwtToken);
+                parsedToken = jwtTokenUtil.parseToken(jwtToken);
+                username = parsedToken.getSubject();
             } catch (IllegalArgumentException e) {
-                logger.error("Unable to get JWT Token");
+                // A bad or expired token is a client mistake; the request simply continues unauthenticated
+                logger.debug("Unable to get JWT Token");
             } catch (Exception e) {
-                logger.error("JWT Token has expired");
+                logger.debug("JWT Token has expired");
             }
-        } else {
-            logger.warn("JWT Token does not begin with Bearer String");
         }
 
         // Once we get the token validate it.
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = null;
+            boolean revoked = false;
+
+            // Stateless mode: trust the verified claims unless the user changed since issue
+            if (jwtProperties.isStateless() && jwtTokenUtil.hasStatelessClaims(parsedToken)) {
+                UserVersionRegistry.TokenState state = userVersionRegistry.check(
+                        username, jwtTokenUtil.getVersionFromClaims(parsedToken), parsedToken.getIssuedAt());
+                if (state == UserVersionRegistry.TokenState.CURRENT) {
+                    userDetails = jwtTokenUtil.getUserDetailsFromClaims(parsedToken);
+                } else if (state == UserVersionRegistry.TokenState.REVOKED) {
+                    logger.warn("JWT Token rejected for revoked user");
+                    revoked = true;
+                }
+            }
+
+            if (userDetails == null && !revoked) {
+                userDetails = this.userDetailsService.loadUserByUsername(username);
+                if (!jwtTokenUtil.validateToken(parsedToken, userDetails)) {
+                    userDetails = null;
+                }
+            }
 
             // if token is valid configure Spring Security to manually set authentication
-            if (jwtTokenUtil.validateToken(jwtToken, userDetails)) {
+            if (userDetails != null) {
 
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
                     new UsernamePasswordAuthenticationToken(
@@ -1,8 +1,13 @@
 package com.williamtravel.app.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,10 +15,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import com.williamtravel.app.config.JwtProperties;
 
+import jakarta.annotation.PostConstruct;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
@@ -21,34 +32,96 @@ public class JwtTokenUtil {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenUtil.class);
 
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_SUPERUSER = "su";
+    static final String CLAIM_VERSION = "ver";
+    static final String CLAIM_USER_ID = "uid";
+
     @Autowired
     private JwtProperties jwtProperties;
 
-    private SecretKey getSigningKey() {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    /**
+     * Verified tokens keyed by SHA-256 of the raw token, each kept until its own expiry
+     */
+    private Cache<String, ParsedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getTokenCacheSize())
+                .expireAfter(new Expiry<String, ParsedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, ParsedToken value, long currentTime) {
+                        long remainingMillis = value.getExpiresAt() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, ParsedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, ParsedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
+    }
+
+    private SecretKey getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * Verify a token once and return its parsed form, reusing earlier verifications of the same token
+     */
+    public ParsedToken parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        String key = hashToken(token);
+        ParsedToken parsed = verifiedTokens.getIfPresent(key);
+        if (parsed != null && !parsed.isExpired()) {
+            return parsed;
+        }
+        parsed = new ParsedToken(getAllClaimsFromToken(token));
+        verifiedTokens.put(key, parsed);
+        return parsed;
     }
 
     public String getUsernameFromToken(String token) {
         logger.debug("Extracting username from JWT token");
-        return getClaimFromToken(token, Claims::getSubject);
+        return parseToken(token).getSubject();
     }
 
     public Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
+        return parseToken(token).getExpiration();
     }
 
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
+        final Claims claims = parseToken(token).getClaims();
         return claimsResolver.apply(claims);
     }
 
     private Claims getAllClaimsFromToken(String token) {
         logger.debug("Parsing JWT token claims");
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -69,14 +142,30 @@ public class JwtTokenUtil {
         }
     }
 
+    private static String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+        return parseToken(token).isExpired();
     }
 
     public String generateToken(UserDetails userDetails) {
         logger.info("Generating JWT token for user: {}", userDetails.getUsername());
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof AuthenticatedUser) {
+            AuthenticatedUser user = (AuthenticatedUser) userDetails;
+            claims.put(CLAIM_USER_ID, user.getUserId());
+            claims.put(CLAIM_ROLE, user.getRoleName());
+            claims.put(CLAIM_SUPERUSER, user.isSuperuser());
+            claims.put(CLAIM_VERSION, user.getVersion());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -91,9 +180,13 @@ public class JwtTokenUtil {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
+        return validateToken(parseToken(token), userDetails);
+    }
+
+    public Boolean validateToken(ParsedToken token, UserDetails userDetails) {
         logger.debug("Validating JWT token for user: {}", userDetails.getUsername());
-        final String username = getUsernameFromToken(token);
-        boolean isValid = (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final String username = token.getSubject();
+        boolean isValid = (username.equals(userDetails.getUsername()) && !token.isExpired());
         
         if (isValid) {
             logger.debug("JWT token valid for user: {}", userDetails.getUsername());
@@ -104,6 +197,40 @@ public class JwtTokenUtil {
         return isValid;
     }
 
+    /**
+     * Whether the claims carry enough user state to authenticate without a user lookup
+     */
+    public boolean hasStatelessClaims(ParsedToken token) {
+        // Tokens issued before the user id claim existed still go through a user lookup
+        return token.getClaims().get(CLAIM_VERSION) != null && token.getClaims().get(CLAIM_USER_ID) != null;
+    }
+
+    /**
+     * Version stamp of the user at the time the token was issued
+     */
+    public long getVersionFromClaims(ParsedToken token) {
+        Number version = token.getClaims().get(CLAIM_VERSION, Number.class);
+        return version != null ? version.longValue() : -1L;
+    }
+
+    /**
+     * Build user details straight from verified claims
+     */
+    public AuthenticatedUser getUserDetailsFromClaims(ParsedToken token) {
+        Claims claims = token.getClaims();
+        Boolean superuser = claims.get(CLAIM_SUPERUSER, Boolean.class);
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        return new AuthenticatedUser(
+                userId != null ? userId.intValue() : null,
+                token.getSubject(),
+                "",
+                true,
+                null,
+                claims.get(CLAIM_ROLE, String.class),
+                superuser != null && superuser,
+                getVersionFromClaims(token));
+    }
+
     public Boolean canTokenBeRefreshed(String token) {
         return !isTokenExpired(token);
     }
@@ -111,7 +238,8 @@ public class JwtTokenUtil {
     public String refreshToken(String token) {
         logger.info("Refreshing JWT token");
         try {
-            final Claims claims = getAllClaimsFromToken(token);
+            // Copy the cached claims before changing timestamps
+            final Claims claims = Jwts.claims(new HashMap<>(parseToken(token).getClaims()));
             String subject = claims.getSubject();
             claims.setIssuedAt(new Date(System.currentTimeMillis()));
             claims.setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getExpiration()));
@@ -0,0 +1,51 @@
+package com.williamtravel.app.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * A JWT whose signature has already been verified, so it can be passed
+ * through the request without being parsed again
+ */
+public final class ParsedToken {
+
+    private final Claims claims;
+    private final String subject;
+    private final long expiresAt;
+    private final long issuedAt;
+
+    ParsedToken(Claims claims) {
+        this.claims = claims;
+        this.subject = claims.getSubject();
+        this.expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        this.issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+    }
+
+    /**
+     * Verified claims; shared between requests, so callers must not modify them
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Date getExpiration() {
+        return new Date(expiresAt);
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    public boolean isExpired() {
+        return expiresAt <= System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,115 @@
+package com.williamtravel.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.williamtravel.app.entity.User;
+import com.williamtravel.app.event.RoleChangedEvent;
+import com.williamtravel.app.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring cache of user details keyed by email.
+ * Entries are evicted after user, role and role-permission writes commit.
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDetailsCache.class);
+
+    @Value("${security.user-details-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${security.user-details-cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, AuthenticatedUser> cache;
+
+    @PostConstruct
+    void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-details");
+    }
+
+    /**
+     * Get cached user details, loading them on a miss. Returns a copy that callers may freely modify.
+     */
+    public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+        return cache.get(email, loader).copy();
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Hit/miss counters in a serializable form
+     */
+    public Map<String, Object> statsSummary() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("size", cache.estimatedSize());
+        summary.put("hitCount", stats.hitCount());
+        summary.put("missCount", stats.missCount());
+        summary.put("hitRate", stats.hitRate());
+        summary.put("loadFailureCount", stats.loadFailureCount());
+        summary.put("evictionCount", stats.evictionCount());
+        return summary;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        evict(user.getEmail());
+        // The email itself may have changed, so also drop any entry still pointing at this user
+        if (user.getId() != null) {
+            cache.asMap().values().removeIf(details -> Objects.equals(details.getUserId(), user.getId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        if (event.affectsAllRoles()) {
+            logger.info("Evicting all cached user details after permission change");
+            evictAll();
+            return;
+        }
+        logger.info("Evicting cached user details for role ID: {}", event.getRoleId());
+        cache.asMap().values().removeIf(details -> Objects.equals(details.getRoleId(), event.getRoleId()));
+    }
+}
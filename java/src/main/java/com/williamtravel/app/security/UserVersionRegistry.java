@@ -0,0 +1,179 @@
+package com.williamtravel.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.williamtravel.app.config.JwtProperties;
+import com.williamtravel.app.entity.User;
+import com.williamtravel.app.event.RoleChangedEvent;
+import com.williamtravel.app.event.UserChangedEvent;
+import com.williamtravel.app.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the current version stamp and active flag of each user so that
+ * stateless JWT claims can be checked for revocation without a full user load.
+ * Entries are recorded on user writes and lazily filled with a small column
+ * lookup on a miss; they expire shortly after being written so that changes
+ * made outside this instance (another node, direct SQL) are picked up.
+ */
+@Component
+public class UserVersionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserVersionRegistry.class);
+
+    /**
+     * Result of checking a token's version stamp against the registry
+     */
+    public enum TokenState {
+        /** Claims match the current user state and can be trusted as-is */
+        CURRENT,
+        /** User changed since the token was issued; authorities must be reloaded */
+        STALE,
+        /** User is disabled or no longer exists */
+        REVOKED
+    }
+
+    private static final class UserState {
+        private final Integer userId;
+        private final boolean active;
+        private final long version;
+
+        private UserState(Integer userId, boolean active, long version) {
+            this.userId = userId;
+            this.active = active;
+            this.version = version;
+        }
+    }
+
+    private static final UserState MISSING = new UserState(null, false, Long.MAX_VALUE);
+
+    private Cache<String, UserState> states;
+
+    /**
+     * Email each cached user state is keyed under, so an email change can revoke the previous key directly
+     */
+    private final Map<Integer, String> emails = new ConcurrentHashMap<>();
+
+    /**
+     * Tokens issued before this instant carry outdated role claims
+     */
+    private volatile long notBefore = 0L;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @PostConstruct
+    void init() {
+        this.states = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getTokenStateCacheSize())
+                .expireAfterWrite(jwtProperties.getTokenStateTtl())
+                .<String, UserState>evictionListener((email, state, cause) -> {
+                    if (state != null && state.userId != null) {
+                        emails.remove(state.userId, email);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Check a stateless token for the given user
+     */
+    public TokenState check(String email, long tokenVersion, long issuedAt) {
+        UserState state = states.get(email, this::loadState);
+        if (!state.active) {
+            return TokenState.REVOKED;
+        }
+        if (state.version != tokenVersion || issuedAt < notBefore) {
+            return TokenState.STALE;
+        }
+        return TokenState.CURRENT;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        // The email itself may have changed, so tokens issued under the previous email of this user are revoked
+        String previous = user.getId() != null ? emails.get(user.getId()) : null;
+        if (previous != null && !previous.equals(user.getEmail())) {
+            revoke(previous);
+        }
+        if (event.isDeleted()) {
+            if (user.getId() != null) {
+                emails.remove(user.getId());
+            }
+            revoke(user.getEmail());
+        } else {
+            record(user);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Record the latest state of a user after it has been written
+     */
+    public void record(User user) {
+        if (user == null || user.getEmail() == null) {
+            return;
+        }
+        boolean active = user.getIsActive() != null && user.getIsActive();
+        states.put(user.getEmail(), new UserState(user.getId(), active, AuthenticatedUser.versionOf(user.getUpdatedAt())));
+        index(user.getId(), user.getEmail());
+    }
+
+    /**
+     * Mark a user as removed so its outstanding tokens are rejected
+     */
+    public void revoke(String email) {
+        if (email != null) {
+            states.put(email, MISSING);
+        }
+    }
+
+    /**
+     * Force every token issued up to now back through a full user load,
+     * used when role definitions change underneath existing tokens
+     */
+    public void invalidateAll() {
+        logger.info("Invalidating stateless claims for all issued tokens");
+        // JWT issued-at is second precision
+        notBefore = System.currentTimeMillis() / 1000 * 1000;
+        states.invalidateAll();
+        emails.clear();
+    }
+
+    private UserState loadState(String email) {
+        logger.debug("Loading version stamp for user: {}", email);
+        List<Object[]> rows = userRepository.findActiveStateByEmail(email);
+        if (rows.isEmpty()) {
+            return MISSING;
+        }
+        Object[] row = rows.get(0);
+        boolean active = row[1] != null && (Boolean) row[1];
+        Integer userId = (Integer) row[0];
+        index(userId, email);
+        return new UserState(userId, active, AuthenticatedUser.versionOf((LocalDateTime) row[2]));
+    }
+
+    private void index(Integer userId, String email) {
+        if (userId != null) {
+            emails.put(userId, email);
+        }
+    }
+}
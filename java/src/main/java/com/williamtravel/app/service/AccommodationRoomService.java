@@ -1,8 +1,10 @@
 package com.williamtravel.app.service;
 
 import com.williamtravel.app.entity.AccommodationRoom;
+import com.williamtravel.app.event.RoomInventoryChangedEvent;
 import com.williamtravel.app.repository.AccommodationRoomRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,9 @@ public class AccommodationRoomService {
     @Autowired
     private AccommodationRoomRepository accommodationRoomRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all accommodation rooms
      */
@@ -40,7 +45,9 @@ public class AccommodationRoomService {
      * Save accommodation room
      */
     public AccommodationRoom save(AccommodationRoom accommodationRoom) {
-        return accommodationRoomRepository.save(accommodationRoom);
+        AccommodationRoom saved = accommodationRoomRepository.save(accommodationRoom);
+        eventPublisher.publishEvent(new RoomInventoryChangedEvent(saved.getId()));
+        return saved;
     }
 
     /**
@@ -48,6 +55,7 @@ public class AccommodationRoomService {
      */
     public void deleteById(Integer id) {
         accommodationRoomRepository.deleteById(id);
+        eventPublisher.publishEvent(new RoomInventoryChangedEvent(id));
     }
 
     /**
@@ -1,8 +1,18 @@
 package com.williamtravel.app.service;
 
+import com.williamtravel.app.dto.AccommodationDetail;
+import com.williamtravel.app.dto.AccommodationSummary;
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CursorPage;
+import com.williamtravel.app.dto.NearbyResult;
 import com.williamtravel.app.entity.Accommodation;
+import com.williamtravel.app.event.AccommodationChangedEvent;
 import com.williamtravel.app.repository.AccommodationRepository;
+import com.williamtravel.app.util.EntityMapper;
+import com.williamtravel.app.util.KeysetCursor;
+import com.williamtravel.app.util.SpatialGrid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -11,7 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service class for Accommodation entity operations
@@ -23,6 +35,12 @@ public class AccommodationService {
     @Autowired
     private AccommodationRepository accommodationRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private GeoIndexService geoIndexService;
+
     /**
      * Find all accommodations
      */
@@ -37,18 +55,63 @@ public class AccommodationService {
         return accommodationRepository.findById(id);
     }
 
+    /**
+     * Find accommodation summaries for a batch of IDs with one query, keyed by ID in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, AccommodationSummary> findSummariesByIds(List<Integer> ids) {
+        return BatchRequest.keyed(ids, accommodationRepository.findSummariesByIdIn(ids), AccommodationSummary::id);
+    }
+
     /**
      * Save accommodation
      */
     public Accommodation save(Accommodation accommodation) {
-        return accommodationRepository.save(accommodation);
+        Accommodation saved = accommodationRepository.save(accommodation);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(saved, false));
+        return saved;
     }
 
     /**
      * Delete accommodation by ID
      */
     public void deleteById(Integer id) {
-        accommodationRepository.deleteById(id);
+        accommodationRepository.findById(id).ifPresent(existing -> {
+            accommodationRepository.delete(existing);
+            eventPublisher.publishEvent(new AccommodationChangedEvent(existing, true));
+        });
+    }
+
+    // DTO projections
+    @Transactional(readOnly = true)
+    public List<AccommodationSummary> findAllSummaries() {
+        return accommodationRepository.findAllSummaries();
+    }
+
+    /**
+     * Stream all accommodations as list summaries; the stream must be consumed and closed inside a transaction
+     */
+    public Stream<AccommodationSummary> streamAllSummaries() {
+        return accommodationRepository.streamAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AccommodationSummary> findSummariesByIsActive(Boolean isActive, Pageable pageable) {
+        return accommodationRepository.findSummariesByIsActive(isActive, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<AccommodationSummary> findSummariesByIsActive(Boolean isActive, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int limit = KeysetCursor.limit(size);
+        List<AccommodationSummary> rows = accommodationRepository.findSummariesByIsActiveAfter(
+                isActive, position.createdAt(), position.id(), KeysetCursor.window(limit));
+        return CursorPage.of(rows, limit, row -> KeysetCursor.encode(row.createdAt(), row.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<AccommodationDetail> findDetailById(Integer id) {
+        return accommodationRepository.findDetailById(id).map(EntityMapper::toAccommodationDetail);
     }
 
     // Basic finder methods
@@ -187,6 +250,38 @@ public class AccommodationService {
         return accommodationRepository.findByIsActiveAndCoordinatesBounds(isActive, minLat, maxLat, minLng, maxLng);
     }
 
+    @Transactional(readOnly = true)
+    public List<NearbyResult<AccommodationSummary>> findNearby(double latitude, double longitude, Double radiusKm, Integer limit) {
+        GeoIndexService.checkPoint(latitude, longitude);
+        List<SpatialGrid.Hit> hits = geoIndexService.accommodations().withinRadius(latitude, longitude,
+                GeoIndexService.radius(radiusKm), GeoIndexService.limit(limit, GeoIndexService.DEFAULT_LIMIT, GeoIndexService.MAX_LIMIT));
+        return toNearbyResults(hits);
+    }
+
+    @Transactional(readOnly = true)
+    public List<NearbyResult<AccommodationSummary>> findNearest(double latitude, double longitude, Integer k) {
+        GeoIndexService.checkPoint(latitude, longitude);
+        List<SpatialGrid.Hit> hits = geoIndexService.accommodations().nearest(latitude, longitude,
+                GeoIndexService.limit(k, GeoIndexService.DEFAULT_K, GeoIndexService.MAX_K), GeoIndexService.MAX_RADIUS_KM);
+        return toNearbyResults(hits);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AccommodationSummary> findSummariesWithinBounds(double minLat, double maxLat, double minLng, double maxLng, Integer limit) {
+        GeoIndexService.checkBounds(minLat, maxLat, minLng, maxLng);
+        List<Integer> ids = geoIndexService.accommodations().withinBounds(minLat, maxLat, minLng, maxLng,
+                GeoIndexService.limit(limit, GeoIndexService.DEFAULT_BOUNDS_LIMIT, GeoIndexService.MAX_BOUNDS_LIMIT));
+        return ids.isEmpty() ? List.of() : accommodationRepository.findSummariesByIdIn(ids);
+    }
+
+    private List<NearbyResult<AccommodationSummary>> toNearbyResults(List<SpatialGrid.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Integer> ids = hits.stream().map(SpatialGrid.Hit::id).toList();
+        return NearbyResult.of(hits, accommodationRepository.findSummariesByIdIn(ids), AccommodationSummary::id);
+    }
+
     // Search and filtering
     public Page<Accommodation> findWithFilters(Boolean isActive, String name, Integer categoryId, Integer countryId, Integer regionId, String city, Double minRating, Pageable pageable) {
         return accommodationRepository.findWithFilters(isActive, name, categoryId, countryId, regionId, city, minRating, pageable);
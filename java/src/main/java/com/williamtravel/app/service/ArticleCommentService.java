@@ -1,7 +1,9 @@
 package com.williamtravel.app.service;
 
+import com.williamtravel.app.dto.CursorPage;
 import com.williamtravel.app.entity.ArticleComment;
 import com.williamtravel.app.repository.ArticleCommentRepository;
+import com.williamtravel.app.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -78,6 +80,17 @@ public class ArticleCommentService {
         return articleCommentRepository.findByArticleIdAndStatus(articleId, status, pageable);
     }
 
+    /**
+     * Find comments by article ID and status, one keyset slice after the given cursor
+     */
+    public CursorPage<ArticleComment> findByArticleIdAndStatus(Integer articleId, Boolean status, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int limit = KeysetCursor.limit(size);
+        List<ArticleComment> rows = articleCommentRepository.findByArticleIdAndStatusAfter(
+                articleId, status, position.createdAt(), position.id(), KeysetCursor.window(limit));
+        return CursorPage.of(rows, limit, comment -> KeysetCursor.encode(comment.getCreatedAt(), comment.getId()));
+    }
+
     /**
      * Find comments by user ID
      */
@@ -1,16 +1,24 @@
 package com.williamtravel.app.service;
 
+import com.williamtravel.app.dto.ArticleSummary;
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CursorPage;
 import com.williamtravel.app.entity.Article;
 import com.williamtravel.app.repository.ArticleRepository;
+import com.williamtravel.app.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service class for Article entity operations
@@ -22,6 +30,12 @@ public class ArticleService {
     @Autowired
     private ArticleRepository articleRepository;
 
+    @Autowired
+    private ViewCounterService viewCounterService;
+
+    @Autowired
+    private PopularityService popularityService;
+
     /**
      * Utility method to convert String status to Boolean
      * @param status String representation of status ("true", "false", "published", "draft", etc.)
@@ -48,6 +62,21 @@ public class ArticleService {
         return articleRepository.findById(id);
     }
 
+    /**
+     * Find article summaries for a batch of IDs with one query, keyed by ID in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, ArticleSummary> findSummariesByIds(List<Integer> ids) {
+        return BatchRequest.keyed(ids, articleRepository.findSummariesByIdIn(ids), ArticleSummary::id);
+    }
+
+    /**
+     * Find published article summaries for a batch of IDs, keyed by ID in request order
+     */
+    public Map<Integer, ArticleSummary> findPublishedSummariesByIds(List<Integer> ids) {
+        return BatchRequest.keyed(ids, articleRepository.findPublishedSummariesByIdIn(ids), ArticleSummary::id);
+    }
+
     /**
      * Save article
      */
@@ -135,6 +164,17 @@ public class ArticleService {
         return articleRepository.findPublishedArticles(pageable);
     }
 
+    /**
+     * Find published articles, one keyset slice after the given cursor
+     */
+    public CursorPage<Article> findPublishedArticles(String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int limit = KeysetCursor.limit(size);
+        List<Article> rows = articleRepository.findPublishedArticlesAfter(
+                position.createdAt(), position.id(), KeysetCursor.window(limit));
+        return CursorPage.of(rows, limit, article -> KeysetCursor.encode(article.getCreatedAt(), article.getId()));
+    }
+
     /**
      * Count total articles
      */
@@ -161,13 +201,28 @@ public class ArticleService {
      * Find featured articles
      */
     public List<Article> findFeaturedArticles() {
+        if (popularityService.isReady()) {
+            return findListByIds(popularityService.findTopIds(PopularityService.ARTICLE, null, null, 0, popularityService.topK()));
+        }
         return articleRepository.findFeaturedArticles();
     }
 
+    /**
+     * Stream featured articles as list summaries; the stream must be consumed and closed inside a transaction
+     */
+    public Stream<ArticleSummary> streamFeaturedSummaries() {
+        return articleRepository.streamFeaturedSummaries();
+    }
+
     /**
      * Find featured articles with pagination
      */
     public Page<Article> findFeaturedArticles(Pageable pageable) {
+        if (servedFromTopList(pageable)) {
+            List<Article> articles = findListByIds(popularityService.findTopIds(PopularityService.ARTICLE, null, null,
+                    (int) pageable.getOffset(), pageable.getPageSize()));
+            return new PageImpl<>(articles, pageable, articleRepository.countByStatus(true));
+        }
         return articleRepository.findFeaturedArticles(pageable);
     }
 
@@ -216,11 +271,15 @@ public class ArticleService {
         return articleRepository.findByTagId(tagId, pageable);
     }
 
-    // Popular articles (by view count)
+    // Popular articles (by popularity score)
     /**
      * Find popular articles
      */
     public List<Article> findPopularArticles(Pageable pageable) {
+        if (servedFromTopList(pageable)) {
+            return findListByIds(popularityService.findTopIds(PopularityService.ARTICLE, null, null,
+                    (int) pageable.getOffset(), pageable.getPageSize()));
+        }
         return articleRepository.findPopularArticles(pageable);
     }
 
@@ -264,10 +323,10 @@ public class ArticleService {
 
     // Update view count
     /**
-     * Increment view count for article
+     * Record a view of an article; view counts are written in batches
      */
     public void incrementViewCount(Integer id) {
-        articleRepository.incrementViewCount(id);
+        viewCounterService.increment(ViewCounterService.Target.ARTICLE, id);
     }
 
     // Statistical queries
@@ -300,4 +359,22 @@ public class ArticleService {
     public Page<Article> findWithFilters(String keyword, Integer authorId, Integer categoryId, Pageable pageable) {
         return articleRepository.findWithFilters(keyword, authorId, categoryId, pageable);
     }
+
+    /**
+     * Whether a page of popular articles lies within the in-memory top list and asks for no other order
+     */
+    private boolean servedFromTopList(Pageable pageable) {
+        return popularityService.isReady() && pageable.isPaged() && pageable.getSort().isUnsorted()
+                && pageable.getOffset() + pageable.getPageSize() <= popularityService.topK();
+    }
+
+    /**
+     * Published articles for IDs with their list associations, in the order of the IDs
+     */
+    private List<Article> findListByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return new ArrayList<>(BatchRequest.keyed(ids, articleRepository.findPublishedListByIdIn(ids), Article::getId).values());
+    }
 }
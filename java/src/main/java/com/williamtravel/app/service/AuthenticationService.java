@@ -4,6 +4,7 @@ import com.williamtravel.app.dto.*;
 import com.williamtravel.app.entity.PasswordResetToken;
 import com.williamtravel.app.entity.Role;
 import com.williamtravel.app.entity.User;
+import com.williamtravel.app.security.CustomUserDetailsService;
 import com.williamtravel.app.security.JwtTokenUtil;
 import com.williamtravel.app.util.UserMapper;
 import org.slf4j.Logger;
@@ -46,6 +47,9 @@ public class AuthenticationService {
     @Autowired
     private JwtTokenUtil jwtTokenUtil;
     
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+    
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -127,11 +131,7 @@ public class AuthenticationService {
         
         // Generate JWT token
         logger.info("Generating JWT token for new user: {}", savedUser.getEmail());
-        String token = jwtTokenUtil.generateToken(new org.springframework.security.core.userdetails.User(
-            savedUser.getEmail(),
-            savedUser.getHashedPassword(),
-            java.util.Collections.emptyList()
-        ));
+        String token = jwtTokenUtil.generateToken(userDetailsService.buildUserDetails(savedUser));
         
         // Convert to response DTO
         UserResponse userResponse = UserMapper.toUserResponse(savedUser);
@@ -211,11 +211,7 @@ public class AuthenticationService {
         
         // Generate new JWT token
         logger.info("Generating new JWT token for user: {}", user.getEmail());
-        String token = jwtTokenUtil.generateToken(new org.springframework.security.core.userdetails.User(
-            user.getEmail(),
-            user.getHashedPassword(),
-            java.util.Collections.emptyList()
-        ));
+        String token = jwtTokenUtil.generateToken(userDetailsService.buildUserDetails(user));
         
         logger.info("Password reset completed successfully for user: {}", user.getEmail());
         return new LoginResponse(token);
@@ -0,0 +1,232 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.dto.RoomAvailability;
+import com.williamtravel.app.event.AccommodationChangedEvent;
+import com.williamtravel.app.event.RoomInventoryChangedEvent;
+import com.williamtravel.app.repository.AccommodationRoomRepository;
+import com.williamtravel.app.repository.RoomInventoryRepository;
+import com.williamtravel.app.util.AvailabilityCalendar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory availability calendar of sellable rooms, for date-range searches by capacity, price and region
+ * without touching the database. Built once the application is ready, rolled forward every night, and
+ * refreshed per room from the database after each inventory change commits. Holds are always checked
+ * against locked inventory rows, so a stale calendar can briefly show or hide a room but never oversells.
+ */
+@Service
+public class AvailabilityIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityIndexService.class);
+
+    @Autowired
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Autowired
+    private AccommodationRoomRepository accommodationRoomRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    @Value("${inventory.index.horizon-days:365}")
+    private int horizonDays;
+
+    private volatile AvailabilityCalendar calendar;
+
+    private volatile boolean rebuilding;
+
+    private volatile long lastRebuildMillis;
+
+    /** Rooms refreshed while a rebuild was reading, refreshed again on the new calendar */
+    private final Set<Integer> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /** Serializes refreshes of the same room, so a slower refresh never overwrites a newer one */
+    private final Object[] roomLocks = new Object[64];
+
+    @PostConstruct
+    void init() {
+        calendar = new AvailabilityCalendar(LocalDate.now(), horizonDays);
+        for (int i = 0; i < roomLocks.length; i++) {
+            roomLocks[i] = new Object();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.error("Failed to build availability index, searches will return no rooms until it is rebuilt", e);
+        }
+    }
+
+    public AvailabilityCalendar calendar() {
+        return calendar;
+    }
+
+    /**
+     * Reload the calendar from today on; searches keep using the old calendar until the new one is complete
+     */
+    @Scheduled(cron = "${inventory.index.rebuild-cron:0 5 0 * * *}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            AvailabilityCalendar next = new AvailabilityCalendar(LocalDate.now(), horizonDays);
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> load(next));
+            calendar = next;
+        } finally {
+            rebuilding = false;
+        }
+        for (Integer roomId : changedDuringRebuild) {
+            refresh(roomId);
+        }
+        lastRebuildMillis = System.currentTimeMillis() - start;
+        logger.info("Built availability index with {} rooms and {} open nights in {} ms",
+                calendar.size(), calendar.openNights(), lastRebuildMillis);
+    }
+
+    /**
+     * Rooms free for every night of a stay, cheapest first
+     */
+    public List<RoomAvailability> search(LocalDate checkIn, LocalDate checkOut, Integer guests, Integer quantity,
+                                         Double minPrice, Double maxPrice, Integer regionId, Integer limit) {
+        RoomInventoryService.validateStay(checkIn, checkOut);
+        int units = RoomInventoryService.quantity(quantity);
+        int nights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+        int resolvedLimit = GeoIndexService.limit(limit, DEFAULT_LIMIT, MAX_LIMIT);
+        return calendar.search(checkIn, checkOut, guests == null || guests < 1 ? 1 : guests, units,
+                        minPrice, maxPrice, regionId, resolvedLimit).stream()
+                .map(match -> {
+                    AvailabilityCalendar.Room room = match.room();
+                    Double total = room.pricePerNight() != null ? room.pricePerNight() * nights : null;
+                    return new RoomAvailability(room.roomId(), room.accommodationId(), room.regionId(), room.capacity(),
+                            room.pricePerNight(), nights, total, match.unitsAvailable());
+                })
+                .toList();
+    }
+
+    /**
+     * Calendar window and size in a serializable form
+     */
+    public Map<String, Object> statsSummary() {
+        AvailabilityCalendar current = calendar;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("from", current.start().toString());
+        summary.put("to", current.end().toString());
+        summary.put("rooms", current.size());
+        summary.put("openNights", current.openNights());
+        summary.put("lastRebuildMillis", lastRebuildMillis);
+        return summary;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomInventoryChanged(RoomInventoryChangedEvent event) {
+        if (event.getRoomId() == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getRoomId());
+        }
+        refresh(event.getRoomId());
+    }
+
+    // Activation and region changes decide whether, and where, an accommodation's rooms are offered
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.getAccommodation().getId() == null) {
+            return;
+        }
+        for (Integer roomId : accommodationRoomRepository.findIdsByAccommodationId(event.getAccommodation().getId())) {
+            onRoomInventoryChanged(new RoomInventoryChangedEvent(roomId));
+        }
+    }
+
+    /**
+     * Re-read one room and its free nights; rooms that are not sellable or have no inventory are dropped
+     */
+    private void refresh(Integer roomId) {
+        synchronized (roomLocks[Math.floorMod(roomId, roomLocks.length)]) {
+            AvailabilityCalendar current = calendar;
+            List<Object[]> rooms = accommodationRoomRepository.findSellableRoom(roomId);
+            List<Object[]> nights = rooms.isEmpty()
+                    ? List.of()
+                    : roomInventoryRepository.findFreeByRoom(roomId, current.start(), current.end());
+            if (nights.isEmpty()) {
+                current.remove(roomId);
+                return;
+            }
+            int[] free = new int[horizonDays];
+            for (Object[] night : nights) {
+                free[offset(current, night)] = ((Number) night[2]).intValue();
+            }
+            current.put(room(rooms.get(0)), free);
+        }
+    }
+
+    private void load(AvailabilityCalendar target) {
+        Map<Integer, AvailabilityCalendar.Room> rooms = new HashMap<>();
+        for (Object[] row : accommodationRoomRepository.findSellableRooms()) {
+            rooms.put((Integer) row[0], room(row));
+        }
+        // Rows arrive grouped by room, so one room's nights are filled at a time
+        try (Stream<Object[]> nights = roomInventoryRepository.streamFree(target.start(), target.end())) {
+            Integer currentRoom = null;
+            int[] free = null;
+            for (Object[] night : (Iterable<Object[]>) nights::iterator) {
+                Integer roomId = (Integer) night[0];
+                if (!roomId.equals(currentRoom)) {
+                    put(target, rooms.get(currentRoom), free);
+                    currentRoom = roomId;
+                    free = new int[horizonDays];
+                }
+                free[offset(target, night)] = ((Number) night[2]).intValue();
+            }
+            put(target, rooms.get(currentRoom), free);
+        }
+    }
+
+    private static void put(AvailabilityCalendar target, AvailabilityCalendar.Room room, int[] free) {
+        if (room != null && free != null) {
+            target.put(room, free);
+        }
+    }
+
+    private static int offset(AvailabilityCalendar target, Object[] night) {
+        return (int) ChronoUnit.DAYS.between(target.start(), (LocalDate) night[1]);
+    }
+
+    private static AvailabilityCalendar.Room room(Object[] row) {
+        int adults = row[3] != null ? (Integer) row[3] : 0;
+        int children = row[4] != null ? (Integer) row[4] : 0;
+        return new AvailabilityCalendar.Room((Integer) row[0], (Integer) row[1], (Integer) row[2], adults + children,
+                (Double) row[5]);
+    }
+}
@@ -0,0 +1,149 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.dto.AccommodationSummary;
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CardView;
+import com.williamtravel.app.dto.FoodSummary;
+import com.williamtravel.app.dto.LocationSummary;
+import com.williamtravel.app.dto.MediaSummary;
+import com.williamtravel.app.entity.RatingSummary;
+import com.williamtravel.app.repository.AccommodationRepository;
+import com.williamtravel.app.repository.FoodRepository;
+import com.williamtravel.app.repository.LocationRepository;
+import com.williamtravel.app.repository.MediaRepository;
+import com.williamtravel.app.repository.RatingSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds listing cards for locations, accommodations and foods. A page of cards costs a fixed
+ * number of statements however many items it holds: the summaries (with their count query),
+ * one IN query for main images and one IN query for rating summaries.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CardViewService {
+
+    public static final String LOCATION = "location";
+    public static final String ACCOMMODATION = "accommodation";
+    public static final String FOOD = "food";
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private MediaRepository mediaRepository;
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    /**
+     * Find a page of location cards by active status
+     */
+    public Page<CardView<LocationSummary>> findLocationCards(Boolean isActive, Pageable pageable) {
+        return toCards(LOCATION, locationRepository.findSummariesByIsActive(isActive, pageable), LocationSummary::id);
+    }
+
+    /**
+     * Find location cards for a batch of IDs, keyed by ID in request order
+     */
+    public Map<Integer, CardView<LocationSummary>> findLocationCards(List<Integer> ids) {
+        return BatchRequest.keyed(ids, toCards(LOCATION, locationRepository.findSummariesByIdIn(ids), LocationSummary::id),
+                card -> card.item().id());
+    }
+
+    /**
+     * Find active location cards for a batch of IDs, keyed by ID in request order
+     */
+    public Map<Integer, CardView<LocationSummary>> findActiveLocationCards(List<Integer> ids) {
+        return BatchRequest.keyed(ids, toCards(LOCATION, locationRepository.findActiveSummariesByIdIn(ids), LocationSummary::id),
+                card -> card.item().id());
+    }
+
+    /**
+     * Find a page of accommodation cards by active status
+     */
+    public Page<CardView<AccommodationSummary>> findAccommodationCards(Boolean isActive, Pageable pageable) {
+        return toCards(ACCOMMODATION, accommodationRepository.findSummariesByIsActive(isActive, pageable), AccommodationSummary::id);
+    }
+
+    /**
+     * Find accommodation cards for a batch of IDs, keyed by ID in request order
+     */
+    public Map<Integer, CardView<AccommodationSummary>> findAccommodationCards(List<Integer> ids) {
+        return BatchRequest.keyed(ids, toCards(ACCOMMODATION, accommodationRepository.findSummariesByIdIn(ids), AccommodationSummary::id),
+                card -> card.item().id());
+    }
+
+    /**
+     * Find active accommodation cards for a batch of IDs, keyed by ID in request order
+     */
+    public Map<Integer, CardView<AccommodationSummary>> findActiveAccommodationCards(List<Integer> ids) {
+        return BatchRequest.keyed(ids, toCards(ACCOMMODATION, accommodationRepository.findActiveSummariesByIdIn(ids), AccommodationSummary::id),
+                card -> card.item().id());
+    }
+
+    /**
+     * Find a page of food cards by status
+     */
+    public Page<CardView<FoodSummary>> findFoodCards(Boolean status, Pageable pageable) {
+        return toCards(FOOD, foodRepository.findSummariesByStatus(status, pageable), FoodSummary::id);
+    }
+
+    /**
+     * Find food cards for a batch of IDs, keyed by ID in request order
+     */
+    public Map<Integer, CardView<FoodSummary>> findFoodCards(List<Integer> ids) {
+        return BatchRequest.keyed(ids, toCards(FOOD, foodRepository.findSummariesByIdIn(ids), FoodSummary::id),
+                card -> card.item().id());
+    }
+
+    /**
+     * Find available food cards for a batch of IDs, keyed by ID in request order
+     */
+    public Map<Integer, CardView<FoodSummary>> findAvailableFoodCards(List<Integer> ids) {
+        return BatchRequest.keyed(ids, toCards(FOOD, foodRepository.findAvailableSummariesByIdIn(ids), FoodSummary::id),
+                card -> card.item().id());
+    }
+
+    private <T> Page<CardView<T>> toCards(String referenceType, Page<T> page, Function<T, Integer> idOf) {
+        return new PageImpl<>(toCards(referenceType, page.getContent(), idOf), page.getPageable(), page.getTotalElements());
+    }
+
+    private <T> List<CardView<T>> toCards(String referenceType, Collection<T> items, Function<T, Integer> idOf) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        List<Integer> ids = items.stream().map(idOf).toList();
+        Map<Integer, MediaSummary> images = BatchRequest.keyed(ids,
+                mediaRepository.findMainSummariesByReferenceIn(referenceType, ids), MediaSummary::referenceId);
+        Map<Integer, RatingSummary> ratings = BatchRequest.keyed(ids,
+                ratingSummaryRepository.findByReferenceTypeAndReferenceIdIn(referenceType, ids), RatingSummary::getReferenceId);
+
+        List<CardView<T>> cards = new ArrayList<>(items.size());
+        for (T item : items) {
+            Integer id = idOf.apply(item);
+            RatingSummary rating = ratings.get(id);
+            cards.add(new CardView<>(item, images.get(id),
+                    rating != null ? rating.getAverageRating() : null,
+                    rating != null && rating.getRatingCount() != null ? rating.getRatingCount() : 0L));
+        }
+        return cards;
+    }
+}
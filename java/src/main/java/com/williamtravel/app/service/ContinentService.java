@@ -1,8 +1,10 @@
 package com.williamtravel.app.service;
 
 import com.williamtravel.app.entity.Continent;
+import com.williamtravel.app.event.GeographyChangedEvent;
 import com.williamtravel.app.repository.ContinentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,9 @@ public class ContinentService {
     @Autowired
     private ContinentRepository continentRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all continents
      */
@@ -39,7 +44,9 @@ public class ContinentService {
      * Save continent
      */
     public Continent save(Continent continent) {
-        return continentRepository.save(continent);
+        Continent saved = continentRepository.save(continent);
+        eventPublisher.publishEvent(new GeographyChangedEvent("continent", saved.getId()));
+        return saved;
     }
 
     /**
@@ -47,6 +54,7 @@ public class ContinentService {
      */
     public void deleteById(Integer id) {
         continentRepository.deleteById(id);
+        eventPublisher.publishEvent(new GeographyChangedEvent("continent", id));
     }
 
     /**
@@ -1,8 +1,13 @@
 package com.williamtravel.app.service;
 
+import com.williamtravel.app.dto.CountryDetail;
+import com.williamtravel.app.dto.CountrySummary;
 import com.williamtravel.app.entity.Country;
+import com.williamtravel.app.event.GeographyChangedEvent;
 import com.williamtravel.app.repository.CountryRepository;
+import com.williamtravel.app.util.EntityMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +26,9 @@ public class CountryService {
     @Autowired
     private CountryRepository countryRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all countries
      */
@@ -39,7 +47,9 @@ public class CountryService {
      * Save country
      */
     public Country save(Country country) {
-        return countryRepository.save(country);
+        Country saved = countryRepository.save(country);
+        eventPublisher.publishEvent(new GeographyChangedEvent("country", saved.getId()));
+        return saved;
     }
 
     /**
@@ -47,6 +57,31 @@ public class CountryService {
      */
     public void deleteById(Integer id) {
         countryRepository.deleteById(id);
+        eventPublisher.publishEvent(new GeographyChangedEvent("country", id));
+    }
+
+    /**
+     * Find all countries as list summaries
+     */
+    @Transactional(readOnly = true)
+    public List<CountrySummary> findAllSummaries() {
+        return countryRepository.findAllSummaries();
+    }
+
+    /**
+     * Find country summaries with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<CountrySummary> findAllSummaries(Pageable pageable) {
+        return countryRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * Find country detail view by ID
+     */
+    @Transactional(readOnly = true)
+    public Optional<CountryDetail> findDetailById(Integer id) {
+        return countryRepository.findDetailById(id).map(EntityMapper::toCountryDetail);
     }
 
     /**
@@ -1,8 +1,10 @@
 package com.williamtravel.app.service;
 
 import com.williamtravel.app.entity.District;
+import com.williamtravel.app.event.GeographyChangedEvent;
 import com.williamtravel.app.repository.DistrictRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,9 @@ public class DistrictService {
     @Autowired
     private DistrictRepository districtRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all districts
      */
@@ -40,7 +45,9 @@ public class DistrictService {
      * Save district
      */
     public District save(District district) {
-        return districtRepository.save(district);
+        District saved = districtRepository.save(district);
+        eventPublisher.publishEvent(new GeographyChangedEvent("district", saved.getId()));
+        return saved;
     }
 
     /**
@@ -48,6 +55,7 @@ public class DistrictService {
      */
     public void deleteById(Integer id) {
         districtRepository.deleteById(id);
+        eventPublisher.publishEvent(new GeographyChangedEvent("district", id));
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.williamtravel.app.service;
 
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.FoodSummary;
 import com.williamtravel.app.entity.Food;
 import com.williamtravel.app.repository.FoodRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -36,6 +39,14 @@ public class FoodService {
         return foodRepository.findById(id);
     }
 
+    /**
+     * Find food summaries for a batch of IDs with one query, keyed by ID in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, FoodSummary> findSummariesByIds(List<Integer> ids) {
+        return BatchRequest.keyed(ids, foodRepository.findSummariesByIdIn(ids), FoodSummary::id);
+    }
+
     /**
      * Save food
      */
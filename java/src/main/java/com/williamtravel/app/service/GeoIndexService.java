@@ -0,0 +1,184 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.entity.Accommodation;
+import com.williamtravel.app.entity.Location;
+import com.williamtravel.app.event.AccommodationChangedEvent;
+import com.williamtravel.app.event.LocationChangedEvent;
+import com.williamtravel.app.exception.BadRequestException;
+import com.williamtravel.app.repository.AccommodationRepository;
+import com.williamtravel.app.repository.LocationRepository;
+import com.williamtravel.app.util.SpatialGrid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory spatial indexes of active locations and accommodations, for radius,
+ * nearest-neighbour and bounding-box queries without touching the database.
+ * Built once the application is ready and kept current from change events after each write commits.
+ */
+@Service
+public class GeoIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeoIndexService.class);
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    public static final double DEFAULT_RADIUS_KM = 5.0;
+    public static final double MAX_RADIUS_KM = 200.0;
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+    public static final int DEFAULT_K = 10;
+    public static final int MAX_K = 100;
+    public static final int DEFAULT_BOUNDS_LIMIT = 500;
+    public static final int MAX_BOUNDS_LIMIT = 2000;
+
+    @Value("${geo.index.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    private volatile SpatialGrid locations;
+    private volatile SpatialGrid accommodations;
+
+    /** Which index a change applies to; the grid itself is read under the lock so a concurrent rebuild is not lost */
+    private enum Index { LOCATIONS, ACCOMMODATIONS }
+
+    @PostConstruct
+    void init() {
+        locations = new SpatialGrid(cellDegrees);
+        accommodations = new SpatialGrid(cellDegrees);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.error("Failed to build geo index, proximity queries will return no results until it is rebuilt", e);
+        }
+    }
+
+    public SpatialGrid locations() {
+        return locations;
+    }
+
+    public SpatialGrid accommodations() {
+        return accommodations;
+    }
+
+    /**
+     * Reload both indexes from the database; readers keep using the old index until the new one is complete
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        locations = load(locationRepository.findActiveCoordinates());
+        accommodations = load(accommodationRepository.findActiveCoordinates());
+        logger.info("Built geo index with {} locations and {} accommodations in {} ms",
+                locations.size(), accommodations.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Clamp a requested radius to the supported range
+     */
+    public static double radius(Double radiusKm) {
+        return radiusKm == null || !(radiusKm > 0) ? DEFAULT_RADIUS_KM : Math.min(radiusKm, MAX_RADIUS_KM);
+    }
+
+    /**
+     * Clamp a requested result count to [1, max]
+     */
+    public static int limit(Integer limit, int defaultLimit, int max) {
+        return limit == null || limit < 1 ? defaultLimit : Math.min(limit, max);
+    }
+
+    /**
+     * Reject a requested centre point outside the coordinate range
+     */
+    public static void checkPoint(double latitude, double longitude) {
+        if (!isValid(latitude, longitude)) {
+            throw new BadRequestException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+    }
+
+    /**
+     * Reject a requested bounding box with a corner outside the coordinate range or minLat above maxLat
+     */
+    public static void checkBounds(double minLat, double maxLat, double minLng, double maxLng) {
+        checkPoint(minLat, minLng);
+        checkPoint(maxLat, maxLng);
+        if (minLat > maxLat) {
+            throw new BadRequestException("minLat must not be greater than maxLat");
+        }
+    }
+
+    /**
+     * Index sizes in a serializable form
+     */
+    public Map<String, Object> statsSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("cellDegrees", cellDegrees);
+        summary.put("locations", locations.size());
+        summary.put("locationCells", locations.cellCount());
+        summary.put("accommodations", accommodations.size());
+        summary.put("accommodationCells", accommodations.cellCount());
+        return summary;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocationChanged(LocationChangedEvent event) {
+        Location location = event.getLocation();
+        update(Index.LOCATIONS, location.getId(), !event.isDeleted() && Boolean.TRUE.equals(location.getIsActive()),
+                location.getLatitude(), location.getLongitude());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        Accommodation accommodation = event.getAccommodation();
+        update(Index.ACCOMMODATIONS, accommodation.getId(), !event.isDeleted() && Boolean.TRUE.equals(accommodation.getIsActive()),
+                accommodation.getLatitude(), accommodation.getLongitude());
+    }
+
+    private synchronized void update(Index index, Integer id, boolean active, Double latitude, Double longitude) {
+        if (id == null) {
+            return;
+        }
+        SpatialGrid grid = index == Index.LOCATIONS ? locations : accommodations;
+        if (active && isValid(latitude, longitude)) {
+            grid.put(id, latitude, longitude);
+        } else {
+            grid.remove(id);
+        }
+    }
+
+    private SpatialGrid load(List<Object[]> rows) {
+        SpatialGrid grid = new SpatialGrid(cellDegrees);
+        for (Object[] row : rows) {
+            Double latitude = (Double) row[1];
+            Double longitude = (Double) row[2];
+            if (isValid(latitude, longitude)) {
+                grid.put((Integer) row[0], latitude, longitude);
+            } else {
+                logger.warn("Skipping row {} with out-of-range coordinates {}, {}", row[0], latitude, longitude);
+            }
+        }
+        return grid;
+    }
+
+    private static boolean isValid(Double latitude, Double longitude) {
+        return latitude != null && longitude != null
+                && latitude >= -90.0 && latitude <= 90.0 && longitude >= -180.0 && longitude <= 180.0;
+    }
+}
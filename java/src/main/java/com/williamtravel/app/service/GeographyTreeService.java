@@ -0,0 +1,142 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.dto.GeographyNode;
+import com.williamtravel.app.event.GeographyChangedEvent;
+import com.williamtravel.app.repository.ContinentRepository;
+import com.williamtravel.app.repository.CountryRepository;
+import com.williamtravel.app.repository.DistrictRepository;
+import com.williamtravel.app.repository.RegionRepository;
+import com.williamtravel.app.repository.WardRepository;
+import com.williamtravel.app.util.GeographyTree;
+import com.williamtravel.app.util.GeographyTree.Level;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves the geography hierarchy from an immutable in-memory tree.
+ * The tree is loaded once the application is ready and replaced as a whole after any committed write
+ * to a continent, country, region, district or ward.
+ */
+@Service
+public class GeographyTreeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeographyTreeService.class);
+
+    @Autowired
+    private ContinentRepository continentRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private DistrictRepository districtRepository;
+
+    @Autowired
+    private WardRepository wardRepository;
+
+    private volatile GeographyTree tree = GeographyTree.empty();
+    /** Bumped after each committed geography write */
+    private final AtomicLong changes = new AtomicLong();
+    /** Value of changes observed before the current tree was read */
+    private long builtGeneration = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.error("Failed to build geography tree, hierarchy lookups will be empty until it is rebuilt", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGeographyChanged(GeographyChangedEvent event) {
+        // Runs after commit, so a rebuild that observed this generation read the committed rows;
+        // several writes committed together then only need one reload
+        rebuild(changes.incrementAndGet());
+    }
+
+    private synchronized void rebuild(long generation) {
+        if (builtGeneration < generation) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reload the whole tree; readers keep using the old tree until the new one is complete
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        long generation = changes.get();
+        Map<Level, List<Object[]>> rows = new EnumMap<>(Level.class);
+        rows.put(Level.CONTINENT, continentRepository.findHierarchyRows());
+        rows.put(Level.COUNTRY, countryRepository.findHierarchyRows());
+        rows.put(Level.REGION, regionRepository.findHierarchyRows());
+        rows.put(Level.DISTRICT, districtRepository.findHierarchyRows());
+        rows.put(Level.WARD, wardRepository.findHierarchyRows());
+        tree = GeographyTree.build(rows);
+        builtGeneration = generation;
+        logger.info("Built geography tree with {} continents, {} countries, {} regions, {} districts and {} wards in {} ms",
+                tree.size(Level.CONTINENT), tree.size(Level.COUNTRY), tree.size(Level.REGION),
+                tree.size(Level.DISTRICT), tree.size(Level.WARD), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Find continents with descendants down to the given depth
+     */
+    public List<GeographyNode> findTree(Integer status, Integer depth) {
+        return tree.roots(status, depth(depth));
+    }
+
+    /**
+     * Find a node with descendants down to the given depth
+     */
+    public Optional<GeographyNode> findSubtree(String level, Integer id, Integer status, Integer depth) {
+        return tree.subtree(Level.fromPath(level), id, status, depth(depth));
+    }
+
+    /**
+     * Find the direct children of a node
+     */
+    public Optional<List<GeographyNode>> findChildren(String level, Integer id, Integer status) {
+        return tree.children(Level.fromPath(level), id, status);
+    }
+
+    /**
+     * Find the path from the continent down to a node
+     */
+    public Optional<List<GeographyNode>> findPath(String level, Integer id) {
+        return tree.path(Level.fromPath(level), id);
+    }
+
+    /**
+     * Node counts per level in a serializable form
+     */
+    public Map<String, Object> statsSummary() {
+        GeographyTree current = tree;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (Level level : Level.values()) {
+            summary.put(level.getPath(), current.size(level));
+        }
+        return summary;
+    }
+
+    private static int depth(Integer depth) {
+        return depth == null || depth < 0 ? GeographyTree.MAX_DEPTH : Math.min(depth, GeographyTree.MAX_DEPTH);
+    }
+}
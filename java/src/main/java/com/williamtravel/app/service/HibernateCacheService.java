@@ -0,0 +1,107 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.config.HibernateCacheProperties;
+import com.williamtravel.app.exception.BadRequestException;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.cache.CacheManager;
+
+/**
+ * Statistics and manual eviction for the Hibernate second-level and query cache regions
+ */
+@Service
+public class HibernateCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HibernateCacheService.class);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HibernateCacheProperties properties;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    public Map<String, Object> statsSummary() {
+        Statistics statistics = sessionFactory().getStatistics();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("enabled", properties.isEnabled());
+        summary.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        summary.put("secondLevelCacheHitCount", statistics.getSecondLevelCacheHitCount());
+        summary.put("secondLevelCacheMissCount", statistics.getSecondLevelCacheMissCount());
+        summary.put("secondLevelCachePutCount", statistics.getSecondLevelCachePutCount());
+        summary.put("queryCacheHitCount", statistics.getQueryCacheHitCount());
+        summary.put("queryCacheMissCount", statistics.getQueryCacheMissCount());
+        summary.put("queryCachePutCount", statistics.getQueryCachePutCount());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String name : regionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("size", estimatedSize(name));
+            stats.put("hitCount", region.getHitCount());
+            stats.put("missCount", region.getMissCount());
+            stats.put("putCount", region.getPutCount());
+            long lookups = region.getHitCount() + region.getMissCount();
+            stats.put("hitRate", lookups > 0 ? (double) region.getHitCount() / lookups : 0.0);
+            HibernateCacheProperties.Region limits = properties.getRegions().get(name);
+            if (limits != null) {
+                stats.put("maximumSize", limits.getMaximumSize());
+                stats.put("expireAfterWrite", limits.getExpireAfterWrite().toString());
+            }
+            regions.put(name, stats);
+        }
+        summary.put("regions", regions);
+        return summary;
+    }
+
+    /**
+     * Evict every entry of one region
+     */
+    public void evictRegion(String region) {
+        if (!Arrays.asList(regionNames()).contains(region)) {
+            throw new BadRequestException("Unknown cache region: " + region);
+        }
+        sessionFactory().getCache().evictRegion(region);
+        logger.info("Evicted Hibernate cache region {}", region);
+    }
+
+    /**
+     * Evict every entry of every region, including cached query results
+     */
+    public void evictAll() {
+        sessionFactory().getCache().evictAllRegions();
+        logger.info("Evicted all Hibernate cache regions");
+    }
+
+    /**
+     * JCache does not expose entry counts, so read them from the Caffeine cache underneath
+     */
+    private long estimatedSize(String region) {
+        javax.cache.Cache<Object, Object> cache = hibernateCacheManager.getCache(region);
+        return cache != null ? cache.unwrap(Cache.class).estimatedSize() : 0L;
+    }
+
+    private String[] regionNames() {
+        return sessionFactory().getStatistics().getSecondLevelCacheRegionNames();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,612 @@
+package com.williamtravel.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.williamtravel.app.config.ImportProperties;
+import com.williamtravel.app.dto.ImportRecord;
+import com.williamtravel.app.entity.ImportJob;
+import com.williamtravel.app.entity.ImportRejection;
+import com.williamtravel.app.exception.BadRequestException;
+import com.williamtravel.app.exception.ConflictException;
+import com.williamtravel.app.repository.ImportJobRepository;
+import com.williamtravel.app.repository.ImportRejectionRepository;
+import com.williamtravel.app.util.ReferenceLookup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Bulk import of locations, foods and accommodations from JSONL files, such as the scraper output.
+ * An upload is spooled to disk and imported by a single background worker, one job at a time:
+ * references are resolved against in-memory lookup maps (a category or geography name that does not
+ * resolve rejects the line), lines duplicating an existing row or an
+ * earlier line (same name and coordinates) are skipped, and rows are written with JDBC batch inserts.
+ * Each chunk of lines is committed together with the job's progress, so an interrupted or failed job
+ * resumes exactly after its last committed line.
+ */
+@Service
+@Transactional
+public class ImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportService.class);
+
+    public static final String LOCATION = "location";
+    public static final String FOOD = "food";
+    public static final String ACCOMMODATION = "accommodation";
+
+    private static final Set<String> TYPES = Set.of(LOCATION, FOOD, ACCOMMODATION);
+
+    private static final String INSERT_LOCATION = "INSERT INTO locations (name, description, latitude, longitude, " +
+            "address, city, thumbnail_url, price_min, price_max, category_id, country_id, region_id, district_id, " +
+            "ward_id, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?)";
+    private static final int[] LOCATION_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE, Types.INTEGER, Types.INTEGER,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_ACCOMMODATION = "INSERT INTO accommodations (name, description, latitude, " +
+            "longitude, address, city, thumbnail_url, price_min, price_max, category_id, country_id, region_id, " +
+            "district_id, ward_id, is_active, created_at, updated_at, user_id, checkin_time, checkout_time, " +
+            "cancel_policy, pet_policy, child_policy) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] ACCOMMODATION_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE, Types.INTEGER, Types.INTEGER,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP, Types.INTEGER, Types.TIME,
+            Types.TIME, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR};
+
+    private static final String INSERT_FOOD = "INSERT INTO food (name, description, thumbnail_url, price_min, " +
+            "price_max, category_id, country_id, region_id, district_id, ward_id, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?)";
+    private static final int[] FOOD_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP,
+            Types.TIMESTAMP};
+
+    private static final String INSERT_REJECTION =
+            "INSERT INTO import_rejection (job_id, line_number, reason) VALUES (?, ?, ?)";
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportRejectionRepository importRejectionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ImportProperties properties;
+
+    @Autowired
+    private GeoIndexService geoIndexService;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "bulk-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Integer> stopRequested = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Jobs left queued or running belong to a stopped instance; mark them resumable.
+     * Assumes one instance runs imports.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        int interrupted = importJobRepository.markInterrupted(List.of(ImportJob.QUEUED, ImportJob.RUNNING),
+                LocalDateTime.now());
+        if (interrupted > 0) {
+            logger.warn("Marked {} unfinished import jobs as interrupted; resume them to continue", interrupted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Spool an uploaded JSONL file to disk and queue its import
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportJob create(String fileName, String defaultType, InputStream body, Integer userId) {
+        if (defaultType != null && !TYPES.contains(defaultType)) {
+            throw new BadRequestException("Unknown import type: " + defaultType + " (expected one of " + TYPES + ")");
+        }
+        Path file;
+        long lines;
+        try {
+            Path dir = Paths.get(properties.getSpoolDir());
+            Files.createDirectories(dir);
+            file = dir.resolve("import-" + UUID.randomUUID() + ".jsonl");
+            lines = spool(body, file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store the uploaded file", e);
+        }
+        if (lines == 0) {
+            deleteQuietly(file);
+            throw new BadRequestException("The uploaded file is empty");
+        }
+        ImportJob job = new ImportJob();
+        job.setFileName(fileName != null && !fileName.isBlank() ? truncate(fileName, 255) : file.getFileName().toString());
+        job.setFilePath(file.toString());
+        job.setDefaultType(defaultType);
+        job.setStatus(ImportJob.QUEUED);
+        job.setTotalLines(lines);
+        job.setLinesCommitted(0L);
+        job.setInserted(0L);
+        job.setDuplicates(0L);
+        job.setRejected(0L);
+        job.setCreatedBy(userId);
+        job.setCreatedAt(LocalDateTime.now());
+        ImportJob saved = importJobRepository.save(job);
+        submit(saved.getId());
+        return saved;
+    }
+
+    /**
+     * Continue an interrupted or failed import after its last committed line
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportJob resume(Integer id) {
+        ImportJob job = findById(id);
+        if (!ImportJob.INTERRUPTED.equals(job.getStatus()) && !ImportJob.FAILED.equals(job.getStatus())) {
+            throw new ConflictException("Import " + id + " is " + job.getStatus() + " and cannot be resumed");
+        }
+        if (!Files.exists(Paths.get(job.getFilePath()))) {
+            throw new ConflictException("The file of import " + id + " is no longer available");
+        }
+        job.setStatus(ImportJob.QUEUED);
+        job.setUpdatedAt(LocalDateTime.now());
+        ImportJob saved = importJobRepository.save(job);
+        submit(id);
+        return saved;
+    }
+
+    /**
+     * Ask a queued or running import to stop after its current chunk; it can be resumed later
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportJob stop(Integer id) {
+        ImportJob job = findById(id);
+        if (!ImportJob.QUEUED.equals(job.getStatus()) && !ImportJob.RUNNING.equals(job.getStatus())) {
+            throw new ConflictException("Import " + id + " is " + job.getStatus() + " and cannot be stopped");
+        }
+        stopRequested.add(id);
+        return job;
+    }
+
+    /** Find an import job by ID */
+    @Transactional(readOnly = true)
+    public ImportJob findById(Integer id) {
+        return importJobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Import job not found with id: " + id));
+    }
+
+    /** Find the most recent import jobs */
+    @Transactional(readOnly = true)
+    public List<ImportJob> findRecent(int limit) {
+        return importJobRepository.findRecent(PageRequest.of(0, Math.max(1, Math.min(limit, 200))));
+    }
+
+    /** Find the stored rejections of an import job, by line number */
+    @Transactional(readOnly = true)
+    public List<ImportRejection> findRejections(Integer id, int offset, int limit) {
+        findById(id);
+        int size = Math.max(1, Math.min(limit, properties.getMaxRejectionsStored()));
+        return importRejectionRepository.findByJobId(id, Math.max(0, offset), size);
+    }
+
+    private void submit(Integer id) {
+        worker.submit(() -> {
+            try {
+                run(id);
+            } catch (RuntimeException e) {
+                logger.error("Import {} could not be run", id, e);
+            }
+        });
+    }
+
+    private void run(Integer id) {
+        ImportJob job = importJobRepository.findById(id).orElse(null);
+        if (job == null || !ImportJob.QUEUED.equals(job.getStatus())) {
+            return;
+        }
+        if (stopRequested.remove(id)) {
+            finish(job, ImportJob.INTERRUPTED, null);
+            return;
+        }
+        job.setStatus(ImportJob.RUNNING);
+        job.setLastError(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        job = importJobRepository.save(job);
+        long started = System.currentTimeMillis();
+        long insertedBefore = job.getInserted();
+        logger.info("Import {} ({}) starting at line {} of {}", id, job.getFileName(), job.getLinesCommitted() + 1,
+                job.getTotalLines());
+        try {
+            Run importRun = new Run(job, loadLookup(), loadExistingKeys(),
+                    importRejectionRepository.countByJobId(id));
+            try (BufferedReader reader = Files.newBufferedReader(Paths.get(job.getFilePath()), StandardCharsets.UTF_8)) {
+                long lineNumber = 0;
+                while (lineNumber < job.getLinesCommitted() && reader.readLine() != null) {
+                    lineNumber++;
+                }
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    importRun.accept(++lineNumber, line);
+                    if (importRun.chunkLines == properties.getChunkSize()) {
+                        job = importRun.commit(lineNumber);
+                        if (stopRequested.remove(id) || Thread.currentThread().isInterrupted()) {
+                            finish(job, ImportJob.INTERRUPTED, null);
+                            return;
+                        }
+                    }
+                }
+                job = importRun.commit(lineNumber);
+            }
+            finish(job, ImportJob.COMPLETED, null);
+            deleteQuietly(Paths.get(job.getFilePath()));
+            logger.info("Import {} completed in {} ms: {} inserted, {} duplicates, {} rejected", id,
+                    System.currentTimeMillis() - started, job.getInserted(), job.getDuplicates(), job.getRejected());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Import {} failed after line {}", id, job.getLinesCommitted(), e);
+            // Progress up to the last chunk is committed; reload it before recording the failure
+            finish(importJobRepository.findById(id).orElse(job), ImportJob.FAILED, truncate(String.valueOf(e.getMessage()), 2000));
+        } finally {
+            stopRequested.remove(id);
+            if (job.getInserted() > insertedBefore) {
+                geoIndexService.rebuild();
+            }
+        }
+    }
+
+    private void finish(ImportJob job, String status, String error) {
+        job.setStatus(status);
+        job.setLastError(error);
+        job.setUpdatedAt(LocalDateTime.now());
+        if (ImportJob.COMPLETED.equals(status)) {
+            job.setFinishedAt(job.getUpdatedAt());
+        }
+        importJobRepository.save(job);
+    }
+
+    /**
+     * Lookup maps of geography and the category tables of every import type
+     */
+    private ReferenceLookup loadLookup() {
+        ReferenceLookup lookup = new ReferenceLookup();
+        jdbcTemplate.query("SELECT id, code, name FROM countries",
+                rs -> { lookup.addCountry(rs.getInt(1), rs.getString(2), rs.getString(3)); });
+        jdbcTemplate.query("SELECT id, country_id, name FROM regions",
+                rs -> { lookup.addRegion(rs.getInt(1), rs.getInt(2), rs.getString(3)); });
+        jdbcTemplate.query("SELECT id, region_id, name FROM districts",
+                rs -> { lookup.addDistrict(rs.getInt(1), rs.getInt(2), rs.getString(3)); });
+        jdbcTemplate.query("SELECT id, district_id, name FROM wards",
+                rs -> { lookup.addWard(rs.getInt(1), rs.getInt(2), rs.getString(3)); });
+        jdbcTemplate.query("SELECT id, name FROM location_categories",
+                rs -> { lookup.addCategory(LOCATION, rs.getInt(1), rs.getString(2)); });
+        jdbcTemplate.query("SELECT id, name FROM accommodations_categories",
+                rs -> { lookup.addCategory(ACCOMMODATION, rs.getInt(1), rs.getString(2)); });
+        jdbcTemplate.query("SELECT id, name FROM food_categories",
+                rs -> { lookup.addCategory(FOOD, rs.getInt(1), rs.getString(2)); });
+        return lookup;
+    }
+
+    /**
+     * Duplicate keys of every row already in the catalog tables, including rows of earlier runs of this job
+     */
+    private Set<String> loadExistingKeys() {
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query("SELECT name, latitude, longitude, region_id FROM locations", rs -> {
+            keys.add(duplicateKey(LOCATION, rs.getString(1), (Double) rs.getObject(2), (Double) rs.getObject(3),
+                    (Integer) rs.getObject(4)));
+        });
+        jdbcTemplate.query("SELECT name, latitude, longitude, region_id FROM accommodations", rs -> {
+            keys.add(duplicateKey(ACCOMMODATION, rs.getString(1), (Double) rs.getObject(2), (Double) rs.getObject(3),
+                    (Integer) rs.getObject(4)));
+        });
+        jdbcTemplate.query("SELECT name, region_id FROM food", rs -> {
+            keys.add(duplicateKey(FOOD, rs.getString(1), null, null, (Integer) rs.getObject(2)));
+        });
+        return keys;
+    }
+
+    /**
+     * Same normalized name and coordinates rounded to the configured precision; without coordinates
+     * (foods have none), same name in the same region
+     */
+    private String duplicateKey(String type, String name, Double latitude, Double longitude, Integer regionId) {
+        String key = type + "|" + ReferenceLookup.key(name);
+        if (latitude != null && longitude != null) {
+            double scale = Math.pow(10, properties.getCoordinatePrecision());
+            return key + "|" + Math.round(latitude * scale) + "," + Math.round(longitude * scale);
+        }
+        return key + "|region:" + regionId;
+    }
+
+    /**
+     * Spool a stream to a file and count its lines (a last line without a newline included)
+     */
+    private static long spool(InputStream body, Path file) throws IOException {
+        long lines = 0;
+        int last = '\n';
+        byte[] buffer = new byte[64 * 1024];
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+                if (read > 0) {
+                    last = buffer[read - 1];
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+        return last == '\n' ? lines : lines + 1;
+    }
+
+    /**
+     * Why a parsed line cannot be written, or null
+     */
+    private static String validate(ImportRecord record) {
+        if (record.name() == null || record.name().isBlank()) {
+            return "Missing name";
+        }
+        if (record.latitude() != null && Math.abs(record.latitude()) > 90 ||
+                record.longitude() != null && Math.abs(record.longitude()) > 180) {
+            return "Coordinates out of range";
+        }
+        if (record.priceMin() != null && record.priceMax() != null && record.priceMin() > record.priceMax()) {
+            return "priceMin is greater than priceMax";
+        }
+        String[] lengthProblems = {tooLong("name", record.name(), 255), tooLong("address", record.address(), 255),
+                tooLong("city", record.city(), 100), tooLong("thumbnailUrl", record.thumbnailUrl(), 255)};
+        for (String problem : lengthProblems) {
+            if (problem != null) {
+                return problem;
+            }
+        }
+        return null;
+    }
+
+    private static String tooLong(String field, String value, int max) {
+        return value != null && value.length() > max ? field + " is longer than " + max + " characters" : null;
+    }
+
+    private static Time time(LocalTime value) {
+        return value != null ? Time.valueOf(value) : null;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private static String truncate(String value, int length) {
+        return value.length() > length ? value.substring(0, length) : value;
+    }
+
+    /**
+     * State of one run of a job: lookup maps, duplicate keys and the chunk being collected
+     */
+    private class Run {
+
+        private final ObjectReader reader = objectMapper.readerFor(ImportRecord.class);
+        private final ReferenceLookup lookup;
+        private final Set<String> keys;
+        private final Map<String, List<Object[]>> rows = new LinkedHashMap<>();
+        private final Map<String, List<Long>> rowLines = new HashMap<>();
+        private final List<Object[]> rejections = new ArrayList<>();
+        private ImportJob job;
+        private long rejectionsStored;
+        private int chunkLines;
+        private long chunkDuplicates;
+        private long chunkRejected;
+
+        Run(ImportJob job, ReferenceLookup lookup, Set<String> keys, long rejectionsStored) {
+            this.job = job;
+            this.lookup = lookup;
+            this.keys = keys;
+            this.rejectionsStored = rejectionsStored;
+        }
+
+        void accept(long lineNumber, String line) {
+            chunkLines++;
+            if (line.isBlank()) {
+                return;
+            }
+            String problem = line.length() > properties.getMaxLineLength()
+                    ? "Line longer than " + properties.getMaxLineLength() + " characters"
+                    : convert(lineNumber, line);
+            if (problem != null) {
+                reject(lineNumber, problem);
+            }
+        }
+
+        private void reject(long lineNumber, String problem) {
+            chunkRejected++;
+            if (rejectionsStored < properties.getMaxRejectionsStored()) {
+                rejectionsStored++;
+                rejections.add(new Object[]{job.getId(), lineNumber, truncate(problem, 500)});
+            }
+        }
+
+        /**
+         * Add a line to the chunk; returns why it was rejected, or null
+         */
+        private String convert(long lineNumber, String line) {
+            ImportRecord record;
+            try {
+                record = reader.readValue(line);
+            } catch (JsonProcessingException e) {
+                return "Unreadable JSON: " + e.getOriginalMessage();
+            }
+            String type = record.type() != null ? record.type().trim().toLowerCase() : job.getDefaultType();
+            if (type == null || !TYPES.contains(type)) {
+                return "Unknown type: " + record.type();
+            }
+            String problem = validate(record);
+            if (problem != null) {
+                return problem;
+            }
+            Integer categoryId = lookup.findCategory(type, record.category());
+            if (categoryId == null) {
+                return "Unknown " + type + " category: " + record.category();
+            }
+            ReferenceLookup.Place place = lookup.resolve(record.country(), record.region(), record.district(),
+                    record.ward());
+            if (place.unresolved() != null) {
+                return place.unresolved();
+            }
+            boolean located = !FOOD.equals(type);
+            if (!located && place.regionId() == null) {
+                // Foods have no coordinates and are told apart from foods of the same name by their region
+                return "Missing food region";
+            }
+            if (!keys.add(duplicateKey(type, record.name(), located ? record.latitude() : null,
+                    located ? record.longitude() : null, place.regionId()))) {
+                chunkDuplicates++;
+                return null;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            String name = record.name().trim();
+            Object[] row = switch (type) {
+                case LOCATION -> new Object[]{name, record.description(), record.latitude(), record.longitude(),
+                        record.address(), record.city(), record.thumbnailUrl(), record.priceMin(), record.priceMax(),
+                        categoryId, place.countryId(), place.regionId(), place.districtId(), place.wardId(), now, now};
+                case ACCOMMODATION -> new Object[]{name, record.description(), record.latitude(), record.longitude(),
+                        record.address(), record.city(), record.thumbnailUrl(), record.priceMin(), record.priceMax(),
+                        categoryId, place.countryId(), place.regionId(), place.districtId(), place.wardId(), now, now,
+                        job.getCreatedBy(), time(record.checkinTime()), time(record.checkoutTime()),
+                        record.cancelPolicy(), record.petPolicy(), record.childPolicy()};
+                default -> new Object[]{name, record.description(), record.thumbnailUrl(), record.priceMin(),
+                        record.priceMax(), categoryId, place.countryId(), place.regionId(), place.districtId(),
+                        place.wardId(), now, now};
+            };
+            rows.computeIfAbsent(type, ignored -> new ArrayList<>()).add(row);
+            rowLines.computeIfAbsent(type, ignored -> new ArrayList<>()).add(lineNumber);
+            return null;
+        }
+
+        /**
+         * Write the chunk and the job's progress up to a line in one transaction. A batch that fails on a
+         * constraint or bad value is written again row by row, rejecting only the rows that fail, so a resume
+         * never stops on the same chunk twice.
+         */
+        ImportJob commit(long lineNumber) {
+            try {
+                job = write(lineNumber, false);
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("Import {} chunk ending at line {} failed as a batch, writing it row by row: {}",
+                        job.getId(), lineNumber, e.getMostSpecificCause().getMessage());
+                job = write(lineNumber, true);
+            }
+            rows.clear();
+            rowLines.clear();
+            rejections.clear();
+            chunkLines = 0;
+            chunkDuplicates = 0;
+            chunkRejected = 0;
+            return job;
+        }
+
+        private ImportJob write(long lineNumber, boolean rowByRow) {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                long inserted = 0;
+                for (Map.Entry<String, List<Object[]>> entry : rows.entrySet()) {
+                    String sql = switch (entry.getKey()) {
+                        case LOCATION -> INSERT_LOCATION;
+                        case ACCOMMODATION -> INSERT_ACCOMMODATION;
+                        default -> INSERT_FOOD;
+                    };
+                    int[] types = switch (entry.getKey()) {
+                        case LOCATION -> LOCATION_TYPES;
+                        case ACCOMMODATION -> ACCOMMODATION_TYPES;
+                        default -> FOOD_TYPES;
+                    };
+                    List<Object[]> batch = entry.getValue();
+                    if (!rowByRow) {
+                        jdbcTemplate.batchUpdate(sql, batch, types);
+                        inserted += batch.size();
+                        continue;
+                    }
+                    List<Long> lines = rowLines.get(entry.getKey());
+                    for (int i = 0; i < batch.size(); i++) {
+                        // A failed statement aborts a PostgreSQL transaction, so each row gets its own savepoint;
+                        // issued as SQL because the JPA transaction manager does not expose savepoints
+                        jdbcTemplate.execute("SAVEPOINT import_row");
+                        try {
+                            jdbcTemplate.update(sql, batch.get(i), types);
+                            jdbcTemplate.execute("RELEASE SAVEPOINT import_row");
+                            inserted++;
+                        } catch (DataIntegrityViolationException e) {
+                            jdbcTemplate.execute("ROLLBACK TO SAVEPOINT import_row");
+                            reject(lines.get(i), "Insert failed: " + e.getMostSpecificCause().getMessage());
+                        }
+                    }
+                }
+                if (!rejections.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_REJECTION, rejections);
+                }
+                // Progress is applied to a fresh copy so a rolled-back attempt leaves the run's counts untouched
+                ImportJob progress = importJobRepository.findById(job.getId()).orElseThrow();
+                progress.setLinesCommitted(lineNumber);
+                progress.setInserted(progress.getInserted() + inserted);
+                progress.setDuplicates(progress.getDuplicates() + chunkDuplicates);
+                progress.setRejected(progress.getRejected() + chunkRejected);
+                progress.setUpdatedAt(LocalDateTime.now());
+                return importJobRepository.save(progress);
+            });
+        }
+    }
+}
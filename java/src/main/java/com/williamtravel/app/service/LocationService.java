@@ -1,15 +1,27 @@
 package com.williamtravel.app.service;
 
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CursorPage;
+import com.williamtravel.app.dto.LocationDetail;
+import com.williamtravel.app.dto.LocationSummary;
+import com.williamtravel.app.dto.NearbyResult;
 import com.williamtravel.app.entity.Location;
+import com.williamtravel.app.event.LocationChangedEvent;
 import com.williamtravel.app.repository.LocationRepository;
+import com.williamtravel.app.util.EntityMapper;
+import com.williamtravel.app.util.KeysetCursor;
+import com.williamtravel.app.util.SpatialGrid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service class for Location entity operations
@@ -21,6 +33,12 @@ public class LocationService {
     @Autowired
     private LocationRepository locationRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private GeoIndexService geoIndexService;
+
     /**
      * Find all locations
      */
@@ -35,18 +53,31 @@ public class LocationService {
         return locationRepository.findById(id);
     }
 
+    /**
+     * Find location summaries for a batch of IDs with one query, keyed by ID in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, LocationSummary> findSummariesByIds(List<Integer> ids) {
+        return BatchRequest.keyed(ids, locationRepository.findSummariesByIdIn(ids), LocationSummary::id);
+    }
+
     /**
      * Save location
      */
     public Location save(Location location) {
-        return locationRepository.save(location);
+        Location saved = locationRepository.save(location);
+        eventPublisher.publishEvent(new LocationChangedEvent(saved, false));
+        return saved;
     }
 
     /**
      * Delete location by ID
      */
     public void deleteById(Integer id) {
-        locationRepository.deleteById(id);
+        locationRepository.findById(id).ifPresent(existing -> {
+            locationRepository.delete(existing);
+            eventPublisher.publishEvent(new LocationChangedEvent(existing, true));
+        });
     }
 
     /**
@@ -70,6 +101,59 @@ public class LocationService {
         return locationRepository.findAll(pageable);
     }
 
+    // ==================== DTO PROJECTIONS ====================
+
+    /**
+     * Find all locations as list summaries
+     */
+    @Transactional(readOnly = true)
+    public List<LocationSummary> findAllSummaries() {
+        return locationRepository.findAllSummaries();
+    }
+
+    /**
+     * Stream all locations as list summaries; the stream must be consumed and closed inside a transaction
+     */
+    public Stream<LocationSummary> streamAllSummaries() {
+        return locationRepository.streamAllSummaries();
+    }
+
+    /**
+     * Find location summaries with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<LocationSummary> findAllSummaries(Pageable pageable) {
+        return locationRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * Find location summaries by active status with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<LocationSummary> findSummariesByIsActive(Boolean isActive, Pageable pageable) {
+        return locationRepository.findSummariesByIsActive(isActive, pageable);
+    }
+
+    /**
+     * Find location summaries by active status, one keyset slice after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<LocationSummary> findSummariesByIsActive(Boolean isActive, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int limit = KeysetCursor.limit(size);
+        List<LocationSummary> rows = locationRepository.findSummariesByIsActiveAfter(
+                isActive, position.createdAt(), position.id(), KeysetCursor.window(limit));
+        return CursorPage.of(rows, limit, row -> KeysetCursor.encode(row.createdAt(), row.id()));
+    }
+
+    /**
+     * Find location detail view by ID
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocationDetail> findDetailById(Integer id) {
+        return locationRepository.findDetailById(id).map(EntityMapper::toLocationDetail);
+    }
+
     // Basic finder methods
     /**
      * Find locations by name
@@ -281,6 +365,47 @@ public class LocationService {
         return locationRepository.findByIsActiveAndCoordinatesBounds(isActive, minLat, maxLat, minLng, maxLng);
     }
 
+    /**
+     * Find active locations within a radius from the geo index, nearest first
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyResult<LocationSummary>> findNearby(double latitude, double longitude, Double radiusKm, Integer limit) {
+        GeoIndexService.checkPoint(latitude, longitude);
+        List<SpatialGrid.Hit> hits = geoIndexService.locations().withinRadius(latitude, longitude,
+                GeoIndexService.radius(radiusKm), GeoIndexService.limit(limit, GeoIndexService.DEFAULT_LIMIT, GeoIndexService.MAX_LIMIT));
+        return toNearbyResults(hits);
+    }
+
+    /**
+     * Find the k active locations nearest to a point from the geo index
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyResult<LocationSummary>> findNearest(double latitude, double longitude, Integer k) {
+        GeoIndexService.checkPoint(latitude, longitude);
+        List<SpatialGrid.Hit> hits = geoIndexService.locations().nearest(latitude, longitude,
+                GeoIndexService.limit(k, GeoIndexService.DEFAULT_K, GeoIndexService.MAX_K), GeoIndexService.MAX_RADIUS_KM);
+        return toNearbyResults(hits);
+    }
+
+    /**
+     * Find active locations inside a bounding box from the geo index
+     */
+    @Transactional(readOnly = true)
+    public List<LocationSummary> findSummariesWithinBounds(double minLat, double maxLat, double minLng, double maxLng, Integer limit) {
+        GeoIndexService.checkBounds(minLat, maxLat, minLng, maxLng);
+        List<Integer> ids = geoIndexService.locations().withinBounds(minLat, maxLat, minLng, maxLng,
+                GeoIndexService.limit(limit, GeoIndexService.DEFAULT_BOUNDS_LIMIT, GeoIndexService.MAX_BOUNDS_LIMIT));
+        return ids.isEmpty() ? List.of() : locationRepository.findSummariesByIdIn(ids);
+    }
+
+    private List<NearbyResult<LocationSummary>> toNearbyResults(List<SpatialGrid.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Integer> ids = hits.stream().map(SpatialGrid.Hit::id).toList();
+        return NearbyResult.of(hits, locationRepository.findSummariesByIdIn(ids), LocationSummary::id);
+    }
+
     // Search and filtering
     /**
      * Find locations with filters
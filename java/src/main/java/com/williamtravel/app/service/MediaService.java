@@ -1,7 +1,11 @@
 package com.williamtravel.app.service;
 
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.CursorPage;
+import com.williamtravel.app.dto.MediaSummary;
 import com.williamtravel.app.entity.Media;
 import com.williamtravel.app.repository.MediaRepository;
+import com.williamtravel.app.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,7 +13,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service class for Media entity operations
@@ -28,6 +34,31 @@ public class MediaService {
         return mediaRepository.findAll();
     }
 
+    /**
+     * Stream all media as list summaries; the stream must be consumed and closed inside a transaction
+     */
+    public Stream<MediaSummary> streamAllSummaries() {
+        return mediaRepository.streamAllSummaries();
+    }
+
+    /**
+     * Find media of a batch of referenced entities with one query, grouped by reference ID in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, List<MediaSummary>> findSummariesByReferences(String referenceType, List<Integer> referenceIds) {
+        return BatchRequest.grouped(referenceIds,
+                mediaRepository.findSummariesByReferenceIn(referenceType, referenceIds), MediaSummary::referenceId);
+    }
+
+    /**
+     * Find the main media of a batch of referenced entities with one query, keyed by reference ID in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, MediaSummary> findMainSummariesByReferences(String referenceType, List<Integer> referenceIds) {
+        return BatchRequest.keyed(referenceIds,
+                mediaRepository.findMainSummariesByReferenceIn(referenceType, referenceIds), MediaSummary::referenceId);
+    }
+
     /**
      * Find media by ID
      */
@@ -85,6 +116,17 @@ public class MediaService {
         return mediaRepository.findByReference(referenceId, referenceType, pageable);
     }
 
+    /**
+     * Find media by reference, one keyset slice after the given cursor
+     */
+    public CursorPage<Media> findByReference(Integer referenceId, String referenceType, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int limit = KeysetCursor.limit(size);
+        List<Media> rows = mediaRepository.findByReferenceAfter(
+                referenceId, referenceType, position.id(), KeysetCursor.window(limit));
+        return CursorPage.of(rows, limit, media -> KeysetCursor.encode(media.getId()));
+    }
+
     // Find by reference type
     /**
      * Find media by reference type
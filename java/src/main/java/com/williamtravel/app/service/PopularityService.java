@@ -0,0 +1,320 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.config.PopularityProperties;
+import com.williamtravel.app.exception.BadRequestException;
+import com.williamtravel.app.util.TopKLists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scheduled popularity scoring. Each run combines time-decayed views, rating aggregates, time-decayed
+ * article reactions and recency into one score per location, accommodation, food and article, writes
+ * changed scores back with one multi-row UPDATE per batch, and keeps the K best active items per
+ * category and per region in memory so popular lists are served without sorting whole tables.
+ */
+@Service
+public class PopularityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PopularityService.class);
+
+    public static final String LOCATION = "location";
+    public static final String ACCOMMODATION = "accommodation";
+    public static final String FOOD = "food";
+    public static final String ARTICLE = "article";
+
+    public static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * Where a type's signals are read from; table and column names never come from request input
+     */
+    private record Source(String type, String table, String activeColumn, boolean categoryColumn, boolean reactions) {
+    }
+
+    private static final List<Source> SOURCES = List.of(
+            new Source(LOCATION, "locations", "is_active", true, false),
+            new Source(ACCOMMODATION, "accommodations", "is_active", true, false),
+            new Source(FOOD, "food", "status", true, false),
+            new Source(ARTICLE, "article", "status", false, true));
+
+    private record State(long viewsSeen, double decayedViews, LocalDateTime decayedAt) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PopularityProperties properties;
+
+    private final Map<String, TopKLists> topLists = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastRunAt;
+
+    private volatile long lastRunMillis;
+
+    private volatile Map<String, Object> lastRunCounts = Map.of();
+
+    @PostConstruct
+    void init() {
+        for (Source source : SOURCES) {
+            topLists.put(source.type(), TopKLists.empty(properties.getTopK()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rescore();
+        } catch (RuntimeException e) {
+            logger.error("Failed to score popularity, popular lists fall back to stored scores until the next run", e);
+        }
+    }
+
+    /**
+     * Whether the in-memory top lists have been built since startup
+     */
+    public boolean isReady() {
+        return lastRunAt != null;
+    }
+
+    /**
+     * IDs of the best active items of a type, optionally within a category and/or region, best first
+     */
+    public List<Integer> findTopIds(String type, Integer categoryId, Integer regionId, Integer offset, Integer limit) {
+        TopKLists lists = topLists.get(type);
+        if (lists == null) {
+            throw new BadRequestException("Unknown popularity type: " + type);
+        }
+        int from = offset != null ? Math.max(0, offset) : 0;
+        int size = GeoIndexService.limit(limit, DEFAULT_LIMIT, lists.k());
+        List<Integer> ids = new ArrayList<>(size);
+        for (TopKLists.Entry entry : lists.top(TopKLists.key(categoryId, regionId), from, size)) {
+            ids.add(entry.id());
+        }
+        return ids;
+    }
+
+    /**
+     * Number of items kept per list
+     */
+    public int topK() {
+        return properties.getTopK();
+    }
+
+    /**
+     * Score every type, write changed scores and replace the top lists
+     */
+    @Scheduled(cron = "${popularity.rescore-cron:0 */15 * * * *}")
+    public synchronized void rescore() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> counts = new LinkedHashMap<>();
+        for (Source source : SOURCES) {
+            counts.put(source.type(), rescore(source, now));
+        }
+        lastRunAt = now;
+        lastRunCounts = counts;
+        lastRunMillis = System.currentTimeMillis() - start;
+        logger.info("Scored popularity in {} ms: {}", lastRunMillis, counts);
+    }
+
+    /**
+     * Last run and list sizes in a serializable form
+     */
+    public Map<String, Object> statsSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("lastRunAt", lastRunAt != null ? lastRunAt.toString() : null);
+        summary.put("lastRunMillis", lastRunMillis);
+        summary.put("topK", properties.getTopK());
+        for (Source source : SOURCES) {
+            summary.put(source.type() + "Lists", topLists.get(source.type()).listCount());
+        }
+        summary.put("lastRun", lastRunCounts);
+        return summary;
+    }
+
+    private Map<String, Integer> rescore(Source source, LocalDateTime now) {
+        Map<Integer, State> states = loadStates(source.type());
+        Map<Integer, List<Integer>> articleCategories = source.categoryColumn() ? Map.of() : loadArticleCategories();
+        TopKLists.Builder top = new TopKLists.Builder(properties.getTopK());
+        List<Object[]> scoreUpdates = new ArrayList<>();
+        List<Object[]> stateUpdates = new ArrayList<>();
+        int[] scored = new int[1];
+
+        jdbcTemplate.query(signalsSql(source), rs -> {
+            int id = rs.getInt(1);
+            Integer categoryId = (Integer) rs.getObject(2);
+            Integer regionId = (Integer) rs.getObject(3);
+            boolean active = rs.getBoolean(4);
+            Timestamp createdAt = rs.getTimestamp(5);
+            long viewCount = rs.getLong(6);
+            Double storedScore = (Double) rs.getObject(7);
+            long ratingCount = rs.getLong(8);
+            double ratingSum = rs.getDouble(9);
+            double reactions = rs.getDouble(10);
+
+            double decayedViews = decayedViews(states.get(id), viewCount, now, source.type(), id, stateUpdates);
+            double score = score(decayedViews, reactions, ratingCount, ratingSum,
+                    createdAt != null ? createdAt.toLocalDateTime() : null, now);
+            scored[0]++;
+            if (changed(storedScore, score)) {
+                scoreUpdates.add(new Object[] {id, score});
+            }
+            if (active) {
+                List<Integer> categories = categoryId != null ? List.of(categoryId) : articleCategories.getOrDefault(id, List.of());
+                offer(top, id, score, categories, regionId);
+            }
+        }, source.reactions() ? new Object[] {timestamp(now)} : new Object[0]);
+
+        writeScores(source.table(), scoreUpdates);
+        writeStates(stateUpdates);
+        topLists.put(source.type(), top.build());
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("scored", scored[0]);
+        counts.put("scoresWritten", scoreUpdates.size());
+        counts.put("viewStatesWritten", stateUpdates.size());
+        return counts;
+    }
+
+    /**
+     * Decayed views as of now; new views since the last run are added at full weight and queued for storing
+     */
+    private double decayedViews(State state, long viewCount, LocalDateTime now, String type, int id,
+                                List<Object[]> stateUpdates) {
+        long viewsSeen = state != null ? state.viewsSeen() : 0L;
+        double decayed = state != null ? state.decayedViews() * decay(state.decayedAt(), now, properties.getViewHalfLife()) : 0.0;
+        if (viewCount != viewsSeen) {
+            // A lower count means the counter was reset; start over from it
+            decayed += Math.max(0L, viewCount - viewsSeen);
+            stateUpdates.add(new Object[] {type, id, viewCount, decayed, timestamp(now)});
+        }
+        return decayed;
+    }
+
+    private double score(double decayedViews, double reactions, long ratingCount, double ratingSum,
+                         LocalDateTime createdAt, LocalDateTime now) {
+        double priorCount = properties.getRatingPriorCount();
+        double bayesianRating = (priorCount * properties.getRatingPriorMean() + ratingSum) / (priorCount + ratingCount);
+        double score = properties.getViewWeight() * Math.log1p(decayedViews)
+                + properties.getReactionWeight() * Math.log1p(reactions)
+                + properties.getRatingWeight() * ((bayesianRating - 1) / 4) * Math.log1p(ratingCount);
+        if (createdAt != null) {
+            score += properties.getRecencyWeight() * decay(createdAt, now, properties.getRecencyHalfLife());
+        }
+        return score;
+    }
+
+    private boolean changed(Double storedScore, double score) {
+        if (storedScore == null) {
+            return true;
+        }
+        double difference = Math.abs(score - storedScore);
+        return difference > 1e-6 && difference > properties.getWriteThreshold() * Math.abs(storedScore);
+    }
+
+    private static void offer(TopKLists.Builder top, int id, double score, List<Integer> categories, Integer regionId) {
+        top.offer(TopKLists.key(null, null), id, score);
+        if (regionId != null) {
+            top.offer(TopKLists.key(null, regionId), id, score);
+        }
+        for (Integer categoryId : categories) {
+            top.offer(TopKLists.key(categoryId, null), id, score);
+            if (regionId != null) {
+                top.offer(TopKLists.key(categoryId, regionId), id, score);
+            }
+        }
+    }
+
+    /**
+     * Fraction of weight left after the time between two instants, halving every halfLife
+     */
+    private static double decay(LocalDateTime from, LocalDateTime to, Duration halfLife) {
+        double elapsed = Math.max(0, Duration.between(from, to).getSeconds());
+        return Math.pow(0.5, elapsed / Math.max(1, halfLife.getSeconds()));
+    }
+
+    private String signalsSql(Source source) {
+        String reactions = source.reactions() ? "COALESCE(x.reactions, 0)" : "0";
+        String sql = "SELECT t.id, " + (source.categoryColumn() ? "t.category_id" : "CAST(NULL AS integer)") + ", t.region_id, "
+                + "t." + source.activeColumn() + ", t.created_at, COALESCE(t.view_count, 0), t.popularity_score, "
+                + "COALESCE(s.rating_count, 0), COALESCE(s.rating_sum, 0), " + reactions
+                + " FROM " + source.table() + " t"
+                + " LEFT JOIN rating_summary s ON s.reference_type = '" + source.type() + "' AND s.reference_id = t.id";
+        if (source.reactions()) {
+            long halfLife = Math.max(1, properties.getViewHalfLife().getSeconds());
+            sql += " LEFT JOIN (SELECT article_id, SUM(POWER(0.5, EXTRACT(EPOCH FROM (CAST(? AS timestamp) - created_at)) / "
+                    + halfLife + ")) AS reactions FROM article_reaction WHERE status = true GROUP BY article_id) x"
+                    + " ON x.article_id = t.id";
+        }
+        return sql;
+    }
+
+    private Map<Integer, State> loadStates(String type) {
+        Map<Integer, State> states = new HashMap<>();
+        jdbcTemplate.query("SELECT reference_id, views_seen, decayed_views, decayed_at FROM popularity_state WHERE reference_type = ?",
+                rs -> {
+                    states.put(rs.getInt(1), new State(rs.getLong(2), rs.getDouble(3), rs.getTimestamp(4).toLocalDateTime()));
+                }, type);
+        return states;
+    }
+
+    private Map<Integer, List<Integer>> loadArticleCategories() {
+        Map<Integer, List<Integer>> categories = new HashMap<>();
+        jdbcTemplate.query("SELECT article_id, article_categories_id FROM article_article_categories", rs -> {
+            categories.computeIfAbsent(rs.getInt(1), ignored -> new ArrayList<>(2)).add(rs.getInt(2));
+        });
+        return categories;
+    }
+
+    private void writeScores(String table, List<Object[]> updates) {
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < updates.size(); from += batchSize) {
+            List<Object[]> batch = updates.subList(from, Math.min(from + batchSize, updates.size()));
+            jdbcTemplate.update("UPDATE " + table + " AS t SET popularity_score = v.score FROM (VALUES "
+                    + String.join(", ", Collections.nCopies(batch.size(), "(CAST(? AS integer), CAST(? AS double precision))"))
+                    + ") AS v(id, score) WHERE t.id = v.id", flatten(batch));
+        }
+    }
+
+    private void writeStates(List<Object[]> updates) {
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < updates.size(); from += batchSize) {
+            List<Object[]> batch = updates.subList(from, Math.min(from + batchSize, updates.size()));
+            jdbcTemplate.update("INSERT INTO popularity_state (reference_type, reference_id, views_seen, decayed_views, decayed_at) VALUES "
+                    + String.join(", ", Collections.nCopies(batch.size(), "(?, ?, ?, ?, ?)"))
+                    + " ON CONFLICT (reference_type, reference_id) DO UPDATE SET views_seen = EXCLUDED.views_seen,"
+                    + " decayed_views = EXCLUDED.decayed_views, decayed_at = EXCLUDED.decayed_at", flatten(batch));
+        }
+    }
+
+    private static Object[] flatten(List<Object[]> batch) {
+        int width = batch.get(0).length;
+        Object[] args = new Object[batch.size() * width];
+        for (int i = 0; i < batch.size(); i++) {
+            System.arraycopy(batch.get(i), 0, args, i * width, width);
+        }
+        return args;
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+}
@@ -1,7 +1,10 @@
 package com.williamtravel.app.service;
 
+import com.williamtravel.app.dto.CursorPage;
+import com.williamtravel.app.dto.RatingRow;
 import com.williamtravel.app.entity.Rating;
 import com.williamtravel.app.repository.RatingRepository;
+import com.williamtravel.app.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service class for Rating entity operations
@@ -21,6 +25,9 @@ public class RatingService {
     @Autowired
     private RatingRepository ratingRepository;
 
+    @Autowired
+    private RatingSummaryService ratingSummaryService;
+
     /**
      * Find all ratings
      */
@@ -28,6 +35,13 @@ public class RatingService {
         return ratingRepository.findAll();
     }
 
+    /**
+     * Stream all ratings as flat rows; the stream must be consumed and closed inside a transaction
+     */
+    public Stream<RatingRow> streamAllRows() {
+        return ratingRepository.streamAllRows();
+    }
+
     /**
      * Find rating by ID
      */
@@ -39,14 +53,29 @@ public class RatingService {
      * Save rating
      */
     public Rating save(Rating rating) {
-        return ratingRepository.save(rating);
+        // Capture the stored values before the merge overwrites them
+        Rating previous = rating.getId() != null ? ratingRepository.findById(rating.getId()).orElse(null) : null;
+        String previousType = previous != null ? previous.getReferenceType() : null;
+        Integer previousReferenceId = previous != null ? previous.getReferenceId() : null;
+        Double previousValue = previous != null ? previous.getRating() : null;
+
+        Rating saved = ratingRepository.saveAndFlush(rating);
+        if (previous != null) {
+            ratingSummaryService.ratingRemoved(previousType, previousReferenceId, previousValue);
+        }
+        ratingSummaryService.ratingAdded(saved.getReferenceType(), saved.getReferenceId(), saved.getRating());
+        return saved;
     }
 
     /**
      * Delete rating by ID
      */
     public void deleteById(Integer id) {
-        ratingRepository.deleteById(id);
+        ratingRepository.findById(id).ifPresent(existing -> {
+            ratingRepository.delete(existing);
+            ratingRepository.flush();
+            ratingSummaryService.ratingRemoved(existing.getReferenceType(), existing.getReferenceId(), existing.getRating());
+        });
     }
 
     /**
@@ -85,6 +114,17 @@ public class RatingService {
         return ratingRepository.findByReference(referenceId, referenceType, pageable);
     }
 
+    /**
+     * Find ratings by reference, one keyset slice after the given cursor
+     */
+    public CursorPage<Rating> findByReference(Integer referenceId, String referenceType, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int limit = KeysetCursor.limit(size);
+        List<Rating> rows = ratingRepository.findByReferenceAfter(
+                referenceId, referenceType, position.createdAt(), position.id(), KeysetCursor.window(limit));
+        return CursorPage.of(rows, limit, rating -> KeysetCursor.encode(rating.getCreatedAt(), rating.getId()));
+    }
+
     // Find by user
     /**
      * Find ratings by user ID
@@ -175,14 +215,14 @@ public class RatingService {
      * Find average rating by reference
      */
     public Double findAverageRatingByReference(Integer referenceId, String referenceType) {
-        return ratingRepository.findAverageRatingByReference(referenceId, referenceType);
+        return ratingSummaryService.findAverage(referenceType, referenceId);
     }
 
     /**
      * Count ratings by reference
      */
     public Long countRatingsByReference(Integer referenceId, String referenceType) {
-        return ratingRepository.countRatingsByReference(referenceId, referenceType);
+        return ratingSummaryService.count(referenceType, referenceId);
     }
 
     /**
@@ -201,10 +241,10 @@ public class RatingService {
 
     // Rating distribution for entity
     /**
-     * Find rating distribution by reference
+     * Find rating distribution by reference, bucketed to whole stars
      */
     public List<Object[]> findRatingDistributionByReference(Integer referenceId, String referenceType) {
-        return ratingRepository.findRatingDistributionByReference(referenceId, referenceType);
+        return ratingSummaryService.findDistribution(referenceType, referenceId);
     }
 
     // Top rated entities by type
@@ -212,7 +252,7 @@ public class RatingService {
      * Find top rated entities by type
      */
     public List<Object[]> findTopRatedEntitiesByType(String referenceType, Long minRatingCount, Pageable pageable) {
-        return ratingRepository.findTopRatedEntitiesByType(referenceType, minRatingCount, pageable);
+        return ratingSummaryService.findTopRated(referenceType, minRatingCount, pageable);
     }
 
     // Most reviewed entities by type
@@ -220,7 +260,7 @@ public class RatingService {
      * Find most reviewed entities by type
      */
     public List<Object[]> findMostReviewedEntitiesByType(String referenceType, Pageable pageable) {
-        return ratingRepository.findMostReviewedEntitiesByType(referenceType, pageable);
+        return ratingSummaryService.findMostReviewed(referenceType, pageable);
     }
 
     // Recent ratings for specific entity type
@@ -239,6 +279,13 @@ public class RatingService {
         return ratingRepository.findRatingsWithReviews();
     }
 
+    /**
+     * Stream ratings with reviews as flat rows; the stream must be consumed and closed inside a transaction
+     */
+    public Stream<RatingRow> streamRowsWithReviews() {
+        return ratingRepository.streamRowsWithReviews();
+    }
+
     /**
      * Find ratings with reviews with pagination
      */
@@ -0,0 +1,175 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.dto.BatchRequest;
+import com.williamtravel.app.dto.RatingStats;
+import com.williamtravel.app.repository.RatingRepository;
+import com.williamtravel.app.repository.RatingSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class for materialized rating aggregates.
+ * Summaries are adjusted in the same transaction as each rating write and
+ * periodically rebuilt from the ratings table to correct any drift.
+ */
+@Service
+@Transactional
+public class RatingSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingSummaryService.class);
+
+    public static final String ACCOMMODATION = "accommodation";
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    /**
+     * Star bucket of a rating value, rounding half up and clamping to 1-5
+     */
+    public static int star(double rating) {
+        return (int) Math.max(1, Math.min(5, Math.floor(rating + 0.5)));
+    }
+
+    /**
+     * Account for a rating that has just been inserted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ratingAdded(String referenceType, Integer referenceId, Double rating) {
+        if (referenceType == null || referenceId == null || rating == null) {
+            return;
+        }
+        ratingSummaryRepository.addRating(referenceType, referenceId, rating, star(rating));
+        syncDenormalized(referenceType, referenceId);
+    }
+
+    /**
+     * Account for a rating that has just been deleted, or the previous value of one that has just been changed.
+     * The ratings table must already reflect the change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ratingRemoved(String referenceType, Integer referenceId, Double rating) {
+        if (referenceType == null || referenceId == null || rating == null) {
+            return;
+        }
+        ratingSummaryRepository.removeRating(referenceType, referenceId, rating, star(rating));
+        syncDenormalized(referenceType, referenceId);
+    }
+
+    /**
+     * Find rating aggregates for an entity
+     */
+    @Transactional(readOnly = true)
+    public RatingStats findStats(String referenceType, Integer referenceId) {
+        return ratingSummaryRepository.findByReferenceTypeAndReferenceId(referenceType, referenceId)
+                .map(RatingStats::of)
+                .orElseGet(() -> RatingStats.empty(referenceType, referenceId));
+    }
+
+    /**
+     * Find rating stats for a batch of entities with one query, keyed by reference ID in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, RatingStats> findStats(String referenceType, List<Integer> referenceIds) {
+        Map<Integer, RatingStats> found = BatchRequest.keyed(referenceIds,
+                ratingSummaryRepository.findByReferenceTypeAndReferenceIdIn(referenceType, referenceIds)
+                        .stream().map(RatingStats::of).toList(),
+                RatingStats::referenceId);
+        Map<Integer, RatingStats> stats = new LinkedHashMap<>(referenceIds.size() * 2);
+        for (Integer referenceId : referenceIds) {
+            stats.put(referenceId, found.getOrDefault(referenceId, RatingStats.empty(referenceType, referenceId)));
+        }
+        return stats;
+    }
+
+    /**
+     * Find average rating for an entity, null when it has no ratings
+     */
+    @Transactional(readOnly = true)
+    public Double findAverage(String referenceType, Integer referenceId) {
+        return findStats(referenceType, referenceId).average();
+    }
+
+    /**
+     * Count ratings for an entity
+     */
+    @Transactional(readOnly = true)
+    public long count(String referenceType, Integer referenceId) {
+        return findStats(referenceType, referenceId).count();
+    }
+
+    /**
+     * Star distribution for an entity as [star, count] rows, non-empty stars only, in ascending order
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> findDistribution(String referenceType, Integer referenceId) {
+        List<Object[]> distribution = new ArrayList<>();
+        findStats(referenceType, referenceId).histogram().forEach((star, count) -> {
+            if (count > 0) {
+                distribution.add(new Object[] {star.doubleValue(), count});
+            }
+        });
+        return distribution;
+    }
+
+    /**
+     * Top rated entities of a type as [referenceId, average, count] rows
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> findTopRated(String referenceType, Long minRatingCount, Pageable pageable) {
+        return ratingSummaryRepository.findTopRatedByType(referenceType, minRatingCount != null ? minRatingCount : 0L, pageable);
+    }
+
+    /**
+     * Most reviewed entities of a type as [referenceId, count, average] rows
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> findMostReviewed(String referenceType, Pageable pageable) {
+        return ratingSummaryRepository.findMostReviewedByType(referenceType, pageable);
+    }
+
+    /**
+     * Recompute every summary from the ratings table
+     */
+    @Scheduled(cron = "${ratings.summary.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        ratingSummaryRepository.deleteAllSummaries();
+        int summaries = ratingSummaryRepository.insertAllFromRatings();
+        int accommodations = ratingSummaryRepository.syncAllAccommodationRatings();
+        logger.info("Rebuilt {} rating summaries and synced {} accommodation ratings in {} ms",
+                summaries, accommodations, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Populate summaries on first start after the table is introduced
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (ratingSummaryRepository.count() == 0 && ratingRepository.count() > 0) {
+            logger.info("Rating summaries are empty, building them from existing ratings");
+            rebuild();
+        }
+    }
+
+    private void syncDenormalized(String referenceType, Integer referenceId) {
+        if (ACCOMMODATION.equals(referenceType)) {
+            ratingSummaryRepository.syncAccommodationRating(referenceId);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.williamtravel.app.service;
 
 import com.williamtravel.app.entity.Region;
+import com.williamtravel.app.event.GeographyChangedEvent;
 import com.williamtravel.app.repository.RegionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,9 @@ public class RegionService {
     @Autowired
     private RegionRepository regionRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all regions
      */
@@ -40,7 +45,9 @@ public class RegionService {
      * Save region
      */
     public Region save(Region region) {
-        return regionRepository.save(region);
+        Region saved = regionRepository.save(region);
+        eventPublisher.publishEvent(new GeographyChangedEvent("region", saved.getId()));
+        return saved;
     }
 
     /**
@@ -48,6 +55,7 @@ public class RegionService {
      */
     public void deleteById(Integer id) {
         regionRepository.deleteById(id);
+        eventPublisher.publishEvent(new GeographyChangedEvent("region", id));
     }
 
     /**
@@ -0,0 +1,151 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.config.HttpCacheProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Version probes behind conditional GETs of catalog reads. A detail probe is one primary key lookup
+ * hashing the row together with every row its response embeds (category, geography, author), so a
+ * revalidation costs one small query instead of loading and serializing the entity graph. Detail probes
+ * carry no Last-Modified, since the embedded geography rows keep no timestamp and only the ETag sees
+ * every change. A list probe reads max(updated_at), count(*) and max(id) of a small lookup table.
+ * Only tables with a maintained updated_at timestamp are probed; geography and media keep date-only
+ * columns and fall back to body-hash ETags.
+ */
+@Service
+public class ResourceVersionService {
+
+    private static final String[] GEOGRAPHY = {
+            "country_id=countries", "region_id=regions", "district_id=districts", "ward_id=wards"};
+
+    /**
+     * Catalog resources with a version probe, keyed by the base path of their controller
+     */
+    public enum Resource {
+        LOCATION("/api/locations", "locations", false, with(GEOGRAPHY, "category_id=location_categories")),
+        ACCOMMODATION("/api/accommodations", "accommodations", false,
+                with(GEOGRAPHY, "category_id=accommodations_categories")),
+        ACCOMMODATION_ROOM("/api/accommodation-rooms", "accommodation_rooms", false, "accommodation_id=accommodations"),
+        FOOD("/api/foods", "food", false, with(GEOGRAPHY, "category_id=food_categories")),
+        ARTICLE("/api/articles", "article", false, with(GEOGRAPHY, "author_id=users")),
+        LOCATION_CATEGORY("/api/location-categories", "location_categories", true),
+        ACCOMMODATION_CATEGORY("/api/accommodation-categories", "accommodations_categories", true),
+        FOOD_CATEGORY("/api/food-categories", "food_categories", true),
+        ARTICLE_CATEGORY("/api/article-categories", "article_categories", true),
+        ARTICLE_TAG("/api/article-tags", "article_tags", true);
+
+        private final String basePath;
+        private final String table;
+        private final boolean listProbe;
+        private final String rowSql;
+        private final String tableSql;
+
+        Resource(String basePath, String table, boolean listProbe, String... references) {
+            this.basePath = basePath;
+            this.table = table;
+            this.listProbe = listProbe;
+            // Each embedded row is hashed as text, so any change to it changes the digest
+            String digest = Stream.of(references)
+                    .map(reference -> reference.split("="))
+                    .map(reference -> " || '|' || coalesce((SELECT r::text FROM " + reference[1] +
+                            " r WHERE r.id = t." + reference[0] + "), '')")
+                    .collect(Collectors.joining());
+            this.rowSql = "SELECT md5(t::text" + digest + ") AS digest FROM " + table + " t WHERE t.id = ?";
+            this.tableSql = "SELECT max(coalesce(updated_at, created_at)) AS modified, count(*) AS row_count, " +
+                    "coalesce(max(id), 0) AS max_id FROM " + table;
+        }
+
+        public String getBasePath() {
+            return basePath;
+        }
+
+        /**
+         * Whether the base list route of this resource can be versioned with a table probe
+         */
+        public boolean hasListProbe() {
+            return listProbe;
+        }
+
+        private static String[] with(String[] references, String reference) {
+            return Stream.concat(Stream.of(reference), Stream.of(references)).toArray(String[]::new);
+        }
+    }
+
+    /**
+     * A weak entity tag with the Last-Modified time in epoch milliseconds (-1 when unknown)
+     */
+    public record Version(String etag, long lastModified) {
+
+        /**
+         * The same version of another representation, such as Smile instead of JSON
+         */
+        public Version variant(String representation) {
+            return new Version(etag.substring(0, etag.length() - 1) + "-" + representation + "\"", lastModified);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HttpCacheProperties properties;
+
+    private final Map<String, Resource> byBasePath = Stream.of(Resource.values())
+            .collect(Collectors.toUnmodifiableMap(Resource::getBasePath, Function.identity()));
+
+    /**
+     * Find the resource served under a base path, or null when it has no version probe
+     */
+    public Resource findResource(String basePath) {
+        return byBasePath.get(basePath);
+    }
+
+    /**
+     * Version of one row and the rows its response embeds, without a Last-Modified time; null when the ID
+     * is not a number or not found
+     */
+    public Version rowVersion(Resource resource, String id) {
+        Integer key = parseId(id);
+        if (key == null) {
+            return null;
+        }
+        List<Version> versions = jdbcTemplate.query(resource.rowSql, (rs, rowNum) ->
+                version(resource.table + "-" + key + "-" + rs.getString("digest"), null), key);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    /**
+     * Version of a whole lookup table
+     */
+    public Version tableVersion(Resource resource) {
+        return jdbcTemplate.queryForObject(resource.tableSql, (rs, rowNum) -> {
+            String state = rs.getTimestamp("modified") + "|" + rs.getLong("row_count") + "|" + rs.getLong("max_id");
+            return version(resource.table + "-" + DigestUtils.md5DigestAsHex(state.getBytes(StandardCharsets.UTF_8)),
+                    rs.getTimestamp("modified"));
+        });
+    }
+
+    private Version version(String tag, Timestamp modified) {
+        return new Version("W/\"" + properties.getEtagVersion() + "-" + tag + "\"",
+                modified != null ? modified.getTime() : -1);
+    }
+
+    private static Integer parseId(String id) {
+        try {
+            return Integer.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
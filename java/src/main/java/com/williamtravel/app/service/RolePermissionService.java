@@ -2,8 +2,10 @@ package com.williamtravel.app.service;
 
 import com.williamtravel.app.entity.RolePermission;
 import com.williamtravel.app.entity.RolePermissionId;
+import com.williamtravel.app.event.RoleChangedEvent;
 import com.williamtravel.app.repository.RolePermissionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,9 @@ public class RolePermissionService {
     @Autowired
     private RolePermissionRepository rolePermissionRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all role permissions
      */
@@ -40,7 +45,9 @@ public class RolePermissionService {
      * Save role permission
      */
     public RolePermission save(RolePermission rolePermission) {
-        return rolePermissionRepository.save(rolePermission);
+        RolePermission savedRolePermission = rolePermissionRepository.save(rolePermission);
+        eventPublisher.publishEvent(new RoleChangedEvent(savedRolePermission.getRoleId()));
+        return savedRolePermission;
     }
 
     /**
@@ -48,6 +55,7 @@ public class RolePermissionService {
      */
     public void deleteById(RolePermissionId id) {
         rolePermissionRepository.deleteById(id);
+        eventPublisher.publishEvent(new RoleChangedEvent(id.getRoleId()));
     }
 
     /**
@@ -90,6 +98,7 @@ public class RolePermissionService {
      */
     public void deleteByRoleId(Integer roleId) {
         rolePermissionRepository.deleteByRoleId(roleId);
+        eventPublisher.publishEvent(new RoleChangedEvent(roleId));
     }
 
     /**
@@ -97,6 +106,7 @@ public class RolePermissionService {
      */
     public void deleteByPermissionId(Integer permissionId) {
         rolePermissionRepository.deleteByPermissionId(permissionId);
+        eventPublisher.publishEvent(new RoleChangedEvent(null));
     }
 
     /**
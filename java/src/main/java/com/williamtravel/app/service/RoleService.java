@@ -2,7 +2,9 @@ package com.williamtravel.app.service;
 
 import com.williamtravel.app.entity.Role;
 import com.williamtravel.app.repository.RoleRepository;
+import com.williamtravel.app.event.RoleChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,9 @@ public class RoleService {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all roles
      */
@@ -39,7 +44,9 @@ public class RoleService {
      * Save role
      */
     public Role save(Role role) {
-        return roleRepository.save(role);
+        Role savedRole = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(savedRole.getId()));
+        return savedRole;
     }
 
     /**
@@ -47,6 +54,7 @@ public class RoleService {
      */
     public void deleteById(Integer id) {
         roleRepository.deleteById(id);
+        eventPublisher.publishEvent(new RoleChangedEvent(id));
     }
 
     /**
@@ -0,0 +1,293 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.entity.RoomHold;
+import com.williamtravel.app.entity.RoomInventory;
+import com.williamtravel.app.event.RoomInventoryChangedEvent;
+import com.williamtravel.app.exception.BadRequestException;
+import com.williamtravel.app.exception.ConflictException;
+import com.williamtravel.app.repository.AccommodationRoomRepository;
+import com.williamtravel.app.repository.RoomHoldRepository;
+import com.williamtravel.app.repository.RoomInventoryRepository;
+import com.williamtravel.app.security.AuthenticatedUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-room-per-night allotments and the holds placed against them. Every change locks the room's
+ * inventory rows for the nights involved, in date order, before checking and updating counts, so
+ * parallel holds on the same room queue on the database and can never take more units than exist.
+ */
+@Service
+@Transactional
+public class RoomInventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomInventoryService.class);
+
+    public static final int MAX_STAY_NIGHTS = 30;
+    public static final int MAX_ALLOTMENT_NIGHTS = 366;
+    public static final int MAX_HOLD_QUANTITY = 20;
+    public static final int MAX_HOLDS_LISTED = 50;
+
+    @Autowired
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Autowired
+    private RoomHoldRepository roomHoldRepository;
+
+    @Autowired
+    private AccommodationRoomRepository accommodationRoomRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${inventory.hold-ttl:15m}")
+    private Duration holdTtl;
+
+    @Value("${inventory.hold-expiry-batch-size:200}")
+    private int expiryBatchSize;
+
+    /**
+     * Find a room's inventory rows for the nights from one date up to, but not including, another
+     */
+    @Transactional(readOnly = true)
+    public List<RoomInventory> findCalendar(Integer roomId, LocalDate from, LocalDate to) {
+        validateRange(from, to, MAX_ALLOTMENT_NIGHTS);
+        return roomInventoryRepository.findByRoom(roomId, from, to);
+    }
+
+    /**
+     * Find the most recent holds placed by a user
+     */
+    @Transactional(readOnly = true)
+    public List<RoomHold> findHoldsByUser(Integer userId) {
+        return roomHoldRepository.findByUserId(userId, PageRequest.of(0, MAX_HOLDS_LISTED));
+    }
+
+    /**
+     * Set the units offered on each night of a range, creating missing nights; an allotment may not drop
+     * below the units already booked or held on a night
+     */
+    public List<RoomInventory> setAllotment(Integer roomId, LocalDate from, LocalDate to, Integer allotment) {
+        validateRange(from, to, MAX_ALLOTMENT_NIGHTS);
+        if (allotment == null || allotment < 0 || allotment > Short.MAX_VALUE) {
+            throw new BadRequestException("Allotment must be between 0 and " + Short.MAX_VALUE);
+        }
+        if (!accommodationRoomRepository.existsById(roomId)) {
+            throw new EntityNotFoundException("Accommodation room " + roomId + " not found");
+        }
+        Map<LocalDate, RoomInventory> existing = new HashMap<>();
+        for (RoomInventory night : roomInventoryRepository.lockByRoom(roomId, from, to)) {
+            existing.put(night.getStayDate(), night);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<RoomInventory> nights = new ArrayList<>();
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            RoomInventory night = existing.get(date);
+            if (night == null) {
+                night = new RoomInventory(null, roomId, date, allotment, 0, 0, now);
+            } else {
+                int taken = night.getBooked() + night.getHeld();
+                if (allotment < taken) {
+                    throw new ConflictException("Allotment for " + date + " cannot drop below the " + taken +
+                            " units already booked or held");
+                }
+                night.setAllotment(allotment);
+                night.setUpdatedAt(now);
+            }
+            nights.add(night);
+        }
+        List<RoomInventory> saved = roomInventoryRepository.saveAll(nights);
+        eventPublisher.publishEvent(new RoomInventoryChangedEvent(roomId));
+        return saved;
+    }
+
+    /**
+     * Hold units of a room for every night of a stay until the hold is committed, released or expires
+     */
+    public RoomHold hold(Integer userId, Integer roomId, LocalDate checkIn, LocalDate checkOut, Integer quantity) {
+        validateStay(checkIn, checkOut);
+        int units = quantity(quantity);
+        if (roomId == null) {
+            throw new BadRequestException("roomId is required");
+        }
+        List<RoomInventory> nights = roomInventoryRepository.lockByRoom(roomId, checkIn, checkOut);
+        if (nights.size() != ChronoUnit.DAYS.between(checkIn, checkOut)) {
+            throw new ConflictException("Room " + roomId + " is not offered on every night of the stay");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (RoomInventory night : nights) {
+            if (night.getAvailable() < units) {
+                throw new ConflictException("Room " + roomId + " has " + night.getAvailable() +
+                        " units left on " + night.getStayDate());
+            }
+            night.setHeld(night.getHeld() + units);
+            night.setUpdatedAt(now);
+        }
+        RoomHold hold = new RoomHold(null, roomId, userId, checkIn, checkOut, units, RoomHold.HELD,
+                now.plus(holdTtl), now, now);
+        RoomHold saved = roomHoldRepository.save(hold);
+        eventPublisher.publishEvent(new RoomInventoryChangedEvent(roomId));
+        return saved;
+    }
+
+    /**
+     * Turn an unexpired hold into a booking
+     */
+    public RoomHold commit(Integer holdId, AuthenticatedUser user) {
+        RoomHold hold = lockOwnHold(holdId, user);
+        if (!RoomHold.HELD.equals(hold.getStatus())) {
+            throw new ConflictException("Hold " + holdId + " is already " + hold.getStatus());
+        }
+        if (hold.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new ConflictException("Hold " + holdId + " has expired");
+        }
+        for (RoomInventory night : roomInventoryRepository.lockByRoom(hold.getRoomId(), hold.getCheckIn(), hold.getCheckOut())) {
+            night.setHeld(night.getHeld() - hold.getQuantity());
+            night.setBooked(night.getBooked() + hold.getQuantity());
+            night.setUpdatedAt(LocalDateTime.now());
+        }
+        return settle(hold, RoomHold.COMMITTED);
+    }
+
+    /**
+     * Give the units of an uncommitted hold back to the inventory
+     */
+    public RoomHold release(Integer holdId, AuthenticatedUser user) {
+        RoomHold hold = lockOwnHold(holdId, user);
+        if (!RoomHold.HELD.equals(hold.getStatus())) {
+            throw new ConflictException("Hold " + holdId + " is already " + hold.getStatus());
+        }
+        returnUnits(hold);
+        return settle(hold, RoomHold.RELEASED);
+    }
+
+    /**
+     * Release holds past their expiry, one transaction per hold so a busy room never blocks the others
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${inventory.hold-expiry-interval-ms:60000}",
+            initialDelayString = "${inventory.hold-expiry-interval-ms:60000}")
+    public int expireHolds() {
+        List<Integer> ids = roomHoldRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, expiryBatchSize));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int expired = 0;
+        for (Integer id : ids) {
+            Boolean done = transaction.execute(status -> {
+                RoomHold hold = roomHoldRepository.lockById(id).orElse(null);
+                // Committed or released since it was listed
+                if (hold == null || !RoomHold.HELD.equals(hold.getStatus())) {
+                    return false;
+                }
+                returnUnits(hold);
+                settle(hold, RoomHold.EXPIRED);
+                return true;
+            });
+            if (Boolean.TRUE.equals(done)) {
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            logger.info("Expired {} room holds", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Hold counts by status in a serializable form
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> statsSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("futureNights", roomInventoryRepository.countFrom(LocalDate.now()));
+        Map<String, Object> holds = new LinkedHashMap<>();
+        for (Object[] row : roomHoldRepository.countByStatus()) {
+            holds.put((String) row[0], row[1]);
+        }
+        summary.put("holds", holds);
+        summary.put("holdTtl", holdTtl.toString());
+        return summary;
+    }
+
+    /**
+     * Stay dates accepted for searches and holds: from today on, at least one night and at most MAX_STAY_NIGHTS
+     */
+    public static void validateStay(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn != null && checkIn.isBefore(LocalDate.now())) {
+            throw new BadRequestException("checkIn must not be in the past");
+        }
+        validateRange(checkIn, checkOut, MAX_STAY_NIGHTS);
+    }
+
+    /**
+     * Units requested, one when not given
+     */
+    public static int quantity(Integer quantity) {
+        if (quantity == null) {
+            return 1;
+        }
+        if (quantity < 1 || quantity > MAX_HOLD_QUANTITY) {
+            throw new BadRequestException("quantity must be between 1 and " + MAX_HOLD_QUANTITY);
+        }
+        return quantity;
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to, int maxNights) {
+        if (from == null || to == null) {
+            throw new BadRequestException("Both dates of the range are required");
+        }
+        long nights = ChronoUnit.DAYS.between(from, to);
+        if (nights < 1 || nights > maxNights) {
+            throw new BadRequestException("Range must cover between 1 and " + maxNights + " nights");
+        }
+    }
+
+    private RoomHold lockOwnHold(Integer holdId, AuthenticatedUser user) {
+        RoomHold hold = roomHoldRepository.lockById(holdId)
+                .orElseThrow(() -> new EntityNotFoundException("Hold " + holdId + " not found"));
+        boolean admin = user.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        if (!admin && !hold.getUserId().equals(user.getUserId())) {
+            throw new AccessDeniedException("Hold " + holdId + " belongs to another user");
+        }
+        return hold;
+    }
+
+    private void returnUnits(RoomHold hold) {
+        for (RoomInventory night : roomInventoryRepository.lockByRoom(hold.getRoomId(), hold.getCheckIn(), hold.getCheckOut())) {
+            night.setHeld(Math.max(0, night.getHeld() - hold.getQuantity()));
+            night.setUpdatedAt(LocalDateTime.now());
+        }
+    }
+
+    private RoomHold settle(RoomHold hold, String status) {
+        hold.setStatus(status);
+        hold.setUpdatedAt(LocalDateTime.now());
+        RoomHold saved = roomHoldRepository.save(hold);
+        eventPublisher.publishEvent(new RoomInventoryChangedEvent(hold.getRoomId()));
+        return saved;
+    }
+}
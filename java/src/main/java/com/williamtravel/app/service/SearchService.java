@@ -0,0 +1,105 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.dto.SearchHit;
+import com.williamtravel.app.dto.SearchResult;
+import com.williamtravel.app.exception.BadRequestException;
+import com.williamtravel.app.repository.AccommodationRepository;
+import com.williamtravel.app.repository.ArticleRepository;
+import com.williamtravel.app.repository.FoodRepository;
+import com.williamtravel.app.repository.LocationRepository;
+import com.williamtravel.app.util.SearchTextNormalizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for full-text search across locations, accommodations, foods and articles
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchService {
+
+    public static final String TYPE_LOCATION = "location";
+    public static final String TYPE_ACCOMMODATION = "accommodation";
+    public static final String TYPE_FOOD = "food";
+    public static final String TYPE_ARTICLE = "article";
+
+    public static final Set<String> ALL_TYPES = Set.of(TYPE_LOCATION, TYPE_ACCOMMODATION, TYPE_FOOD, TYPE_ARTICLE);
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    /**
+     * Search every requested entity type and merge the hits into one list ordered by relevance.
+     * Each type contributes at most {@code limit} hits before merging.
+     */
+    public List<SearchResult> search(String query, Collection<String> types, Integer limit) {
+        String term = SearchTextNormalizer.normalize(query);
+        List<String> tokens = SearchTextNormalizer.tokens(term);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        String tsQuery = SearchTextNormalizer.toPrefixQuery(tokens);
+        Set<String> requested = resolveTypes(types);
+        int max = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        List<SearchResult> results = new ArrayList<>();
+        if (requested.contains(TYPE_LOCATION)) {
+            collect(results, TYPE_LOCATION, locationRepository.searchFullText(tsQuery, term, max));
+        }
+        if (requested.contains(TYPE_ACCOMMODATION)) {
+            collect(results, TYPE_ACCOMMODATION, accommodationRepository.searchFullText(tsQuery, term, max));
+        }
+        if (requested.contains(TYPE_FOOD)) {
+            collect(results, TYPE_FOOD, foodRepository.searchFullText(tsQuery, term, max));
+        }
+        if (requested.contains(TYPE_ARTICLE)) {
+            collect(results, TYPE_ARTICLE, articleRepository.searchFullText(tsQuery, term, max));
+        }
+
+        results.sort(Comparator.comparingDouble(SearchResult::score).reversed());
+        return results.size() > max ? new ArrayList<>(results.subList(0, max)) : results;
+    }
+
+    private Set<String> resolveTypes(Collection<String> types) {
+        if (types == null || types.isEmpty()) {
+            return ALL_TYPES;
+        }
+        Set<String> resolved = types.stream()
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toSet());
+        for (String type : resolved) {
+            if (!ALL_TYPES.contains(type)) {
+                throw new BadRequestException("Unknown search type: " + type);
+            }
+        }
+        return resolved.isEmpty() ? ALL_TYPES : resolved;
+    }
+
+    private void collect(List<SearchResult> results, String type, List<SearchHit> hits) {
+        for (SearchHit hit : hits) {
+            results.add(SearchResult.of(type, hit));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.williamtravel.app.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.williamtravel.app.exception.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes repository streams to the response row by row, as NDJSON or a JSON array,
+ * so exports of whole tables run in constant memory. Rows are read through a
+ * database cursor inside a read-only transaction that lives as long as the response,
+ * and the persistence context is cleared every few hundred rows.
+ */
+@Service
+public class StreamingExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingExportService.class);
+
+    /**
+     * Output formats for streamed exports
+     */
+    public enum Format {
+        /** One JSON document per line */
+        NDJSON(MediaType.APPLICATION_NDJSON),
+        /** A single JSON array written element by element */
+        JSON(MediaType.APPLICATION_JSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public static Format fromName(String name) {
+            if (name == null || name.isBlank() || name.equalsIgnoreCase("ndjson")) {
+                return NDJSON;
+            }
+            if (name.equalsIgnoreCase("json")) {
+                return JSON;
+            }
+            throw new BadRequestException("Unknown export format: " + name);
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${export.clear-every:500}")
+    private int clearEvery;
+
+    /**
+     * Build a response that streams the rows of the given query in the requested format.
+     * The query is opened on the response thread, inside the export transaction.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String format, String name, Supplier<Stream<T>> query) {
+        Format resolved = Format.fromName(format);
+        StreamingResponseBody body = out -> write(resolved, name, query, out);
+        return ResponseEntity.ok()
+                .contentType(resolved.mediaType)
+                .body(body);
+    }
+
+    private <T> void write(Format format, String name, Supplier<Stream<T>> query, OutputStream out) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        long start = System.currentTimeMillis();
+        long rows = transaction.execute(status -> {
+            try (Stream<T> stream = query.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                return writeRows(format, stream.iterator(), generator);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        logger.info("Streamed {} {} rows as {} in {} ms", rows, name, format, System.currentTimeMillis() - start);
+    }
+
+    private <T> long writeRows(Format format, Iterator<T> rows, JsonGenerator generator) throws IOException {
+        if (format == Format.JSON) {
+            generator.writeStartArray();
+        } else {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+        long count = 0;
+        while (rows.hasNext()) {
+            generator.writeObject(rows.next());
+            if (++count % clearEvery == 0) {
+                // Serialized rows are no longer needed; drop them and push what is buffered to the client
+                entityManager.clear();
+                generator.flush();
+            }
+        }
+        if (format == Format.JSON) {
+            generator.writeEndArray();
+        } else if (count > 0) {
+            generator.writeRaw('\n');
+        }
+        return count;
+    }
+}
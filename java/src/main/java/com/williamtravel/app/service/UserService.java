@@ -2,7 +2,9 @@ package com.williamtravel.app.service;
 
 import com.williamtravel.app.entity.User;
 import com.williamtravel.app.repository.UserRepository;
+import com.williamtravel.app.event.UserChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,9 @@ public class UserService extends BaseService<User, Integer> {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all users
      */
@@ -54,7 +59,10 @@ public class UserService extends BaseService<User, Integer> {
     public User save(User user) {
         boolean isNewEntity = user.getId() == null;
         logServiceMethodEntry("save", user);
+        // Every write bumps the version stamp carried in stateless tokens
+        user.setUpdatedAt(LocalDateTime.now());
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser, false));
         
         if (isNewEntity) {
             logEntityCreation("User", savedUser.getId());
@@ -73,8 +81,10 @@ public class UserService extends BaseService<User, Integer> {
         logServiceMethodEntry("deleteById", id);
         
         // Check if user exists before deletion
-        if (userRepository.existsById(id)) {
+        Optional<User> user = userRepository.findById(id);
+        if (user.isPresent()) {
             userRepository.deleteById(id);
+            eventPublisher.publishEvent(new UserChangedEvent(user.get(), true));
             logEntityDeletion("User", id);
         } else {
             logEntityNotFound("User", id);
@@ -0,0 +1,203 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.exception.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind view counters. Page views are added to a striped in-memory counter per ID
+ * and flushed on a schedule as one multi-row UPDATE per table, so hot rows are not locked
+ * once per view. Pending views are flushed again when the application shuts down.
+ */
+@Service
+public class ViewCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCounterService.class);
+
+    /**
+     * Tables whose view_count column is fed by this service
+     */
+    public enum Target {
+        ARTICLE("article", "article"),
+        EVENT("event", "event"),
+        COMMUNITY_POST("community-post", "community_post"),
+        LOCATION("location", "locations"),
+        ACCOMMODATION("accommodation", "accommodations"),
+        FOOD("food", "food");
+
+        private final String type;
+        private final String table;
+
+        Target(String type, String table) {
+            this.type = type;
+            this.table = table;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * Resolve a target from its public type name
+         */
+        public static Target fromType(String type) {
+            for (Target target : values()) {
+                if (target.type.equalsIgnoreCase(type)) {
+                    return target;
+                }
+            }
+            throw new BadRequestException("Unknown view counter type: " + type);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${views.flush-batch-size:500}")
+    private int batchSize;
+
+    private final Map<Target, ConcurrentHashMap<Integer, LongAdder>> counters = new EnumMap<>(Target.class);
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    public ViewCounterService() {
+        for (Target target : Target.values()) {
+            counters.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Record one view; the row is updated on the next flush
+     */
+    public void increment(Target target, Integer id) {
+        if (id == null) {
+            return;
+        }
+        counters.get(target).computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Views recorded but not yet written, for adding to counts read from the database
+     */
+    public long pending(Target target, Integer id) {
+        LongAdder adder = counters.get(target).get(id);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Total views recorded but not yet written, across all targets
+     */
+    public long pendingCount() {
+        long total = 0;
+        for (ConcurrentHashMap<Integer, LongAdder> byId : counters.values()) {
+            for (LongAdder adder : byId.values()) {
+                total += adder.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Write all pending views to the database
+     */
+    @Scheduled(fixedDelayString = "${views.flush-interval-ms:10000}", initialDelayString = "${views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        for (Target target : Target.values()) {
+            flush(target);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        long pending = pendingCount();
+        if (pending > 0) {
+            logger.info("Flushing {} pending views before shutdown", pending);
+            flush();
+        }
+    }
+
+    public Map<String, Object> statsSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (Target target : Target.values()) {
+            summary.put(target.getType() + "TrackedIds", counters.get(target).size());
+        }
+        summary.put("pendingViews", pendingCount());
+        summary.put("flushedViews", flushedViews.get());
+        summary.put("failedFlushes", failedFlushes.get());
+        return summary;
+    }
+
+    private void flush(Target target) {
+        ConcurrentHashMap<Integer, LongAdder> byId = counters.get(target);
+        List<Object[]> deltas = new ArrayList<>();
+        for (Map.Entry<Integer, LongAdder> entry : byId.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.add(new Object[] {entry.getKey(), delta});
+            } else {
+                evictIdle(byId, entry.getKey(), entry.getValue());
+            }
+        }
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Object[]> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                jdbcTemplate.update(updateSql(target, batch.size()), flatten(batch));
+                for (Object[] row : batch) {
+                    flushedViews.addAndGet((Long) row[1]);
+                }
+            } catch (RuntimeException e) {
+                // Put the views back so the next flush retries them
+                failedFlushes.incrementAndGet();
+                logger.warn("Failed to flush {} view counters for {}: {}", batch.size(), target.table, e.getMessage());
+                for (Object[] row : batch) {
+                    byId.computeIfAbsent((Integer) row[0], key -> new LongAdder()).add((Long) row[1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the counter of an ID that received no views since the last flush, so memory tracks only active IDs.
+     * A view that lands on the removed counter in the meantime is carried over to a fresh one.
+     */
+    private void evictIdle(ConcurrentHashMap<Integer, LongAdder> byId, Integer id, LongAdder adder) {
+        if (byId.remove(id, adder)) {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                byId.computeIfAbsent(id, key -> new LongAdder()).add(late);
+            }
+        }
+    }
+
+    private static String updateSql(Target target, int rows) {
+        // Table names come from the Target enum, never from request input
+        return "UPDATE " + target.table + " AS t SET view_count = COALESCE(t.view_count, 0) + v.delta"
+                + " FROM (VALUES " + String.join(", ", Collections.nCopies(rows, "(CAST(? AS integer), CAST(? AS integer))"))
+                + ") AS v(id, delta) WHERE t.id = v.id";
+    }
+
+    private static Object[] flatten(List<Object[]> batch) {
+        Object[] args = new Object[batch.size() * 2];
+        for (int i = 0; i < batch.size(); i++) {
+            args[i * 2] = batch.get(i)[0];
+            args[i * 2 + 1] = batch.get(i)[1];
+        }
+        return args;
+    }
+}
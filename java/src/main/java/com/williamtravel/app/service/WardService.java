@@ -1,8 +1,10 @@
 package com.williamtravel.app.service;
 
 import com.williamtravel.app.entity.Ward;
+import com.williamtravel.app.event.GeographyChangedEvent;
 import com.williamtravel.app.repository.WardRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,9 @@ public class WardService {
     @Autowired
     private WardRepository wardRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Find all wards
      */
@@ -40,7 +45,9 @@ public class WardService {
      * Save ward
      */
     public Ward save(Ward ward) {
-        return wardRepository.save(ward);
+        Ward saved = wardRepository.save(ward);
+        eventPublisher.publishEvent(new GeographyChangedEvent("ward", saved.getId()));
+        return saved;
     }
 
     /**
@@ -48,6 +55,7 @@ public class WardService {
      */
     public void deleteById(Integer id) {
         wardRepository.deleteById(id);
+        eventPublisher.publishEvent(new GeographyChangedEvent("ward", id));
     }
 
     /**
@@ -0,0 +1,138 @@
+package com.williamtravel.app.util;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory calendar of free room nights over a fixed window of days. Each room keeps a bitset of
+ * its open nights and the free unit count of each night, so a stay is checked with one bitset scan.
+ * Entries are replaced whole on every change: reads are lock-free and never see a half-applied update.
+ */
+public class AvailabilityCalendar {
+
+    /**
+     * Attributes of a sellable room that searches filter on
+     */
+    public record Room(int roomId, int accommodationId, Integer regionId, int capacity, Double pricePerNight) {
+    }
+
+    /**
+     * A room free for every night of a stay, with the units free on its fullest night
+     */
+    public record Match(Room room, int unitsAvailable) {
+    }
+
+    private record Entry(Room room, BitSet open, short[] free) {
+    }
+
+    private static final Comparator<Match> BY_PRICE = Comparator
+            .comparing((Match match) -> match.room().pricePerNight(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingInt(match -> match.room().roomId());
+
+    private final LocalDate start;
+    private final int days;
+    private final ConcurrentHashMap<Integer, Entry> rooms = new ConcurrentHashMap<>();
+
+    public AvailabilityCalendar(LocalDate start, int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("The calendar must cover at least one day");
+        }
+        this.start = start;
+        this.days = days;
+    }
+
+    public LocalDate start() {
+        return start;
+    }
+
+    /**
+     * Day after the last night covered
+     */
+    public LocalDate end() {
+        return start.plusDays(days);
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    /**
+     * Number of room nights with at least one free unit
+     */
+    public long openNights() {
+        return rooms.values().stream().mapToLong(entry -> entry.open().cardinality()).sum();
+    }
+
+    /**
+     * Whether the calendar covers every night of a stay
+     */
+    public boolean covers(LocalDate checkIn, LocalDate checkOut) {
+        return !checkIn.isBefore(start) && !checkOut.isAfter(end());
+    }
+
+    /**
+     * Insert or replace a room with its free units per night; free[i] is the night of start + i
+     */
+    public void put(Room room, int[] free) {
+        if (free.length != days) {
+            throw new IllegalArgumentException("Expected " + days + " nights, got " + free.length);
+        }
+        BitSet open = new BitSet(days);
+        short[] counts = new short[days];
+        for (int night = 0; night < days; night++) {
+            counts[night] = (short) Math.min(Math.max(free[night], 0), Short.MAX_VALUE);
+            if (counts[night] > 0) {
+                open.set(night);
+            }
+        }
+        rooms.put(room.roomId(), new Entry(room, open, counts));
+    }
+
+    public void remove(int roomId) {
+        rooms.remove(roomId);
+    }
+
+    /**
+     * Rooms with at least the given capacity, price range and region that have the requested units free
+     * on every night of the stay, cheapest first
+     */
+    public List<Match> search(LocalDate checkIn, LocalDate checkOut, int guests, int quantity,
+                              Double minPrice, Double maxPrice, Integer regionId, int limit) {
+        if (!checkOut.isAfter(checkIn) || !covers(checkIn, checkOut)) {
+            throw new IllegalArgumentException("The stay must fall between " + start + " and " + end());
+        }
+        int from = offset(checkIn);
+        int to = offset(checkOut);
+        List<Match> matches = new ArrayList<>();
+        for (Entry entry : rooms.values()) {
+            Room room = entry.room();
+            if (room.capacity() < guests
+                    || (regionId != null && !regionId.equals(room.regionId()))
+                    || (minPrice != null && (room.pricePerNight() == null || room.pricePerNight() < minPrice))
+                    || (maxPrice != null && (room.pricePerNight() == null || room.pricePerNight() > maxPrice))) {
+                continue;
+            }
+            if (entry.open().nextClearBit(from) < to) {
+                continue;
+            }
+            int units = Short.MAX_VALUE;
+            for (int night = from; night < to; night++) {
+                units = Math.min(units, entry.free()[night]);
+            }
+            if (units >= quantity) {
+                matches.add(new Match(room, units));
+            }
+        }
+        matches.sort(BY_PRICE);
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private int offset(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(start, date);
+    }
+}
@@ -1,15 +1,144 @@
 package com.williamtravel.app.util;
 
-import org.springframework.stereotype.Component;
+import com.williamtravel.app.dto.AccommodationDetail;
+import com.williamtravel.app.dto.CountryDetail;
+import com.williamtravel.app.dto.LocationDetail;
+import com.williamtravel.app.dto.NamedReference;
+import com.williamtravel.app.entity.Accommodation;
+import com.williamtravel.app.entity.AccommodationCategory;
+import com.williamtravel.app.entity.Continent;
+import com.williamtravel.app.entity.Country;
+import com.williamtravel.app.entity.District;
+import com.williamtravel.app.entity.Location;
+import com.williamtravel.app.entity.LocationCategory;
+import com.williamtravel.app.entity.Region;
+import com.williamtravel.app.entity.Ward;
 
 /**
- * Utility class for mapping between entities and DTOs
- * Currently disabled until DTOs are implemented
+ * Utility class for mapping catalog entities to response DTOs.
+ * List views are projected straight from repositories; these mappers build the detail views.
  */
-@Component
 public class EntityMapper {
-    
-    // TODO: Implement DTOs and mapping methods
-    // This class is temporarily disabled to allow compilation
-    
+
+    private EntityMapper() {
+    }
+
+    /**
+     * Convert Location entity to LocationDetail DTO
+     */
+    public static LocationDetail toLocationDetail(Location location) {
+        if (location == null) {
+            return null;
+        }
+        return new LocationDetail(
+                location.getId(),
+                location.getName(),
+                location.getNameCode(),
+                location.getDescription(),
+                location.getDescriptionCode(),
+                location.getLatitude(),
+                location.getLongitude(),
+                location.getAddress(),
+                location.getCity(),
+                location.getThumbnailUrl(),
+                location.getPriceMin(),
+                location.getPriceMax(),
+                location.getPopularityScore(),
+                location.getIsActive(),
+                toReference(location.getCategory()),
+                toReference(location.getCountry()),
+                toReference(location.getRegion()),
+                toReference(location.getDistrict()),
+                toReference(location.getWard()),
+                location.getCreatedAt(),
+                location.getUpdatedAt());
+    }
+
+    /**
+     * Convert Accommodation entity to AccommodationDetail DTO
+     */
+    public static AccommodationDetail toAccommodationDetail(Accommodation accommodation) {
+        if (accommodation == null) {
+            return null;
+        }
+        return new AccommodationDetail(
+                accommodation.getId(),
+                accommodation.getUser() != null ? accommodation.getUser().getId() : null,
+                accommodation.getName(),
+                accommodation.getNameCode(),
+                accommodation.getDescription(),
+                accommodation.getDescriptionCode(),
+                accommodation.getLatitude(),
+                accommodation.getLongitude(),
+                accommodation.getAddress(),
+                accommodation.getCity(),
+                accommodation.getThumbnailUrl(),
+                accommodation.getPriceMin(),
+                accommodation.getPriceMax(),
+                accommodation.getPopularityScore(),
+                accommodation.getRating(),
+                accommodation.getCheckinTime(),
+                accommodation.getCheckoutTime(),
+                accommodation.getCancelPolicy(),
+                accommodation.getPetPolicy(),
+                accommodation.getChildPolicy(),
+                accommodation.getIsActive(),
+                toReference(accommodation.getCategory()),
+                toReference(accommodation.getCountry()),
+                toReference(accommodation.getRegion()),
+                toReference(accommodation.getDistrict()),
+                toReference(accommodation.getWard()),
+                accommodation.getCreatedAt(),
+                accommodation.getUpdatedAt());
+    }
+
+    /**
+     * Convert Country entity to CountryDetail DTO
+     */
+    public static CountryDetail toCountryDetail(Country country) {
+        if (country == null) {
+            return null;
+        }
+        return new CountryDetail(
+                country.getId(),
+                country.getCode(),
+                country.getName(),
+                country.getNameCode(),
+                country.getDescription(),
+                country.getDescriptionCode(),
+                country.getBackgroundImage(),
+                country.getLogo(),
+                country.getStatus(),
+                toReference(country.getContinent()),
+                country.getCreatedDate(),
+                country.getUpdatedDate());
+    }
+
+    private static NamedReference toReference(LocationCategory category) {
+        return category != null ? new NamedReference(category.getId(), category.getName()) : null;
+    }
+
+    private static NamedReference toReference(AccommodationCategory category) {
+        return category != null ? new NamedReference(category.getId(), category.getName()) : null;
+    }
+
+    private static NamedReference toReference(Continent continent) {
+        return continent != null ? new NamedReference(continent.getId(), continent.getName()) : null;
+    }
+
+    private static NamedReference toReference(Country country) {
+        return country != null ? new NamedReference(country.getId(), country.getName()) : null;
+    }
+
+    private static NamedReference toReference(Region region) {
+        return region != null ? new NamedReference(region.getId(), region.getName()) : null;
+    }
+
+    private static NamedReference toReference(District district) {
+        return district != null ? new NamedReference(district.getId(), district.getName()) : null;
+    }
+
+    private static NamedReference toReference(Ward ward) {
+        return ward != null ? new NamedReference(ward.getId(), ward.getName()) : null;
+    }
 }
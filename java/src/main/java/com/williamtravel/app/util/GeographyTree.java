@@ -0,0 +1,203 @@
+package com.williamtravel.app.util;
+
+import com.williamtravel.app.dto.GeographyNode;
+import com.williamtravel.app.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the continent → country → region → district → ward hierarchy.
+ * Each level is an ID-keyed map of entries that hold their children as sorted ID arrays,
+ * so subtree, children and ancestor lookups never touch the database.
+ */
+public final class GeographyTree {
+
+    /**
+     * Levels of the hierarchy, top down
+     */
+    public enum Level {
+        CONTINENT("continents"),
+        COUNTRY("countries"),
+        REGION("regions"),
+        DISTRICT("districts"),
+        WARD("wards");
+
+        private final String path;
+
+        Level(String path) {
+            this.path = path;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public Level parent() {
+            return ordinal() > 0 ? values()[ordinal() - 1] : null;
+        }
+
+        public Level child() {
+            return ordinal() < values().length - 1 ? values()[ordinal() + 1] : null;
+        }
+
+        /**
+         * Resolve a level from its plural path segment, e.g. "districts"
+         */
+        public static Level fromPath(String path) {
+            for (Level level : values()) {
+                if (level.path.equalsIgnoreCase(path)) {
+                    return level;
+                }
+            }
+            throw new BadRequestException("Unknown geography level: " + path);
+        }
+    }
+
+    private record Entry(Level level, Integer id, String code, String name, String nameCode,
+                         Integer status, Integer parentId, int[] children) {
+    }
+
+    private static final Comparator<Entry> BY_NAME = Comparator
+            .comparing((Entry entry) -> entry.name() != null ? entry.name() : "", String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Entry::id);
+
+    public static final int MAX_DEPTH = Level.values().length - 1;
+
+    private final Map<Level, Map<Integer, Entry>> entries;
+    private final int[] roots;
+
+    private GeographyTree(Map<Level, Map<Integer, Entry>> entries, int[] roots) {
+        this.entries = entries;
+        this.roots = roots;
+    }
+
+    /**
+     * Build a tree from flat rows of [id, code, name, nameCode, status, parentId] per level.
+     * Continent rows have no parentId; rows whose parent is missing are reachable by ID only.
+     */
+    public static GeographyTree build(Map<Level, List<Object[]>> rowsByLevel) {
+        Map<Level, List<Entry>> flat = new EnumMap<>(Level.class);
+        for (Level level : Level.values()) {
+            List<Entry> list = new ArrayList<>();
+            for (Object[] row : rowsByLevel.getOrDefault(level, List.of())) {
+                Integer parentId = row.length > 5 ? (Integer) row[5] : null;
+                list.add(new Entry(level, (Integer) row[0], (String) row[1], (String) row[2], (String) row[3],
+                        (Integer) row[4], parentId, null));
+            }
+            list.sort(BY_NAME);
+            flat.put(level, list);
+        }
+
+        // Children keep the name order of the sorted flat list
+        Map<Level, Map<Integer, Entry>> entries = new EnumMap<>(Level.class);
+        for (Level level : Level.values()) {
+            Map<Integer, List<Integer>> childIds = new HashMap<>();
+            if (level.child() != null) {
+                for (Entry child : flat.get(level.child())) {
+                    if (child.parentId() != null) {
+                        childIds.computeIfAbsent(child.parentId(), key -> new ArrayList<>()).add(child.id());
+                    }
+                }
+            }
+            Map<Integer, Entry> byId = new HashMap<>();
+            for (Entry entry : flat.get(level)) {
+                int[] children = toArray(childIds.getOrDefault(entry.id(), List.of()));
+                byId.put(entry.id(), new Entry(level, entry.id(), entry.code(), entry.name(), entry.nameCode(),
+                        entry.status(), entry.parentId(), children));
+            }
+            entries.put(level, Collections.unmodifiableMap(byId));
+        }
+        int[] roots = flat.get(Level.CONTINENT).stream().mapToInt(Entry::id).toArray();
+        return new GeographyTree(Collections.unmodifiableMap(entries), roots);
+    }
+
+    public static GeographyTree empty() {
+        return build(Map.of());
+    }
+
+    public int size(Level level) {
+        return entries.get(level).size();
+    }
+
+    /**
+     * All continents down to the given depth, keeping only nodes with the given status when it is set
+     */
+    public List<GeographyNode> roots(Integer status, int depth) {
+        return toNodes(Level.CONTINENT, roots, status, depth);
+    }
+
+    /**
+     * A node and its descendants down to the given depth
+     */
+    public Optional<GeographyNode> subtree(Level level, Integer id, Integer status, int depth) {
+        Entry entry = entries.get(level).get(id);
+        return entry != null ? Optional.of(toNode(entry, status, depth)) : Optional.empty();
+    }
+
+    /**
+     * Direct children of a node, without their own children
+     */
+    public Optional<List<GeographyNode>> children(Level level, Integer id, Integer status) {
+        Entry entry = entries.get(level).get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.of(level.child() != null ? toNodes(level.child(), entry.children(), status, 0) : List.of());
+    }
+
+    /**
+     * Ancestors of a node from the continent down, ending with the node itself
+     */
+    public Optional<List<GeographyNode>> path(Level level, Integer id) {
+        Entry entry = entries.get(level).get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        List<GeographyNode> path = new ArrayList<>();
+        while (entry != null) {
+            path.add(toNode(entry, null, 0));
+            Level parent = entry.level().parent();
+            entry = parent != null && entry.parentId() != null ? entries.get(parent).get(entry.parentId()) : null;
+        }
+        Collections.reverse(path);
+        return Optional.of(path);
+    }
+
+    private GeographyNode toNode(Entry entry, Integer status, int depth) {
+        List<GeographyNode> children = null;
+        if (depth > 0) {
+            children = entry.level().child() != null
+                    ? toNodes(entry.level().child(), entry.children(), status, depth - 1)
+                    : List.of();
+        }
+        return new GeographyNode(entry.level().name().toLowerCase(), entry.id(), entry.code(), entry.name(),
+                entry.nameCode(), entry.status(), entry.parentId(), children);
+    }
+
+    private List<GeographyNode> toNodes(Level level, int[] ids, Integer status, int depth) {
+        Map<Integer, Entry> byId = entries.get(level);
+        List<GeographyNode> nodes = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Entry entry = byId.get(id);
+            if (status == null || status.equals(entry.status())) {
+                nodes.add(toNode(entry, status, depth));
+            }
+        }
+        return nodes;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        int[] array = new int[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        return array;
+    }
+}
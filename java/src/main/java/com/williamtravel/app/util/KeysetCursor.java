@@ -0,0 +1,79 @@
+package com.williamtravel.app.util;
+
+import com.williamtravel.app.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated list: the sort key and id of the last row returned.
+ * Lists are ordered by (createdAt DESC, id DESC), or by id DESC alone where there is no
+ * creation timestamp, so the next slice is everything strictly after this position.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Integer id) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /** Sorts after every real row, so the first slice uses the same query as the rest */
+    private static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Decode a cursor from a request; a missing cursor means the first slice
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            String createdAt = value.substring(0, separator);
+            Integer id = Integer.valueOf(value.substring(separator + 1));
+            return new KeysetCursor(createdAt.isEmpty() ? START.createdAt() : LocalDateTime.parse(createdAt), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Encode the position of a row ordered by (createdAt DESC, id DESC)
+     */
+    public static String encode(LocalDateTime createdAt, Integer id) {
+        String value = (createdAt != null ? createdAt.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encode the position of a row ordered by id DESC
+     */
+    public static String encode(Integer id) {
+        return encode(null, id);
+    }
+
+    /**
+     * Clamp a requested slice size to the allowed range
+     */
+    public static int limit(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Fetch window for a slice: one row more than requested, to detect whether another slice follows
+     */
+    public static Pageable window(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+}
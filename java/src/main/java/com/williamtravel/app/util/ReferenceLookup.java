@@ -0,0 +1,157 @@
+package com.williamtravel.app.util;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory name lookup of countries, regions, districts, wards and categories for bulk imports.
+ * Names are compared accent- and case-insensitively without administrative prefixes ("Tỉnh", "Quận",
+ * "Phường", ...). A region, district or ward is looked up under its parent when the parent is known,
+ * otherwise by name alone as long as that name is unique; a match fills in the missing parents.
+ * A name that is given but cannot be resolved is reported on the result instead of being left out.
+ */
+public class ReferenceLookup {
+
+    /**
+     * Resolved geography IDs; any of them may be null. unresolved says why a given name did not resolve, or is null.
+     */
+    public record Place(Integer countryId, Integer regionId, Integer districtId, Integer wardId, String unresolved) {
+    }
+
+    private static final Pattern ADMINISTRATIVE_PREFIX =
+            Pattern.compile("^(tinh|thanh pho|tp|quan|huyen|thi xa|thi tran|phuong|xa) ");
+
+    /** Marks a name shared by several rows, which cannot be resolved without the parent */
+    private static final int AMBIGUOUS = -1;
+
+    private final Map<String, Integer> countries = new HashMap<>();
+    private final Level regions = new Level();
+    private final Level districts = new Level();
+    private final Level wards = new Level();
+    private final Map<String, Map<String, Integer>> categories = new HashMap<>();
+
+    /**
+     * Lookup key of a name: normalized, without an administrative prefix
+     */
+    public static String key(String name) {
+        String normalized = SearchTextNormalizer.normalize(name);
+        return ADMINISTRATIVE_PREFIX.matcher(normalized).replaceFirst("");
+    }
+
+    public void addCountry(int id, String code, String name) {
+        if (code != null) {
+            countries.put(code.trim().toUpperCase(Locale.ROOT), id);
+        }
+        countries.put(key(name), id);
+    }
+
+    public void addRegion(int id, int countryId, String name) {
+        regions.add(id, countryId, key(name));
+    }
+
+    public void addDistrict(int id, int regionId, String name) {
+        districts.add(id, regionId, key(name));
+    }
+
+    public void addWard(int id, int districtId, String name) {
+        wards.add(id, districtId, key(name));
+    }
+
+    public void addCategory(String type, int id, String name) {
+        categories.computeIfAbsent(type, ignored -> new HashMap<>()).put(key(name), id);
+    }
+
+    /**
+     * Find a category of a type by name, or null
+     */
+    public Integer findCategory(String type, String name) {
+        Map<String, Integer> byName = categories.get(type);
+        return byName == null || isBlank(name) ? null : byName.get(key(name));
+    }
+
+    /**
+     * Resolve the geography of an imported row from the most general level down
+     */
+    public Place resolve(String country, String region, String district, String ward) {
+        Integer countryId = isBlank(country) ? null : countries.getOrDefault(country.trim().toUpperCase(Locale.ROOT),
+                countries.get(key(country)));
+        if (!isBlank(country) && countryId == null) {
+            return unresolved("Unknown country: " + country);
+        }
+        Integer regionId = regions.find(countryId, region);
+        if (!isBlank(region) && regionId == null) {
+            return unresolved(regions.problem("region", countryId, region));
+        }
+        if (regionId != null && countryId == null) {
+            countryId = regions.parentOf(regionId);
+        }
+        Integer districtId = districts.find(regionId, district);
+        if (!isBlank(district) && districtId == null) {
+            return unresolved(districts.problem("district", regionId, district));
+        }
+        if (districtId != null && regionId == null) {
+            regionId = districts.parentOf(districtId);
+            countryId = countryId != null ? countryId : regions.parentOf(regionId);
+        }
+        Integer wardId = wards.find(districtId, ward);
+        if (!isBlank(ward) && wardId == null) {
+            return unresolved(wards.problem("ward", districtId, ward));
+        }
+        if (wardId != null && districtId == null) {
+            districtId = wards.parentOf(wardId);
+            regionId = regionId != null ? regionId : districts.parentOf(districtId);
+            countryId = countryId != null ? countryId : regions.parentOf(regionId);
+        }
+        return new Place(countryId, regionId, districtId, wardId, null);
+    }
+
+    private static Place unresolved(String reason) {
+        return new Place(null, null, null, null, reason);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * One level of the geography tree, by name under a parent and by name alone
+     */
+    private static class Level {
+
+        private final Map<String, Integer> byParentAndName = new HashMap<>();
+        private final Map<String, Integer> byName = new HashMap<>();
+        private final Map<Integer, Integer> parents = new HashMap<>();
+
+        void add(int id, int parentId, String key) {
+            byParentAndName.put(parentId + "|" + key, id);
+            byName.merge(key, id, (existing, added) -> AMBIGUOUS);
+            parents.put(id, parentId);
+        }
+
+        Integer find(Integer parentId, String name) {
+            if (isBlank(name)) {
+                return null;
+            }
+            String key = key(name);
+            Integer id = parentId != null ? byParentAndName.get(parentId + "|" + key) : byName.get(key);
+            return id == null || id == AMBIGUOUS ? null : id;
+        }
+
+        /**
+         * Why a name did not resolve: unknown under the parent, unknown altogether, or shared by several rows
+         */
+        String problem(String level, Integer parentId, String name) {
+            if (parentId != null) {
+                return "Unknown " + level + " under its parent: " + name;
+            }
+            return byName.get(key(name)) == null ? "Unknown " + level + ": " + name
+                    : "Ambiguous " + level + ", give its parent too: " + name;
+        }
+
+        Integer parentOf(Integer id) {
+            return id == null ? null : parents.get(id);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.williamtravel.app.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Accent-insensitive normalization of search input, mirroring the database-side
+ * f_search_text() so that "Hồ Hoàn Kiếm", "ho hoan kiem" and "HO HOAN KIEM" all match.
+ */
+public class SearchTextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** Longest query accepted, in characters after normalization */
+    public static final int MAX_LENGTH = 200;
+
+    private SearchTextNormalizer() {
+    }
+
+    /**
+     * Lower-case, strip diacritics (including đ) and collapse everything that is not a letter or digit to single spaces
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'D')
+                .toLowerCase(Locale.ROOT);
+        String normalized = NON_WORD.matcher(stripped).replaceAll(" ").trim();
+        return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH).trim() : normalized;
+    }
+
+    /**
+     * Split normalized text into search tokens
+     */
+    public static List<String> tokens(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalized.split(" ")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Build a tsquery that requires every token, the last one as a prefix so partially typed words still match.
+     * Tokens are letters and digits only, so no tsquery operator can be injected.
+     */
+    public static String toPrefixQuery(List<String> tokens) {
+        StringBuilder query = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (i > 0) {
+                query.append(" & ");
+            }
+            query.append(tokens.get(i));
+            if (i == tokens.size() - 1) {
+                query.append(":*");
+            }
+        }
+        return query.toString();
+    }
+}
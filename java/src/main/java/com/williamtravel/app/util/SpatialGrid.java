@@ -0,0 +1,226 @@
+package com.williamtravel.app.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory point index over a uniform latitude/longitude grid.
+ * Reads are lock-free; writes are serialized so a point is never left in two cells.
+ */
+public class SpatialGrid {
+
+    /** Mean Earth radius used for great-circle distances */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    /**
+     * A point matched by a query, with its great-circle distance from the query centre
+     */
+    public record Hit(int id, double distanceKm) {
+    }
+
+    private record Point(int id, double latitude, double longitude, long cell) {
+    }
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lngCells;
+    private final ConcurrentHashMap<Integer, Point> points = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Integer>> cells = new ConcurrentHashMap<>();
+
+    public SpatialGrid(double cellDegrees) {
+        if (!(cellDegrees > 0 && cellDegrees <= 10)) {
+            throw new IllegalArgumentException("Cell size must be between 0 and 10 degrees");
+        }
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180.0 / cellDegrees);
+        this.lngCells = (int) Math.ceil(360.0 / cellDegrees);
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    public int cellCount() {
+        return cells.size();
+    }
+
+    /**
+     * Insert or move a point
+     */
+    public synchronized void put(int id, double latitude, double longitude) {
+        validate(latitude, longitude);
+        Point point = new Point(id, latitude, longitude, cellOf(latitude, longitude));
+        Point previous = points.put(id, point);
+        if (previous != null && previous.cell() != point.cell()) {
+            removeFromCell(previous);
+        }
+        cells.computeIfAbsent(point.cell(), key -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    public synchronized void remove(int id) {
+        Point previous = points.remove(id);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    /**
+     * Points within a radius of the centre, nearest first
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        validate(latitude, longitude);
+        if (!(radiusKm > 0)) {
+            throw new IllegalArgumentException("Radius must be positive");
+        }
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double farthestLat = Math.min(90.0, Math.abs(latitude) + latDelta);
+        double cos = Math.cos(Math.toRadians(farthestLat));
+        double lngDelta = cos > 1e-9 ? latDelta / cos : 360.0;
+
+        List<Hit> hits = new ArrayList<>();
+        scan(latitude - latDelta, latitude + latDelta, longitude - lngDelta, longitude + lngDelta, point -> {
+            double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+            if (distance <= radiusKm) {
+                hits.add(new Hit(point.id(), distance));
+            }
+        });
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparingInt(Hit::id));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * The k points nearest to the centre, searching no farther than maxRadiusKm
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k, double maxRadiusKm) {
+        // Widen the search until it holds k points; a radius search is exact, so its k closest are the true k nearest
+        double radiusKm = Math.min(cellDegrees * KM_PER_DEGREE, maxRadiusKm);
+        while (true) {
+            List<Hit> hits = withinRadius(latitude, longitude, radiusKm, k);
+            if (hits.size() >= k || radiusKm >= maxRadiusKm) {
+                return hits;
+            }
+            radiusKm = Math.min(radiusKm * 2, maxRadiusKm);
+        }
+    }
+
+    /**
+     * IDs of points inside a bounding box; a box whose minLng is greater than its maxLng spans the antimeridian
+     */
+    public List<Integer> withinBounds(double minLat, double maxLat, double minLng, double maxLng, int limit) {
+        validate(minLat, minLng);
+        validate(maxLat, maxLng);
+        if (minLat > maxLat) {
+            throw new IllegalArgumentException("minLat must not be greater than maxLat");
+        }
+        List<Integer> ids = new ArrayList<>();
+        if (minLng <= maxLng) {
+            scanBounds(minLat, maxLat, minLng, maxLng, ids, limit);
+        } else {
+            scanBounds(minLat, maxLat, minLng, 180.0, ids, limit);
+            scanBounds(minLat, maxLat, -180.0, maxLng, ids, limit);
+        }
+        return ids;
+    }
+
+    /**
+     * Great-circle distance between two coordinates using the haversine formula
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void scanBounds(double minLat, double maxLat, double minLng, double maxLng, List<Integer> ids, int limit) {
+        scan(minLat, maxLat, minLng, maxLng, point -> {
+            if (ids.size() < limit
+                    && point.latitude() >= minLat && point.latitude() <= maxLat
+                    && point.longitude() >= minLng && point.longitude() <= maxLng) {
+                ids.add(point.id());
+            }
+        });
+    }
+
+    /**
+     * Visit every point in the cells overlapping a box, or every point when that is cheaper.
+     * Longitudes outside [-180, 180] wrap around the antimeridian.
+     */
+    private void scan(double minLat, double maxLat, double minLng, double maxLng, Consumer<Point> visitor) {
+        int fromLat = latIndex(Math.max(-90.0, minLat));
+        int toLat = latIndex(Math.min(90.0, maxLat));
+        List<int[]> lngRanges = new ArrayList<>(2);
+        if (maxLng - minLng >= 360.0) {
+            lngRanges.add(new int[] {0, lngCells - 1});
+        } else {
+            double shift = minLng < -180.0 ? 360.0 : 0.0;
+            double from = minLng + shift;
+            double to = maxLng + shift;
+            if (to > 180.0) {
+                lngRanges.add(new int[] {lngIndex(from), lngCells - 1});
+                lngRanges.add(new int[] {0, lngIndex(to - 360.0)});
+            } else {
+                lngRanges.add(new int[] {lngIndex(from), lngIndex(to)});
+            }
+        }
+
+        long cellsToVisit = 0;
+        for (int[] range : lngRanges) {
+            cellsToVisit += (long) (toLat - fromLat + 1) * (range[1] - range[0] + 1);
+        }
+        if (cellsToVisit >= points.size()) {
+            for (Point point : points.values()) {
+                visitor.accept(point);
+            }
+            return;
+        }
+        for (int lat = fromLat; lat <= toLat; lat++) {
+            for (int[] range : lngRanges) {
+                for (int lng = range[0]; lng <= range[1]; lng++) {
+                    Set<Integer> ids = cells.get((long) lat * lngCells + lng);
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Integer id : ids) {
+                        Point point = points.get(id);
+                        if (point != null) {
+                            visitor.accept(point);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return (long) latIndex(latitude) * lngCells + lngIndex(longitude);
+    }
+
+    private int latIndex(double latitude) {
+        return Math.min(latCells - 1, (int) Math.floor((latitude + 90.0) / cellDegrees));
+    }
+
+    private int lngIndex(double longitude) {
+        return Math.min(lngCells - 1, (int) Math.floor((longitude + 180.0) / cellDegrees));
+    }
+
+    private void removeFromCell(Point point) {
+        cells.computeIfPresent(point.cell(), (key, ids) -> {
+            ids.remove(point.id());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static void validate(double latitude, double longitude) {
+        if (!(latitude >= -90.0 && latitude <= 90.0) || !(longitude >= -180.0 && longitude <= 180.0)) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+    }
+}
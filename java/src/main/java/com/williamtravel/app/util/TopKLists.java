@@ -0,0 +1,107 @@
+package com.williamtravel.app.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable set of ranked lists holding the K highest-scored IDs per key, for example per category
+ * or per region. Built in one pass with a bounded min-heap per key, so building costs O(n log K)
+ * and memory stays at K entries per key however many items are offered.
+ */
+public class TopKLists {
+
+    /**
+     * An ID with the score it was ranked by
+     */
+    public record Entry(int id, double score) {
+    }
+
+    /** Highest score first, lower ID first among equal scores */
+    private static final Comparator<Entry> RANKING =
+            Comparator.comparingDouble(Entry::score).reversed().thenComparingInt(Entry::id);
+
+    private final int k;
+    private final Map<String, Entry[]> lists;
+
+    private TopKLists(int k, Map<String, Entry[]> lists) {
+        this.k = k;
+        this.lists = lists;
+    }
+
+    public static TopKLists empty(int k) {
+        return new TopKLists(k, Map.of());
+    }
+
+    /**
+     * Key of the list for a category, a region, both or neither
+     */
+    public static String key(Integer categoryId, Integer regionId) {
+        if (categoryId == null && regionId == null) {
+            return "all";
+        }
+        return (categoryId != null ? "category:" + categoryId : "") +
+                (categoryId != null && regionId != null ? "/" : "") +
+                (regionId != null ? "region:" + regionId : "");
+    }
+
+    public int k() {
+        return k;
+    }
+
+    public int listCount() {
+        return lists.size();
+    }
+
+    /**
+     * Entries of a list from offset on, best first; empty when the key has no list
+     */
+    public List<Entry> top(String key, int offset, int limit) {
+        Entry[] list = lists.get(key);
+        if (list == null || offset >= list.length) {
+            return List.of();
+        }
+        return List.of(list).subList(offset, Math.min(list.length, offset + limit));
+    }
+
+    public static class Builder {
+
+        private final int k;
+        private final Map<String, PriorityQueue<Entry>> heaps = new HashMap<>();
+
+        public Builder(int k) {
+            if (k < 1) {
+                throw new IllegalArgumentException("K must be positive");
+            }
+            this.k = k;
+        }
+
+        /**
+         * Offer an ID to a list; it is kept only while it ranks among the K best offered so far
+         */
+        public void offer(String key, int id, double score) {
+            // Worst entry at the head, so it is the one evicted
+            PriorityQueue<Entry> heap = heaps.computeIfAbsent(key, ignored -> new PriorityQueue<>(RANKING.reversed()));
+            Entry entry = new Entry(id, score);
+            if (heap.size() < k) {
+                heap.add(entry);
+            } else if (RANKING.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        public TopKLists build() {
+            Map<String, Entry[]> lists = new HashMap<>(heaps.size() * 2);
+            for (Map.Entry<String, PriorityQueue<Entry>> heap : heaps.entrySet()) {
+                List<Entry> ranked = new ArrayList<>(heap.getValue());
+                ranked.sort(RANKING);
+                lists.put(heap.getKey(), ranked.toArray(new Entry[0]));
+            }
+            return new TopKLists(k, lists);
+        }
+    }
+}
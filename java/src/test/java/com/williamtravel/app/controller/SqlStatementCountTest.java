@@ -0,0 +1,83 @@
+package com.williamtravel.app.controller;
+
+import com.williamtravel.app.config.RequestLogContext;
+import com.williamtravel.app.config.SqlStatementBudgetProperties;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards list and detail endpoints against N+1 regressions: each request, including lazy loads while the
+ * response is serialized, must stay within the statement budget configured for its endpoint
+ * (sql.statement-budget.endpoints). The seed data has several rows per endpoint with different
+ * categories, regions and authors, so an association loaded per row exceeds the budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementBudgetProperties budgets;
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "/api/locations,                /api/locations",
+            "/api/locations/1,              /api/locations/{id}",
+            "/api/locations/cards,          /api/locations/cards",
+            "/api/accommodations,           /api/accommodations",
+            "/api/accommodations/1,         /api/accommodations/{id}",
+            "/api/accommodations/cards,     /api/accommodations/cards",
+            "/api/foods,                    /api/foods",
+            "/api/foods/1,                  /api/foods/{id}",
+            "/api/foods/cards,              /api/foods/cards",
+            "/api/articles,                 /api/articles",
+            "/api/articles/4,               /api/articles/{id}",
+            "/api/media,                    /api/media"
+    })
+    void endpointStaysWithinStatementBudget(String uri, String pattern) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).with(user("reader")))
+                .andExpect(status().isOk())
+                .andReturn();
+        RequestLogContext context = RequestLogContext.of(result.getRequest());
+        assertNotNull(context, "No request log context for " + uri);
+
+        String endpoint = "GET " + pattern;
+        int budget = budgets.budgetFor(endpoint);
+        assertTrue(budgets.getEndpoints().containsKey(endpoint), "No statement budget configured for " + endpoint);
+        assertTrue(context.getSqlStatements() > 0, "No statements counted for " + uri);
+        assertTrue(context.getSqlStatements() <= budget,
+                endpoint + " issued " + context.getSqlStatements() + " statements, budget is " + budget);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"/api/locations/paginated", "/api/locations/cards", "/api/accommodations/cards",
+            "/api/foods/page", "/api/foods/cards", "/api/articles/page"})
+    void pageStatementsDoNotGrowWithPageSize(String uri) throws Exception {
+        int single = statements(uri + "?size=1");
+        int many = statements(uri + "?size=5");
+        assertEquals(single, many, uri + " issues more statements for a larger page");
+    }
+
+    private int statements(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).with(user("reader")))
+                .andExpect(status().isOk())
+                .andReturn();
+        return RequestLogContext.of(result.getRequest()).getSqlStatements();
+    }
+}
@@ -0,0 +1,111 @@
+package com.williamtravel.app.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every entity follows the identity model: it extends {@link BaseEntity}, keeps the id-based equals and
+ * hashCode, and leaves associations out of toString, so hashing or logging an entity never loads a lazy
+ * association.
+ */
+class EntityIdentityModelTest {
+
+    private static List<Class<?>> entities;
+
+    @BeforeAll
+    static void scanEntities() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        entities = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BaseEntity.class.getPackageName())) {
+            entities.add(Class.forName(candidate.getBeanClassName()));
+        }
+        assertFalse(entities.isEmpty(), "No entities found");
+    }
+
+    @Test
+    void entitiesExtendBaseEntity() {
+        List<String> violations = new ArrayList<>();
+        for (Class<?> entity : entities) {
+            if (!BaseEntity.class.isAssignableFrom(entity)) {
+                violations.add(entity.getSimpleName());
+            }
+        }
+        assertTrue(violations.isEmpty(), "Entities not extending BaseEntity: " + violations);
+    }
+
+    @Test
+    void entitiesKeepBaseEntityEqualsAndHashCode() throws NoSuchMethodException {
+        List<String> violations = new ArrayList<>();
+        for (Class<?> entity : entities) {
+            if (entity.getMethod("equals", Object.class).getDeclaringClass() != BaseEntity.class) {
+                violations.add(entity.getSimpleName() + ".equals");
+            }
+            if (entity.getMethod("hashCode").getDeclaringClass() != BaseEntity.class) {
+                violations.add(entity.getSimpleName() + ".hashCode");
+            }
+        }
+        assertTrue(violations.isEmpty(), "Entities overriding BaseEntity identity: " + violations);
+    }
+
+    /**
+     * Fill every association of a blank instance and check that none of them shows up in its toString
+     */
+    @Test
+    void associationsAreLeftOutOfToString() throws ReflectiveOperationException {
+        List<String> violations = new ArrayList<>();
+        for (Class<?> entityClass : entities) {
+            Object entity = newInstance(entityClass);
+            List<String> associations = new ArrayList<>();
+            for (Class<?> type = entityClass; type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!isAssociation(field)) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    field.set(entity, Collection.class.isAssignableFrom(field.getType())
+                            ? new HashSet<>()
+                            : newInstance(field.getType()));
+                    associations.add(field.getName());
+                }
+            }
+            String text = entity.toString();
+            for (String association : associations) {
+                if (Pattern.compile("[(, ]" + association + "=").matcher(text).find()) {
+                    violations.add(entityClass.getSimpleName() + "." + association);
+                }
+            }
+        }
+        assertTrue(violations.isEmpty(), "Associations included in toString: " + violations);
+    }
+
+    private static boolean isAssociation(Field field) {
+        return field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class)
+                || field.isAnnotationPresent(OneToMany.class) || field.isAnnotationPresent(ManyToMany.class);
+    }
+
+    private static Object newInstance(Class<?> type) throws ReflectiveOperationException {
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+}
@@ -0,0 +1,121 @@
+package com.williamtravel.app.service;
+
+import com.williamtravel.app.entity.RoomHold;
+import com.williamtravel.app.entity.RoomInventory;
+import com.williamtravel.app.exception.ConflictException;
+import com.williamtravel.app.repository.RoomHoldRepository;
+import com.williamtravel.app.repository.RoomInventoryRepository;
+import com.williamtravel.app.security.AuthenticatedUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Parallel holds on one room must never take more units than its allotment, and committing, releasing
+ * and expiring holds must move exactly their units between held, booked and available. Configured like the
+ * controller tests so the application context, and its JCache manager, is shared rather than built twice.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RoomInventoryServiceTest {
+
+    private static final int ROOM_ID = 9001;
+    private static final int ALLOTMENT = 3;
+    private static final int PARALLEL_HOLDS = 10;
+    private static final int USER_ID = 1;
+
+    @Autowired
+    private RoomInventoryService roomInventoryService;
+
+    @Autowired
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Autowired
+    private RoomHoldRepository roomHoldRepository;
+
+    @Test
+    void parallelHoldsNeverOversellAndSettleTheirUnits() throws Exception {
+        LocalDate checkIn = LocalDate.now().plusDays(10);
+        LocalDate checkOut = checkIn.plusDays(2);
+        LocalDateTime now = LocalDateTime.now();
+        roomInventoryRepository.saveAll(List.of(
+                new RoomInventory(null, ROOM_ID, checkIn, ALLOTMENT, 0, 0, now),
+                new RoomInventory(null, ROOM_ID, checkIn.plusDays(1), ALLOTMENT, 0, 0, now)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_HOLDS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RoomHold>> attempts = new ArrayList<>();
+        try {
+            for (int i = 0; i < PARALLEL_HOLDS; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    return roomInventoryService.hold(USER_ID, ROOM_ID, checkIn, checkOut, 1);
+                }));
+            }
+            start.countDown();
+
+            List<RoomHold> holds = new ArrayList<>();
+            int conflicts = 0;
+            for (Future<RoomHold> attempt : attempts) {
+                try {
+                    holds.add(attempt.get(30, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    assertInstanceOf(ConflictException.class, e.getCause(), "A losing hold must fail with a conflict");
+                    conflicts++;
+                }
+            }
+            assertEquals(ALLOTMENT, holds.size(), "Exactly the allotment can be held");
+            assertEquals(PARALLEL_HOLDS - ALLOTMENT, conflicts);
+            assertNights(checkIn, checkOut, ALLOTMENT, 0);
+
+            AuthenticatedUser owner = new AuthenticatedUser(USER_ID, "owner@example.com", null, true,
+                    null, "USER", false, 0L);
+
+            roomInventoryService.commit(holds.get(0).getId(), owner);
+            assertNights(checkIn, checkOut, 2, 1);
+
+            roomInventoryService.release(holds.get(1).getId(), owner);
+            assertNights(checkIn, checkOut, 1, 1);
+
+            RoomHold expiring = roomHoldRepository.findById(holds.get(2).getId()).orElseThrow();
+            expiring.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+            roomHoldRepository.save(expiring);
+            assertTrue(roomInventoryService.expireHolds() >= 1);
+            assertNights(checkIn, checkOut, 0, 1);
+
+            assertEquals(RoomHold.COMMITTED, roomHoldRepository.findById(holds.get(0).getId()).orElseThrow().getStatus());
+            assertEquals(RoomHold.RELEASED, roomHoldRepository.findById(holds.get(1).getId()).orElseThrow().getStatus());
+            assertEquals(RoomHold.EXPIRED, roomHoldRepository.findById(holds.get(2).getId()).orElseThrow().getStatus());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertNights(LocalDate checkIn, LocalDate checkOut, int held, int booked) {
+        List<RoomInventory> nights = roomInventoryRepository.findByRoom(ROOM_ID, checkIn, checkOut);
+        assertEquals(2, nights.size());
+        for (RoomInventory night : nights) {
+            assertEquals(held, night.getHeld(), "held on " + night.getStayDate());
+            assertEquals(booked, night.getBooked(), "booked on " + night.getStayDate());
+            assertEquals(ALLOTMENT - held - booked, night.getAvailable(), "available on " + night.getStayDate());
+        }
+    }
+}
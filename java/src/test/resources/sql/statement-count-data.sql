@@ -0,0 +1,70 @@
+-- Several rows per endpoint, spread over different categories, regions and authors, so that an association
+-- loaded once per row shows up as extra statements
+
+-- media.reference_id points at locations, accommodations or foods depending on reference_type, but the generated
+-- schema maps it as a foreign key to a single table
+SET REFERENTIAL_INTEGRITY FALSE;
+
+INSERT INTO continents (id, name, code, status, created_date) VALUES (1, 'Asia', 'AS', 1, CURRENT_DATE);
+INSERT INTO countries (id, code, name, status, created_date, continent_id) VALUES (1, 'VN', 'Viet Nam', 1, CURRENT_DATE, 1);
+INSERT INTO regions (id, name, code, status, created_date, country_id) VALUES
+    (1, 'Ha Noi', 'HN', 1, CURRENT_DATE, 1),
+    (2, 'Da Nang', 'DN', 1, CURRENT_DATE, 1),
+    (3, 'Ho Chi Minh', 'HCM', 1, CURRENT_DATE, 1);
+
+INSERT INTO roles (id, name, is_default, created_at) VALUES (1, 'USER', TRUE, CURRENT_TIMESTAMP);
+INSERT INTO users (id, email, full_name, hashed_password, is_active, is_superuser, role_id, created_at) VALUES
+    (1, 'author1@example.com', 'Author One', 'x', TRUE, FALSE, 1, CURRENT_TIMESTAMP),
+    (2, 'author2@example.com', 'Author Two', 'x', TRUE, FALSE, 1, CURRENT_TIMESTAMP),
+    (3, 'author3@example.com', 'Author Three', 'x', TRUE, FALSE, 1, CURRENT_TIMESTAMP);
+
+INSERT INTO location_categories (id, name, status, created_at) VALUES
+    (1, 'Museum', TRUE, CURRENT_TIMESTAMP), (2, 'Beach', TRUE, CURRENT_TIMESTAMP), (3, 'Temple', TRUE, CURRENT_TIMESTAMP);
+INSERT INTO locations (id, name, latitude, longitude, category_id, country_id, region_id, is_active, created_at) VALUES
+    (1, 'Location 1', 21.03, 105.83, 1, 1, 1, TRUE, CURRENT_TIMESTAMP),
+    (2, 'Location 2', 16.05, 108.22, 2, 1, 2, TRUE, CURRENT_TIMESTAMP),
+    (3, 'Location 3', 10.78, 106.70, 3, 1, 3, TRUE, CURRENT_TIMESTAMP),
+    (4, 'Location 4', 21.02, 105.85, 2, 1, 1, TRUE, CURRENT_TIMESTAMP),
+    (5, 'Location 5', 16.06, 108.20, 3, 1, 2, TRUE, CURRENT_TIMESTAMP);
+
+INSERT INTO accommodations_categories (id, name, status, created_at) VALUES
+    (1, 'Hotel', TRUE, CURRENT_TIMESTAMP), (2, 'Homestay', TRUE, CURRENT_TIMESTAMP), (3, 'Resort', TRUE, CURRENT_TIMESTAMP);
+INSERT INTO accommodations (id, name, latitude, longitude, category_id, country_id, region_id, user_id, is_active, created_at) VALUES
+    (1, 'Accommodation 1', 21.03, 105.84, 1, 1, 1, 1, TRUE, CURRENT_TIMESTAMP),
+    (2, 'Accommodation 2', 16.05, 108.23, 2, 1, 2, 2, TRUE, CURRENT_TIMESTAMP),
+    (3, 'Accommodation 3', 10.78, 106.71, 3, 1, 3, 3, TRUE, CURRENT_TIMESTAMP),
+    (4, 'Accommodation 4', 21.02, 105.86, 2, 1, 1, 2, TRUE, CURRENT_TIMESTAMP),
+    (5, 'Accommodation 5', 16.06, 108.21, 3, 1, 2, 3, TRUE, CURRENT_TIMESTAMP);
+
+INSERT INTO food_categories (id, name, status, created_at) VALUES
+    (1, 'Noodles', TRUE, CURRENT_TIMESTAMP), (2, 'Street food', TRUE, CURRENT_TIMESTAMP), (3, 'Dessert', TRUE, CURRENT_TIMESTAMP);
+INSERT INTO food (id, name, category_id, country_id, region_id, status, created_at) VALUES
+    (1, 'Food 1', 1, 1, 1, TRUE, CURRENT_TIMESTAMP),
+    (2, 'Food 2', 2, 1, 2, TRUE, CURRENT_TIMESTAMP),
+    (3, 'Food 3', 3, 1, 3, TRUE, CURRENT_TIMESTAMP),
+    (4, 'Food 4', 2, 1, 1, TRUE, CURRENT_TIMESTAMP),
+    (5, 'Food 5', 3, 1, 2, TRUE, CURRENT_TIMESTAMP);
+
+INSERT INTO article_categories (id, name, status, created_at) VALUES
+    (1, 'Guides', TRUE, CURRENT_TIMESTAMP), (2, 'News', TRUE, CURRENT_TIMESTAMP), (3, 'Reviews', TRUE, CURRENT_TIMESTAMP);
+INSERT INTO article_tags (id, name, status, created_at) VALUES
+    (1, 'family', TRUE, CURRENT_TIMESTAMP), (2, 'budget', TRUE, CURRENT_TIMESTAMP), (3, 'luxury', TRUE, CURRENT_TIMESTAMP);
+INSERT INTO article (id, title, content, author_id, country_id, region_id, status, created_at) VALUES
+    (1, 'Article 1', 'Content', 1, 1, 1, TRUE, CURRENT_TIMESTAMP),
+    (2, 'Article 2', 'Content', 2, 1, 2, TRUE, CURRENT_TIMESTAMP),
+    (3, 'Article 3', 'Content', 3, 1, 3, TRUE, CURRENT_TIMESTAMP),
+    (4, 'Article 4', 'Content', 2, 1, 1, TRUE, CURRENT_TIMESTAMP),
+    (5, 'Article 5', 'Content', 3, 1, 2, TRUE, CURRENT_TIMESTAMP);
+INSERT INTO article_article_categories (id, article_id, article_categories_id) VALUES
+    (1, 1, 1), (2, 2, 2), (3, 3, 3), (4, 4, 1), (5, 4, 2), (6, 5, 3);
+INSERT INTO article_article_tags (id, article_id, article_tags_id) VALUES
+    (1, 1, 1), (2, 2, 2), (3, 3, 3), (4, 4, 1), (5, 5, 2), (6, 5, 3);
+
+INSERT INTO media_type (id, name, status, created_date) VALUES (1, 'image', 1, CURRENT_DATE), (2, 'video', 1, CURRENT_DATE);
+INSERT INTO media_category (id, name, status, created_date) VALUES (1, 'Gallery', 1, CURRENT_DATE), (2, 'Cover', 1, CURRENT_DATE);
+INSERT INTO media (id, url, reference_type, reference_id, type_id, category_id, is_main, status, created_date) VALUES
+    (1, '/media/1.jpg', 'location', 1, 1, 1, TRUE, 1, CURRENT_DATE),
+    (2, '/media/2.jpg', 'location', 2, 2, 2, TRUE, 1, CURRENT_DATE),
+    (3, '/media/3.jpg', 'accommodation', 1, 1, 2, TRUE, 1, CURRENT_DATE),
+    (4, '/media/4.jpg', 'accommodation', 2, 2, 1, TRUE, 1, CURRENT_DATE),
+    (5, '/media/5.jpg', 'food', 1, 1, 1, TRUE, 1, CURRENT_DATE);